@@ -0,0 +1,73 @@
+package com.opentranslation.management.benchmark;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Stand-ins for Spring Data repositories and the transaction manager, so benchmarks measure service and serialization code without a database.
+ */
+final class InMemoryRepositories
+{
+
+  private InMemoryRepositories()
+  {
+  }
+
+  /**
+   * Implement a repository interface with the given answers, keyed by method name. Any other repository method fails, so a benchmark cannot silently measure
+   * an unstubbed call.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T stub(Class<T> repositoryType, Map<String, Function<Object[], Object>> answers)
+  {
+    return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, (proxy, method, args) -> {
+      switch (method.getName())
+      {
+        case "toString":
+          return "InMemory" + repositoryType.getSimpleName();
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          Function<Object[], Object> answer = answers.get(method.getName());
+          if (answer == null)
+          {
+            throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName() + " is not stubbed");
+          }
+          return answer.apply(args);
+      }
+    });
+  }
+
+  /**
+   * Transaction manager whose transactions do nothing.
+   */
+  static PlatformTransactionManager noopTransactionManager()
+  {
+    return new PlatformTransactionManager()
+    {
+      @Override
+      public TransactionStatus getTransaction(TransactionDefinition definition)
+      {
+        return new SimpleTransactionStatus();
+      }
+
+      @Override
+      public void commit(TransactionStatus status)
+      {
+      }
+
+      @Override
+      public void rollback(TransactionStatus status)
+      {
+      }
+    };
+  }
+}
@@ -0,0 +1,60 @@
+package com.opentranslation.management.benchmark;
+
+import com.opentranslation.management.security.JwtTokenCache;
+import com.opentranslation.management.security.JwtUtil;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token validation by {@link JwtUtil}, and authentication as performed by the JWT filter through the {@link JwtTokenCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark
+{
+
+  private JwtUtil jwtUtil;
+  private JwtTokenCache tokenCache;
+  private String validToken;
+  private String tamperedToken;
+
+  @Setup
+  public void setUp()
+  {
+    jwtUtil = new JwtUtil();
+    tokenCache = new JwtTokenCache(jwtUtil, true, 10_000);
+    validToken = jwtUtil.generateToken("benchmark-client");
+    tamperedToken = validToken.substring(0, validToken.length() - 2) + (validToken.endsWith("A") ? "BB" : "AA");
+  }
+
+  @Benchmark
+  public boolean validateToken()
+  {
+    return jwtUtil.validateToken(validToken);
+  }
+
+  @Benchmark
+  public boolean validateTamperedToken()
+  {
+    return jwtUtil.validateToken(tamperedToken);
+  }
+
+  @Benchmark
+  public String extractClientCode()
+  {
+    return jwtUtil.extractClientCode(validToken);
+  }
+
+  @Benchmark
+  public Optional<String> authenticateCached()
+  {
+    return tokenCache.authenticate(validToken);
+  }
+}
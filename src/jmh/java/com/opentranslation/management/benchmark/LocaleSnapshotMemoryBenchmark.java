@@ -0,0 +1,125 @@
+package com.opentranslation.management.benchmark;
+
+import com.opentranslation.management.cache.CachedTranslation;
+import com.opentranslation.management.cache.LocaleSnapshot;
+import com.opentranslation.management.cache.TranslationKeyDictionary;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap retained by the cached snapshots of a catalog, every key translated in every locale, with rows created per locale as a database load creates them.
+ * <p>
+ * {@code map} holds each locale as a {@code TreeMap} of key to {@link CachedTranslation}, the former snapshot layout; {@code dictionary} holds
+ * {@link LocaleSnapshot}s sharing one {@link TranslationKeyDictionary}. The {@code retainedBytes} and {@code bytesPerEntry} counters report the heap in use
+ * after a full collection, less the heap in use before the build, of the single measured iteration.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx12g")
+public class LocaleSnapshotMemoryBenchmark
+{
+
+  private static final List<Set<String>> TAG_SETS = List.of(Set.of(), Set.of("ui"), Set.of("ui", "nav"), Set.of("email"));
+
+  @Param({"1000000"})
+  private int keys;
+
+  @Param({"10"})
+  private int locales;
+
+  @Param({"map", "dictionary"})
+  private String layout;
+
+  private Object snapshots;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint
+  {
+    public long retainedBytes;
+    public long bytesPerEntry;
+  }
+
+  @TearDown(Level.Iteration)
+  public void release()
+  {
+    snapshots = null;
+  }
+
+  @Benchmark
+  public Object build(Footprint footprint)
+  {
+    long before = usedHeap();
+    snapshots = layout.equals("map") ? buildMaps() : buildSnapshots();
+    footprint.retainedBytes = usedHeap() - before;
+    footprint.bytesPerEntry = footprint.retainedBytes / ((long) keys * locales);
+    return snapshots;
+  }
+
+  private List<TreeMap<String, CachedTranslation>> buildMaps()
+  {
+    List<TreeMap<String, CachedTranslation>> maps = new ArrayList<>(locales);
+    for (int locale = 0; locale < locales; locale++)
+    {
+      TreeMap<String, CachedTranslation> entries = new TreeMap<>();
+      for (CachedTranslation translation : rows(locale))
+      {
+        entries.put(translation.getTranslationKey(), translation);
+      }
+      maps.add(entries);
+    }
+    return maps;
+  }
+
+  private List<LocaleSnapshot> buildSnapshots()
+  {
+    TranslationKeyDictionary dictionary = new TranslationKeyDictionary();
+    List<LocaleSnapshot> built = new ArrayList<>(locales);
+    for (int locale = 0; locale < locales; locale++)
+    {
+      built.add(LocaleSnapshot.of("l" + locale, dictionary, rows(locale)));
+    }
+    return built;
+  }
+
+  /**
+   * Rows of one locale with fresh key strings, tag sets and timestamps, as each row read from the database has.
+   */
+  private List<CachedTranslation> rows(int locale)
+  {
+    OffsetDateTime base = OffsetDateTime.parse("2024-01-01T00:00:00Z");
+    List<CachedTranslation> rows = new ArrayList<>(keys);
+    for (int i = 0; i < keys; i++)
+    {
+      OffsetDateTime createdOn = base.plusSeconds(i);
+      rows.add(new CachedTranslation((long) locale * keys + i,
+                                     "app.section" + i % 1000 + ".key" + i,
+                                     "Content " + i + " in locale " + locale,
+                                     Set.copyOf(new ArrayList<>(TAG_SETS.get(i % TAG_SETS.size()))),
+                                     createdOn,
+                                     createdOn.plusMinutes(5)));
+    }
+    return rows;
+  }
+
+  private static long usedHeap()
+  {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++)
+    {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage()
+                 .getUsed();
+  }
+}
@@ -0,0 +1,64 @@
+package com.opentranslation.management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opentranslation.management.dto.CursorPage;
+import com.opentranslation.management.dto.TranslationResponse;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of search results as returned by {@code /api/translations/search}, with the object mapper configured like the application's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationPageSerializationBenchmark
+{
+
+  @Param({"50", "500"})
+  private int pageSize;
+
+  private ObjectMapper objectMapper;
+  private Page<TranslationResponse> page;
+  private CursorPage<TranslationResponse> cursorPage;
+
+  @Setup
+  public void setUp()
+  {
+    objectMapper = Jackson2ObjectMapperBuilder.json()
+                                              .build();
+    OffsetDateTime now = OffsetDateTime.now();
+    List<TranslationResponse> content = new ArrayList<>(pageSize);
+    for (int i = 1; i <= pageSize; i++)
+    {
+      content.add(new TranslationResponse((long) i, "key_" + i, "en", "Sample content " + i, Set.of("ui", "general"), now, now));
+    }
+    page = new PageImpl<>(content, PageRequest.of(0, pageSize), 100_000);
+    cursorPage = new CursorPage<>(content, pageSize, "MTIzNDU");
+  }
+
+  @Benchmark
+  public byte[] serializeOffsetPage() throws Exception
+  {
+    return objectMapper.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public byte[] serializeCursorPage() throws Exception
+  {
+    return objectMapper.writeValueAsBytes(cursorPage);
+  }
+}
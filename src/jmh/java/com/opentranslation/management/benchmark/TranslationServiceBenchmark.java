@@ -0,0 +1,269 @@
+package com.opentranslation.management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opentranslation.management.cache.LocaleExportArtifactCache;
+import com.opentranslation.management.cache.LocaleSnapshotFileStore;
+import com.opentranslation.management.cache.ReferenceDictionary;
+import com.opentranslation.management.cache.ResolvedBundleCache;
+import com.opentranslation.management.cache.TranslationSnapshotCache;
+import com.opentranslation.management.dto.TranslationRequest;
+import com.opentranslation.management.dto.TranslationResponse;
+import com.opentranslation.management.metrics.TranslationMetrics;
+import com.opentranslation.management.model.CatalogVersion;
+import com.opentranslation.management.model.Locale;
+import com.opentranslation.management.model.Tag;
+import com.opentranslation.management.model.Translation;
+import com.opentranslation.management.repository.CatalogVersionRepository;
+import com.opentranslation.management.repository.LocaleRepository;
+import com.opentranslation.management.repository.TagRepository;
+import com.opentranslation.management.repository.TranslationRepository;
+import com.opentranslation.management.repository.TranslationSearchRepository;
+import com.opentranslation.management.repository.TranslationTombstoneRepository;
+import com.opentranslation.management.service.CatalogVersionService;
+import com.opentranslation.management.service.DatabaseStreamLimiter;
+import com.opentranslation.management.service.TranslationService;
+import com.opentranslation.management.service.TranslationTagLoader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@link TranslationService} over an in-memory catalog.
+ * <p>
+ * {@code getTranslation} measures entity-to-DTO mapping, {@code createTranslation} adds tag resolution, and the export benchmarks measure the streamed
+ * {@code writeExport} document, both end to end and up to the first byte written. Run with {@code -prof gc} to check that allocation per export does not grow
+ * with the catalog.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationServiceBenchmark
+{
+
+  private static final String[] LOCALES = {"en", "fr", "es"};
+  private static final String[] TAGS = {"general", "ui", "error"};
+
+  @Param({"10000", "100000"})
+  private int catalogSize;
+
+  private TranslationService translationService;
+  private ObjectMapper objectMapper;
+  private List<TranslationResponse> catalog;
+  private Translation stored;
+  private TranslationRequest request;
+
+  @Setup
+  public void setUp()
+  {
+    objectMapper = Jackson2ObjectMapperBuilder.json()
+                                              .build();
+
+    Map<String, Locale> locales = new HashMap<>();
+    for (String code : LOCALES)
+    {
+      locales.put(code,
+                  Locale.builder()
+                        .id((long) locales.size() + 1)
+                        .code(code)
+                        .build());
+    }
+    Map<String, Tag> tags = new HashMap<>();
+    for (String name : TAGS)
+    {
+      tags.put(name,
+               Tag.builder()
+                  .id((long) tags.size() + 1)
+                  .name(name)
+                  .build());
+    }
+
+    OffsetDateTime now = OffsetDateTime.now();
+    catalog = new ArrayList<>(catalogSize);
+    for (int i = 1; i <= catalogSize; i++)
+    {
+      catalog.add(new TranslationResponse((long) i, "key_" + i, LOCALES[i % LOCALES.length], "Sample content " + i, null, now, now));
+    }
+    catalog.sort(Comparator.comparing(TranslationResponse::getLocaleCode)
+                           .thenComparing(TranslationResponse::getTranslationKey));
+
+    stored = Translation.builder()
+                        .id(1L)
+                        .translationKey("key_1")
+                        .locale(locales.get("en"))
+                        .content("Sample content 1")
+                        .tags(new HashSet<>(tags.values()))
+                        .createdOn(now)
+                        .updatedOn(now)
+                        .catalogVersion(1L)
+                        .build();
+    request = new TranslationRequest("key_new", "en", "New content", Set.of(TAGS));
+
+    TranslationRepository translationRepository = InMemoryRepositories.stub(TranslationRepository.class,
+                                                                            Map.of("findById", args -> Optional.of(stored),
+                                                                                   "save", args -> args[0],
+                                                                                   "streamAllTranslations", args -> catalog.stream(),
+                                                                                   "findTagNamesByTranslationIds", args -> List.of()));
+    LocaleRepository localeRepository = InMemoryRepositories.stub(LocaleRepository.class,
+                                                                  Map.of("findByCode", args -> Optional.ofNullable(locales.get((String) args[0])),
+                                                                         "findAll", args -> new ArrayList<>(locales.values())));
+    TagRepository tagRepository = InMemoryRepositories.stub(TagRepository.class,
+                                                            Map.of("findAll", args -> new ArrayList<>(tags.values()),
+                                                                   "insertIfAbsent", args -> 0,
+                                                                   "findByNameIn", args -> ((Collection<?>) args[0]).stream()
+                                                                                                                    .map(tags::get)
+                                                                                                                    .toList()));
+    Map<Object, Object> references = new HashMap<>();
+    locales.values()
+           .forEach(locale -> references.put(List.of(Locale.class, locale.getId()), locale));
+    tags.values()
+        .forEach(tag -> references.put(List.of(Tag.class, tag.getId()), tag));
+    EntityManager entityManager = InMemoryRepositories.stub(EntityManager.class,
+                                                            Map.of("getReference", args -> references.get(List.of(args[0], args[1]))));
+    ReferenceDictionary referenceDictionary = new ReferenceDictionary(localeRepository, tagRepository, entityManager);
+    referenceDictionary.warmUp();
+    CatalogVersion counter = new CatalogVersion(CatalogVersion.SINGLETON_ID, 0L, 0L, null);
+    CatalogVersionRepository catalogVersionRepository = InMemoryRepositories.stub(CatalogVersionRepository.class,
+                                                                                  Map.of("lockCurrent", args -> Optional.of(counter),
+                                                                                         "findCurrentVersion", args -> Optional.of(counter.getCurrentVersion()),
+                                                                                         "save", args -> args[0]));
+
+    PlatformTransactionManager transactionManager = InMemoryRepositories.noopTransactionManager();
+    TranslationTagLoader tagLoader = new TranslationTagLoader(translationRepository);
+    // Cache disabled: exports are produced by the service code under test rather than served from snapshots
+    TranslationSnapshotCache snapshotCache = new TranslationSnapshotCache(translationRepository,
+                                                                          localeRepository,
+                                                                          catalogVersionRepository,
+                                                                          tagLoader,
+                                                                          referenceDictionary,
+                                                                          transactionManager,
+                                                                          false,
+                                                                          50,
+                                                                          false);
+
+    // Search and tombstone repositories are not reached by the measured paths
+    translationService = new TranslationService(translationRepository,
+                                                new TranslationSearchRepository(null),
+                                                referenceDictionary,
+                                                objectMapper,
+                                                tagLoader,
+                                                snapshotCache,
+                                                event -> {
+                                                },
+                                                new TransactionTemplate(transactionManager),
+                                                new CatalogVersionService(catalogVersionRepository),
+                                                InMemoryRepositories.stub(TranslationTombstoneRepository.class, Map.of()),
+                                                new LocaleExportArtifactCache(snapshotCache, new ResolvedBundleCache(snapshotCache, referenceDictionary, 50), objectMapper, 50),
+                                                new LocaleSnapshotFileStore(translationRepository,
+                                                                            InMemoryRepositories.stub(TranslationTombstoneRepository.class, Map.of()),
+                                                                            tagLoader,
+                                                                            referenceDictionary,
+                                                                            objectMapper,
+                                                                            transactionManager,
+                                                                            false,
+                                                                            "snapshots"),
+                                                new TranslationMetrics(new SimpleMeterRegistry()),
+                                                new DatabaseStreamLimiter(Integer.MAX_VALUE, 0));
+  }
+
+  @Benchmark
+  public TranslationResponse getTranslation()
+  {
+    return translationService.getTranslation(1L);
+  }
+
+  @Benchmark
+  public TranslationResponse createTranslation()
+  {
+    return translationService.createTranslation(request);
+  }
+
+  @Benchmark
+  public void exportStreamed(Blackhole blackhole) throws IOException
+  {
+    translationService.writeExport(new BlackholeOutputStream(blackhole));
+  }
+
+  @Benchmark
+  public void exportStreamedFirstByte() throws IOException
+  {
+    try
+    {
+      translationService.writeExport(new FirstByteOutputStream());
+    }
+    catch (FirstByteOutputStream.FirstByteWritten expected)
+    {
+      // the client would start receiving the response here
+    }
+  }
+
+  /**
+   * Sink that consumes written bytes without retaining them.
+   */
+  private static final class BlackholeOutputStream extends OutputStream
+  {
+    private final Blackhole blackhole;
+
+    private BlackholeOutputStream(Blackhole blackhole)
+    {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void write(int b)
+    {
+      blackhole.consume(b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length)
+    {
+      blackhole.consume(bytes);
+      blackhole.consume(length);
+    }
+  }
+
+  /**
+   * Stream that aborts the export as soon as the first bytes leave the serializer's buffer.
+   */
+  private static final class FirstByteOutputStream extends OutputStream
+  {
+    @Override
+    public void write(int b) throws IOException
+    {
+      throw new FirstByteWritten();
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException
+    {
+      throw new FirstByteWritten();
+    }
+
+    /**
+     * Thrown as an I/O error so serializers pass it through unwrapped; carries no stack trace to keep the abort cheap.
+     */
+    private static final class FirstByteWritten extends IOException
+    {
+      @Override
+      public synchronized Throwable fillInStackTrace()
+      {
+        return this;
+      }
+    }
+  }
+}
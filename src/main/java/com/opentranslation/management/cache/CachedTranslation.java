@@ -0,0 +1,42 @@
+package com.opentranslation.management.cache;
+
+import com.opentranslation.management.dto.TranslationResponse;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable copy of a translation held by a {@link LocaleSnapshot}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CachedTranslation
+{
+  private final Long id;
+  private final String translationKey;
+  private final String content;
+  private final Set<String> tags;
+  private final OffsetDateTime createdOn;
+  private final OffsetDateTime updatedOn;
+
+  public static CachedTranslation from(TranslationResponse dto)
+  {
+    return new CachedTranslation(dto.getId(),
+                                 dto.getTranslationKey(),
+                                 dto.getContent(),
+                                 dto.getTags() == null ? Set.of() : Set.copyOf(dto.getTags()),
+                                 dto.getCreatedOn(),
+                                 dto.getUpdatedOn());
+  }
+
+  /**
+   * Build a fresh, caller-owned response DTO for this translation.
+   */
+  public TranslationResponse toResponse(String localeCode)
+  {
+    return new TranslationResponse(id, translationKey, localeCode, content, new HashSet<>(tags), createdOn, updatedOn);
+  }
+}
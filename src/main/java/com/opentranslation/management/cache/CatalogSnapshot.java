@@ -0,0 +1,21 @@
+package com.opentranslation.management.cache;
+
+import lombok.*;
+
+import java.util.SortedMap;
+
+/**
+ * Snapshots of every locale of the catalog captured together with the catalog version they all reflect.
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogSnapshot
+{
+  private final long version;
+
+  /**
+   * Locale snapshots by locale code in ascending order, or {@code null} when the catalog could not be captured as of {@link #version} and is read as it is
+   * being written.
+   */
+  private final SortedMap<String, LocaleSnapshot> locales;
+}
@@ -0,0 +1,112 @@
+package com.opentranslation.management.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of translation keys.
+ * <p>
+ * {@link #mightContain} never answers {@code false} for a key that was {@link #put}, and answers {@code true} for an absent key with roughly the false positive
+ * rate the filter was sized for, as long as no more than {@link #getCapacity()} keys are added. Keys cannot be removed.
+ * </p>
+ */
+public class KeyBloomFilter
+{
+
+  private final AtomicLongArray words;
+  private final int bitCount;
+  private final int hashCount;
+  private final long capacity;
+  private final AtomicLong size = new AtomicLong();
+
+  public KeyBloomFilter(long capacity, double falsePositiveRate)
+  {
+    double ln2 = Math.log(2);
+    long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+    this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * ln2));
+    this.words = new AtomicLongArray((bitCount + 63) / 64);
+    this.capacity = capacity;
+  }
+
+  public void put(String key)
+  {
+    long hash = hash(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 0; i < hashCount; i++)
+    {
+      int bit = index(h1 + i * h2);
+      long mask = 1L << bit;
+      int word = bit >>> 6;
+      long current;
+      do
+      {
+        current = words.get(word);
+      }
+      while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+    }
+    size.incrementAndGet();
+  }
+
+  public boolean mightContain(String key)
+  {
+    long hash = hash(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 0; i < hashCount; i++)
+    {
+      int bit = index(h1 + i * h2);
+      if ((words.get(bit >>> 6) & (1L << bit)) == 0)
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Number of keys added, counting repeated keys each time.
+   */
+  public long getSize()
+  {
+    return size.get();
+  }
+
+  public long getCapacity()
+  {
+    return capacity;
+  }
+
+  /**
+   * Whether more keys were added than the filter was sized for, so its false positive rate has degraded.
+   */
+  public boolean isSaturated()
+  {
+    return size.get() > capacity;
+  }
+
+  private int index(int combined)
+  {
+    return (combined & Integer.MAX_VALUE) % bitCount;
+  }
+
+  /**
+   * 64-bit FNV-1a over the UTF-16 code units, finished with the MurmurHash3 mixer so both halves are well distributed.
+   */
+  private static long hash(String key)
+  {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < key.length(); i++)
+    {
+      hash ^= key.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,63 @@
+package com.opentranslation.management.cache;
+
+import lombok.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Serialized export of one locale, kept as gzip-compressed JSON so it can be written to a response as is.
+ * <p>
+ * The plain document is not kept: it is written again from the immutable snapshots the artifact was built from, which the cache holds anyway, so an artifact
+ * costs its compressed size rather than that plus the uncompressed one.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class LocaleExportArtifact
+{
+  private final String localeCode;
+
+  /**
+   * Locales merged into the document, nearest first; just the locale itself unless the export is resolved along its fallback chain.
+   */
+  private final List<String> chain;
+
+  /**
+   * Content version of the locale the bytes were built from, or -1 if unknown; see {@link VersionedSnapshot#getVersion()} and
+   * {@link ResolvedBundle#getVersion()}.
+   */
+  private final long version;
+
+  /**
+   * Number of translations in the document.
+   */
+  private final int size;
+
+  /**
+   * Length of the plain document in bytes.
+   */
+  private final long jsonLength;
+
+  private final byte[] gzip;
+
+  @Getter(AccessLevel.NONE)
+  private final JsonSource json;
+
+  /**
+   * Write the plain document, byte for byte the one that was compressed.
+   */
+  public void writeJson(OutputStream out) throws IOException
+  {
+    json.writeTo(out);
+  }
+
+  /**
+   * Writes the plain document from the snapshots the artifact was built from.
+   */
+  public interface JsonSource
+  {
+    void writeTo(OutputStream out) throws IOException;
+  }
+}
@@ -0,0 +1,274 @@
+package com.opentranslation.management.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opentranslation.management.metrics.CountingOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Precomputed per-locale export documents.
+ * <p>
+ * Each artifact is built once from the locale snapshot, serialized and gzip-compressed at the highest level, and reused until the content version of its
+ * locale moves, so serving an unchanged locale is a plain byte copy. A locale is built by one request at a time; requests arriving meanwhile wait for that
+ * build rather than compressing the same document again. Artifacts of locales read least recently are dropped beyond {@code app.cache.max-locales}.
+ * </p>
+ * <p>
+ * Exports resolved along a locale's fallback chain are kept separately, built from the {@link ResolvedBundleCache} and reused until a locale of the chain
+ * changes or the chain itself does.
+ * </p>
+ */
+@Component
+public class LocaleExportArtifactCache
+{
+
+  private final TranslationSnapshotCache snapshotCache;
+  private final ResolvedBundleCache resolvedBundleCache;
+  private final ObjectMapper objectMapper;
+  private final Map<String, LocaleExportArtifact> artifacts;
+  private final Map<String, LocaleExportArtifact> resolvedArtifacts;
+
+  /**
+   * Builds in progress per locale, shared by the requests that need them.
+   */
+  private final Map<String, CompletableFuture<LocaleExportArtifact>> builds = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<LocaleExportArtifact>> resolvedBuilds = new ConcurrentHashMap<>();
+
+  public LocaleExportArtifactCache(TranslationSnapshotCache snapshotCache,
+                                   ResolvedBundleCache resolvedBundleCache,
+                                   ObjectMapper objectMapper,
+                                   @Value("${app.cache.max-locales:50}") int maxLocales)
+  {
+    this.snapshotCache = snapshotCache;
+    this.resolvedBundleCache = resolvedBundleCache;
+    this.objectMapper = objectMapper;
+    this.artifacts = lruMap(maxLocales);
+    this.resolvedArtifacts = lruMap(maxLocales);
+  }
+
+  /**
+   * Return the export artifact of a locale, rebuilding it if the locale changed since it was built.
+   */
+  public LocaleExportArtifact get(String localeCode) throws IOException
+  {
+    VersionedSnapshot current = snapshotCache.getVersionedSnapshot(localeCode);
+    LocaleExportArtifact artifact = artifacts.get(localeCode);
+    if (artifact != null && current.getVersion() >= 0 && artifact.getVersion() == current.getVersion())
+    {
+      return artifact;
+    }
+
+    LocaleSnapshot snapshot = current.getSnapshot();
+    if (current.getVersion() < 0)
+    {
+      // Not known to be the current state of the locale, so neither shared nor kept
+      return build(localeCode, List.of(localeCode), current.getVersion(), generator -> snapshot.write(generator, null));
+    }
+    return buildOnce(builds, localeCode, built -> built.getVersion() >= current.getVersion(), () -> {
+      LocaleExportArtifact built = build(localeCode, List.of(localeCode), current.getVersion(), generator -> snapshot.write(generator, null));
+      artifacts.merge(localeCode, built, (existing, replacement) -> replacement.getVersion() >= existing.getVersion() ? replacement : existing);
+      return built;
+    });
+  }
+
+  /**
+   * Return the export artifact of a locale merged with its fallback chain, rebuilding it if the chain or any locale of it changed since it was built.
+   */
+  public LocaleExportArtifact getResolved(String localeCode) throws IOException
+  {
+    ResolvedBundle bundle = resolvedBundleCache.get(localeCode);
+    LocaleExportArtifact artifact = resolvedArtifacts.get(localeCode);
+    boolean current = artifact != null && artifact.getChain()
+                                                  .equals(bundle.getChain());
+    if (current && bundle.getVersion() >= 0 && artifact.getVersion() == bundle.getVersion())
+    {
+      return artifact;
+    }
+
+    if (bundle.getVersion() < 0)
+    {
+      return build(localeCode, bundle.getChain(), bundle.getVersion(), generator -> writeFields(translations(bundle), null, generator));
+    }
+    return buildOnce(resolvedBuilds,
+                     localeCode,
+                     built -> built.getChain()
+                                   .equals(bundle.getChain()) && built.getVersion() >= bundle.getVersion(),
+                     () -> {
+                       LocaleExportArtifact built = build(localeCode,
+                                                          bundle.getChain(),
+                                                          bundle.getVersion(),
+                                                          generator -> writeFields(translations(bundle), null, generator));
+                       resolvedArtifacts.put(localeCode, built);
+                       return built;
+                     });
+  }
+
+  /**
+   * Run {@code build} unless a build of the locale is in progress, in which case wait for it and use its artifact if {@code usable}, or build again after it.
+   */
+  private static LocaleExportArtifact buildOnce(Map<String, CompletableFuture<LocaleExportArtifact>> builds,
+                                                String localeCode,
+                                                Predicate<LocaleExportArtifact> usable,
+                                                ArtifactBuilder build) throws IOException
+  {
+    while (true)
+    {
+      CompletableFuture<LocaleExportArtifact> started = new CompletableFuture<>();
+      CompletableFuture<LocaleExportArtifact> running = builds.putIfAbsent(localeCode, started);
+      if (running == null)
+      {
+        try
+        {
+          LocaleExportArtifact built = build.build();
+          started.complete(built);
+          return built;
+        }
+        catch (IOException | RuntimeException e)
+        {
+          started.completeExceptionally(e);
+          throw e;
+        }
+        finally
+        {
+          builds.remove(localeCode, started);
+        }
+      }
+
+      LocaleExportArtifact built;
+      try
+      {
+        built = running.join();
+      }
+      catch (CompletionException e)
+      {
+        if (e.getCause() instanceof IOException cause)
+        {
+          throw cause;
+        }
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+      if (usable.test(built))
+      {
+        return built;
+      }
+    }
+  }
+
+  /**
+   * Write the entries of a snapshot as a flat JSON object of translation key to content and return the number of entries written.
+   */
+  public long write(LocaleSnapshot snapshot, String tag, OutputStream out) throws IOException
+  {
+    return write(generator -> snapshot.write(generator, tag), out);
+  }
+
+  /**
+   * Write the translations of a locale merged with its fallback chain as a flat JSON object of translation key to content and return the number of entries
+   * written.
+   */
+  public long writeResolved(String localeCode, String tag, OutputStream out) throws IOException
+  {
+    ResolvedBundle bundle = resolvedBundleCache.get(localeCode);
+    return write(generator -> writeFields(translations(bundle), tag, generator), out);
+  }
+
+  private long write(FieldWriter fields, OutputStream out) throws IOException
+  {
+    try (JsonGenerator generator = objectMapper.getFactory()
+                                               .createGenerator(out)
+                                               .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET))
+    {
+      generator.writeStartObject();
+      long rows = fields.write(generator);
+      generator.writeEndObject();
+      return rows;
+    }
+  }
+
+  private static long writeFields(Iterable<CachedTranslation> translations, String tag, JsonGenerator generator) throws IOException
+  {
+    long rows = 0;
+    for (CachedTranslation translation : translations)
+    {
+      if (tag == null || translation.getTags()
+                                    .contains(tag))
+      {
+        generator.writeStringField(translation.getTranslationKey(), translation.getContent());
+        rows++;
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * Serialize the entries straight into the compressor, counting the plain bytes on the way, so the plain document is never held in memory.
+   */
+  private LocaleExportArtifact build(String localeCode, List<String> chain, long version, FieldWriter fields) throws IOException
+  {
+    ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+    int size;
+    long jsonLength;
+    try (GZIPOutputStream compressor = new GZIPOutputStream(gzip)
+    {
+      {
+        def.setLevel(Deflater.BEST_COMPRESSION);
+      }
+    })
+    {
+      CountingOutputStream json = new CountingOutputStream(compressor);
+      size = (int) write(fields, json);
+      jsonLength = json.getCount();
+    }
+
+    return new LocaleExportArtifact(localeCode, chain, version, size, jsonLength, gzip.toByteArray(), out -> write(fields, out));
+  }
+
+  private static Iterable<CachedTranslation> translations(ResolvedBundle bundle)
+  {
+    return () -> StreamSupport.stream(bundle.values()
+                                            .spliterator(), false)
+                              .map(ResolvedTranslation::getTranslation)
+                              .iterator();
+  }
+
+  private static Map<String, LocaleExportArtifact> lruMap(int maxEntries)
+  {
+    return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true)
+    {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, LocaleExportArtifact> eldest)
+      {
+        return size() > maxEntries;
+      }
+    });
+  }
+
+  /**
+   * Writes the entries of an export as fields of the JSON object the generator is in and returns the number written.
+   */
+  private interface FieldWriter
+  {
+    long write(JsonGenerator generator) throws IOException;
+  }
+
+  private interface ArtifactBuilder
+  {
+    LocaleExportArtifact build() throws IOException;
+  }
+}
@@ -0,0 +1,307 @@
+package com.opentranslation.management.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Immutable, key-ordered view of every translation of one locale.
+ * <p>
+ * Entries are stored as parallel arrays sorted by key rather than as a map of objects: keys as ids of the {@link TranslationKeyDictionary} shared by all
+ * locales, timestamps as epoch nanoseconds and offset, tag sets as shared instances. A translation costs about 44 bytes besides its content, and
+ * {@link CachedTranslation} objects are only created for the entries a caller reads.
+ * </p>
+ * <p>
+ * Changes never mutate a snapshot; {@link #with(CachedTranslation)} and {@link #without(String)} return a copy that the cache swaps in atomically.
+ * </p>
+ */
+public class LocaleSnapshot
+{
+
+  private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final String localeCode;
+  private final TranslationKeyDictionary dictionary;
+  private final int size;
+  private final int[] keyIds;
+  private final long[] ids;
+  private final String[] contents;
+  private final Set<String>[] tags;
+
+  /**
+   * Created and updated timestamp of each entry at {@code 2 * index} and {@code 2 * index + 1}.
+   */
+  private final long[] timestamps;
+  private final int[] offsets;
+
+  private LocaleSnapshot(String localeCode, TranslationKeyDictionary dictionary, Columns columns)
+  {
+    this.localeCode = localeCode;
+    this.dictionary = dictionary;
+    this.size = columns.size;
+    this.keyIds = columns.keyIds;
+    this.ids = columns.ids;
+    this.contents = columns.contents;
+    this.tags = columns.tags;
+    this.timestamps = columns.timestamps;
+    this.offsets = columns.offsets;
+  }
+
+  /**
+   * Build the snapshot of a locale from its translations in any order; of several with the same key the last one is kept.
+   */
+  public static LocaleSnapshot of(String localeCode, TranslationKeyDictionary dictionary, Collection<CachedTranslation> translations)
+  {
+    List<CachedTranslation> sorted = new ArrayList<>(translations);
+    // Stable, so the last of equal keys stays last
+    sorted.sort(Comparator.comparing(CachedTranslation::getTranslationKey));
+    Columns columns = new Columns(sorted.size());
+    for (int i = 0; i < sorted.size(); i++)
+    {
+      CachedTranslation translation = sorted.get(i);
+      if (i + 1 < sorted.size() && sorted.get(i + 1)
+                                         .getTranslationKey()
+                                         .equals(translation.getTranslationKey()))
+      {
+        continue;
+      }
+      columns.add(dictionary, translation);
+    }
+    return new LocaleSnapshot(localeCode, dictionary, columns);
+  }
+
+  public String getLocaleCode()
+  {
+    return localeCode;
+  }
+
+  public Optional<CachedTranslation> get(String translationKey)
+  {
+    if (dictionary.find(translationKey) < 0)
+    {
+      // No locale has the key
+      return Optional.empty();
+    }
+    int index = indexOf(translationKey);
+    return index < 0 ? Optional.empty() : Optional.of(entry(index));
+  }
+
+  public int size()
+  {
+    return size;
+  }
+
+  /**
+   * The translations in key order, each created when it is read.
+   */
+  public List<CachedTranslation> values()
+  {
+    return new AbstractList<>()
+    {
+      @Override
+      public CachedTranslation get(int index)
+      {
+        Objects.checkIndex(index, size);
+        return entry(index);
+      }
+
+      @Override
+      public int size()
+      {
+        return size;
+      }
+    };
+  }
+
+  /**
+   * Write the entries, optionally only those carrying {@code tag}, as fields of the JSON object the generator is in and return the number written.
+   */
+  public long write(JsonGenerator generator, String tag) throws IOException
+  {
+    long rows = 0;
+    for (int index = 0; index < size; index++)
+    {
+      if (tag == null || tags[index].contains(tag))
+      {
+        generator.writeStringField(dictionary.key(keyIds[index]), contents[index]);
+        rows++;
+      }
+    }
+    return rows;
+  }
+
+  public LocaleSnapshot with(CachedTranslation translation)
+  {
+    return withAll(List.of(translation));
+  }
+
+  public LocaleSnapshot withAll(Collection<CachedTranslation> translations)
+  {
+    TreeMap<String, CachedTranslation> changes = new TreeMap<>();
+    translations.forEach(translation -> changes.put(translation.getTranslationKey(), translation));
+    return merge(changes);
+  }
+
+  public LocaleSnapshot without(String translationKey)
+  {
+    if (indexOf(translationKey) < 0)
+    {
+      return this;
+    }
+    TreeMap<String, CachedTranslation> changes = new TreeMap<>();
+    changes.put(translationKey, null);
+    return merge(changes);
+  }
+
+  /**
+   * Copy the entries merged with the changes in one pass; a {@code null} change removes its key.
+   */
+  private LocaleSnapshot merge(SortedMap<String, CachedTranslation> changes)
+  {
+    Columns columns = new Columns(size + changes.size());
+    int index = 0;
+    for (Map.Entry<String, CachedTranslation> change : changes.entrySet())
+    {
+      while (index < size && dictionary.key(keyIds[index])
+                                       .compareTo(change.getKey()) < 0)
+      {
+        columns.copy(this, index++);
+      }
+      if (index < size && dictionary.key(keyIds[index])
+                                    .equals(change.getKey()))
+      {
+        index++;
+      }
+      if (change.getValue() != null)
+      {
+        columns.add(dictionary, change.getValue());
+      }
+    }
+    while (index < size)
+    {
+      columns.copy(this, index++);
+    }
+    return new LocaleSnapshot(localeCode, dictionary, columns);
+  }
+
+  private int indexOf(String translationKey)
+  {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high)
+    {
+      int middle = (low + high) >>> 1;
+      int comparison = dictionary.key(keyIds[middle])
+                                 .compareTo(translationKey);
+      if (comparison < 0)
+      {
+        low = middle + 1;
+      }
+      else if (comparison > 0)
+      {
+        high = middle - 1;
+      }
+      else
+      {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Key of the entry at {@code index} in key order.
+   */
+  String keyAt(int index)
+  {
+    return dictionary.key(keyIds[index]);
+  }
+
+  /**
+   * Translation of the entry at {@code index} in key order, created when it is read.
+   */
+  CachedTranslation entry(int index)
+  {
+    return new CachedTranslation(ids[index],
+                                 dictionary.key(keyIds[index]),
+                                 contents[index],
+                                 tags[index],
+                                 timestamp(2 * index),
+                                 timestamp(2 * index + 1));
+  }
+
+  private OffsetDateTime timestamp(int slot)
+  {
+    long nanos = timestamps[slot];
+    if (nanos == NO_TIMESTAMP)
+    {
+      return null;
+    }
+    return OffsetDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND)),
+                                    ZoneOffset.ofTotalSeconds(offsets[slot]));
+  }
+
+  /**
+   * Arrays of a snapshot being built, filled in key order.
+   */
+  private static class Columns
+  {
+    private int size;
+    private final int[] keyIds;
+    private final long[] ids;
+    private final String[] contents;
+    private final Set<String>[] tags;
+    private final long[] timestamps;
+    private final int[] offsets;
+
+    @SuppressWarnings("unchecked")
+    private Columns(int capacity)
+    {
+      this.keyIds = new int[capacity];
+      this.ids = new long[capacity];
+      this.contents = new String[capacity];
+      this.tags = new Set[capacity];
+      this.timestamps = new long[2 * capacity];
+      this.offsets = new int[2 * capacity];
+    }
+
+    private void add(TranslationKeyDictionary dictionary, CachedTranslation translation)
+    {
+      keyIds[size] = dictionary.intern(translation.getTranslationKey());
+      ids[size] = translation.getId() == null ? 0 : translation.getId();
+      contents[size] = translation.getContent();
+      tags[size] = dictionary.internTags(translation.getTags());
+      setTimestamp(2 * size, translation.getCreatedOn());
+      setTimestamp(2 * size + 1, translation.getUpdatedOn());
+      size++;
+    }
+
+    private void copy(LocaleSnapshot snapshot, int index)
+    {
+      keyIds[size] = snapshot.keyIds[index];
+      ids[size] = snapshot.ids[index];
+      contents[size] = snapshot.contents[index];
+      tags[size] = snapshot.tags[index];
+      System.arraycopy(snapshot.timestamps, 2 * index, timestamps, 2 * size, 2);
+      System.arraycopy(snapshot.offsets, 2 * index, offsets, 2 * size, 2);
+      size++;
+    }
+
+    private void setTimestamp(int slot, OffsetDateTime timestamp)
+    {
+      if (timestamp == null)
+      {
+        timestamps[slot] = NO_TIMESTAMP;
+        return;
+      }
+      timestamps[slot] = Math.addExact(Math.multiplyExact(timestamp.toEpochSecond(), NANOS_PER_SECOND), timestamp.getNano());
+      offsets[slot] = timestamp.getOffset()
+                               .getTotalSeconds();
+    }
+  }
+}
@@ -0,0 +1,432 @@
+package com.opentranslation.management.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opentranslation.management.dto.TranslationResponse;
+import com.opentranslation.management.repository.TranslationRepository;
+import com.opentranslation.management.repository.TranslationTombstoneRepository;
+import com.opentranslation.management.service.TranslationTagLoader;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Per-locale {@link MappedLocaleSnapshot snapshot files} serving exports and exact key lookups off-heap while the in-memory snapshot cache is disabled.
+ * <p>
+ * A locale's file is written from {@link TranslationRepository} on its first read. The first read after a committed change to the locale starts writing its
+ * replacement in the background and, like every read until the replacement is mapped, is served from the previous file; one write per locale runs at a time
+ * and readers arriving meanwhile share it. A catalog reload drops every mapping, so the next read of a locale waits for its new file. The files outlive the
+ * process: at startup every file in {@code app.snapshot-file.directory} is mapped before anything is read from the database, so a cold
+ * node serves reads at once. Each mapped file is then checked in the background against the latest catalog version of its locale and rewritten if the
+ * catalog moved while the node was down; until then it may serve that older state. The file of a locale that no longer exists is unmapped and deleted.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LocaleSnapshotFileStore implements MeterBinder
+{
+
+  private static final String SUFFIX = ".snapshot";
+
+  private final TranslationRepository translationRepository;
+  private final TranslationTombstoneRepository tombstoneRepository;
+  private final TranslationTagLoader tagLoader;
+  private final ReferenceDictionary referenceDictionary;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+  private final boolean enabled;
+  private final Path directory;
+
+  private final Map<String, Mapping> snapshots = new ConcurrentHashMap<>();
+
+  /**
+   * The file write in progress per locale, shared by every reader that needs it.
+   */
+  private final Map<String, CompletableFuture<MappedLocaleSnapshot>> writes = new ConcurrentHashMap<>();
+
+  /**
+   * Stamp of the last change per locale, and of the last catalog reload, drawn from {@link #changeCount}; a file started before the change is stale and a
+   * file started before the reload is not kept.
+   */
+  private final AtomicLong changeCount = new AtomicLong();
+  private final Map<String, Long> lastChanges = new ConcurrentHashMap<>();
+  private volatile long lastReload;
+
+  private final LongAdder rebuilds = new LongAdder();
+
+  public LocaleSnapshotFileStore(TranslationRepository translationRepository,
+                                 TranslationTombstoneRepository tombstoneRepository,
+                                 TranslationTagLoader tagLoader,
+                                 ReferenceDictionary referenceDictionary,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.snapshot-file.enabled:false}") boolean enabled,
+                                 @Value("${app.snapshot-file.directory:snapshots}") String directory)
+  {
+    this.translationRepository = translationRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.tagLoader = tagLoader;
+    this.referenceDictionary = referenceDictionary;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.enabled = enabled;
+    this.directory = Path.of(directory);
+  }
+
+  public boolean isEnabled()
+  {
+    return enabled;
+  }
+
+  /**
+   * Return the mapped snapshot of a locale, writing its file first if there is none. If the locale changed since its file was written, the file is rewritten
+   * in the background and the current one returned meanwhile.
+   */
+  public MappedLocaleSnapshot get(String localeCode)
+  {
+    Mapping mapping = snapshots.get(localeCode);
+    if (mapping != null)
+    {
+      if (isStale(localeCode, mapping.seen()))
+      {
+        refresh(localeCode);
+      }
+      return mapping.snapshot();
+    }
+
+    try
+    {
+      return refresh(localeCode).join();
+    }
+    catch (CompletionException e)
+    {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+  }
+
+  /**
+   * Rewrite the snapshot file of a locale unless a rewrite is already in progress, and return the one in progress. The file is mapped once written; for a
+   * code that is not a locale the returned snapshot is empty, and any file left from when it was one is unmapped and deleted.
+   */
+  public CompletableFuture<MappedLocaleSnapshot> refresh(String localeCode)
+  {
+    CompletableFuture<MappedLocaleSnapshot> write = new CompletableFuture<>();
+    CompletableFuture<MappedLocaleSnapshot> running = writes.putIfAbsent(localeCode, write);
+    if (running != null)
+    {
+      return running;
+    }
+
+    Thread.ofVirtual()
+          .name("snapshot-file-" + localeCode)
+          .start(() -> {
+            try
+            {
+              long seen = changeCount.get();
+              MappedLocaleSnapshot built = build(localeCode);
+              if (built == null)
+              {
+                remove(localeCode);
+                write.complete(MappedLocaleSnapshot.empty(localeCode));
+                return;
+              }
+              install(localeCode, built, seen);
+              write.complete(built);
+            }
+            catch (Throwable e)
+            {
+              write.completeExceptionally(e);
+            }
+            finally
+            {
+              writes.remove(localeCode, write);
+            }
+          });
+    return write;
+  }
+
+  /**
+   * Write the translations of a locale, optionally only those carrying {@code tag}, as a flat JSON object of translation key to content and return the number
+   * of entries written.
+   */
+  public long write(String localeCode, String tag, OutputStream out) throws IOException
+  {
+    MappedLocaleSnapshot snapshot = get(localeCode);
+    try (JsonGenerator generator = objectMapper.getFactory()
+                                               .createGenerator(out)
+                                               .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET))
+    {
+      generator.writeStartObject();
+      long rows = snapshot.write(generator, tag);
+      generator.writeEndObject();
+      return rows;
+    }
+  }
+
+  /**
+   * Map the snapshot files left by a previous run, then check them against the database in the background.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void openExisting() throws IOException
+  {
+    if (!enabled)
+    {
+      return;
+    }
+
+    Files.createDirectories(directory);
+    long seen = changeCount.get();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory))
+    {
+      for (Path file : files)
+      {
+        String name = file.getFileName()
+                          .toString();
+        if (!name.endsWith(SUFFIX))
+        {
+          if (name.contains(SUFFIX))
+          {
+            // Temporary file left behind by a write that did not finish
+            Files.deleteIfExists(file);
+          }
+          continue;
+        }
+        String localeCode = URLDecoder.decode(name.substring(0, name.length() - SUFFIX.length()), StandardCharsets.UTF_8);
+        try
+        {
+          install(localeCode, MappedLocaleSnapshot.open(file, localeCode), seen);
+        }
+        catch (IOException e)
+        {
+          log.warn("Ignoring unreadable snapshot file {}: {}", file, e.getMessage());
+          Files.deleteIfExists(file);
+        }
+      }
+    }
+    log.info("Mapped {} locale snapshot files from {}", snapshots.size(), directory.toAbsolutePath());
+
+    Thread.ofPlatform()
+          .name("snapshot-file-check")
+          .daemon()
+          .start(this::refreshStale);
+  }
+
+  @TransactionalEventListener
+  public void onTranslationChanged(TranslationChangedEvent event)
+  {
+    if (event.getPreviousLocaleCode() != null)
+    {
+      invalidate(event.getPreviousLocaleCode());
+    }
+    if (event.getCurrent() != null)
+    {
+      invalidate(event.getCurrent()
+                      .getLocaleCode());
+    }
+  }
+
+  @TransactionalEventListener
+  public void onTranslationBatchChanged(TranslationBatchChangedEvent event)
+  {
+    event.getChanges()
+         .stream()
+         .map(TranslationResponse::getLocaleCode)
+         .distinct()
+         .forEach(this::invalidate);
+  }
+
+  @TransactionalEventListener
+  public void onTranslationCatalogReloaded(TranslationCatalogReloadedEvent event)
+  {
+    lastReload = changeCount.incrementAndGet();
+    snapshots.clear();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry)
+  {
+    FunctionCounter.builder("translation.snapshot.file.rebuilds", rebuilds, LongAdder::sum)
+                   .description("Locale snapshot files written from the database")
+                   .register(registry);
+    Gauge.builder("translation.snapshot.file.bytes", snapshots, mapped -> mapped.values()
+                                                                               .stream()
+                                                                               .mapToLong(mapping -> mapping.snapshot()
+                                                                                                            .getByteSize())
+                                                                               .sum())
+         .description("Size of the mapped locale snapshot files")
+         .register(registry);
+  }
+
+  /**
+   * Mark the file of a locale stale; it keeps being served until its replacement is mapped.
+   */
+  private void invalidate(String localeCode)
+  {
+    lastChanges.put(localeCode, changeCount.incrementAndGet());
+  }
+
+  private boolean isStale(String localeCode, long seen)
+  {
+    return lastChanges.getOrDefault(localeCode, 0L) > seen;
+  }
+
+  /**
+   * Map a file written from the catalog as of stamp {@code seen}. A file started before the last reload is dropped; one that missed a change of its locale
+   * is still newer than the mapping it replaces, so it is mapped and rewritten on its next read.
+   */
+  private void install(String localeCode, MappedLocaleSnapshot snapshot, long seen)
+  {
+    Mapping mapping = new Mapping(snapshot, seen);
+    snapshots.put(localeCode, mapping);
+    if (lastReload > seen)
+    {
+      // The reload is stamped before the mappings are cleared, so a concurrent install either sees it or is cleared
+      snapshots.remove(localeCode, mapping);
+    }
+  }
+
+  /**
+   * Write and map the snapshot file of a locale, or return {@code null} if there is no such locale.
+   */
+  private MappedLocaleSnapshot build(String localeCode)
+  {
+    rebuilds.increment();
+    return readOnlyTransaction.execute(status -> {
+      if (referenceDictionary.findLocale(localeCode)
+                             .isEmpty())
+      {
+        // No file for codes that are not locales
+        return null;
+      }
+
+      try (LocaleSnapshotFileWriter writer = new LocaleSnapshotFileWriter(createDirectories(file(localeCode)), latestVersion(localeCode));
+           Stream<TranslationResponse> stream = translationRepository.streamTranslationsByLocale(localeCode))
+      {
+        List<TranslationResponse> chunk = new ArrayList<>(TranslationTagLoader.BATCH_SIZE);
+        Iterator<TranslationResponse> rows = stream.iterator();
+        while (rows.hasNext())
+        {
+          chunk.add(rows.next());
+          if (chunk.size() == TranslationTagLoader.BATCH_SIZE || !rows.hasNext())
+          {
+            tagLoader.attachTags(chunk);
+            for (TranslationResponse row : chunk)
+            {
+              writer.add(CachedTranslation.from(row));
+            }
+            chunk.clear();
+          }
+        }
+        MappedLocaleSnapshot written = writer.finish(localeCode);
+        log.debug("Wrote snapshot file of locale {} with {} translations", localeCode, written.size());
+        return written;
+      }
+      catch (IOException e)
+      {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Catalog version of the latest write or deletion in a locale; a snapshot file written at an older version is stale.
+   */
+  private long latestVersion(String localeCode)
+  {
+    Long written = translationRepository.findLatestCatalogVersionByLocale(localeCode);
+    Long deleted = tombstoneRepository.findLatestCatalogVersionByLocale(localeCode);
+    return Math.max(written == null ? 0 : written, deleted == null ? 0 : deleted);
+  }
+
+  /**
+   * Rewrite the mapped files whose locale changed since they were written.
+   */
+  private void refreshStale()
+  {
+    for (Map.Entry<String, Mapping> entry : List.copyOf(snapshots.entrySet()))
+    {
+      try
+      {
+        long current = readOnlyTransaction.execute(status -> latestVersion(entry.getKey()));
+        long mapped = entry.getValue()
+                           .snapshot()
+                           .getVersion();
+        if (current != mapped)
+        {
+          log.info("Snapshot file of locale {} is at version {}, catalog at {}; rewriting", entry.getKey(), mapped, current);
+          refresh(entry.getKey()).join();
+        }
+      }
+      catch (RuntimeException e)
+      {
+        log.warn("Could not check snapshot file of locale {}", entry.getKey(), e);
+      }
+    }
+  }
+
+  /**
+   * Stop serving the file of a code that is no longer a locale and delete it, so it is not mapped again at the next start.
+   */
+  private void remove(String localeCode)
+  {
+    if (snapshots.remove(localeCode) != null)
+    {
+      log.info("Locale {} no longer exists; dropping its snapshot file", localeCode);
+    }
+    try
+    {
+      Files.deleteIfExists(file(localeCode));
+    }
+    catch (IOException e)
+    {
+      log.warn("Could not delete snapshot file of locale {}: {}", localeCode, e.getMessage());
+    }
+  }
+
+  private Path file(String localeCode)
+  {
+    return directory.resolve(URLEncoder.encode(localeCode, StandardCharsets.UTF_8) + SUFFIX);
+  }
+
+  private static Path createDirectories(Path file) throws IOException
+  {
+    Files.createDirectories(file.getParent());
+    return file;
+  }
+
+  /**
+   * A mapped file and the {@link #changeCount} stamp read before it was written.
+   */
+  private record Mapping(MappedLocaleSnapshot snapshot, long seen)
+  {
+  }
+}
@@ -0,0 +1,226 @@
+package com.opentranslation.management.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * Writes the translations of one locale as a {@link MappedLocaleSnapshot} file.
+ * <p>
+ * Contents are spooled to a temporary file as they are added, so only the keys and fixed-size fields of the entries are held on the heap while they are
+ * sorted. The finished file is written under a temporary name and moved over the previous one atomically; readers still mapping the old file keep their view.
+ * </p>
+ */
+public class LocaleSnapshotFileWriter implements Closeable
+{
+
+  private final Path target;
+  private final long version;
+  private final Path contentsFile;
+  private final OutputStream contents;
+  private long contentsSize;
+
+  private final List<PendingEntry> entries = new ArrayList<>();
+  private final Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+  private long tagIdCount;
+
+  public LocaleSnapshotFileWriter(Path target, long version) throws IOException
+  {
+    this.target = target;
+    this.version = version;
+    this.contentsFile = Files.createTempFile(target.getParent(), target.getFileName()
+                                                                        .toString(), ".contents");
+    this.contents = new BufferedOutputStream(Files.newOutputStream(contentsFile), 1 << 16);
+  }
+
+  public void add(CachedTranslation translation) throws IOException
+  {
+    byte[] content = translation.getContent()
+                                .getBytes(StandardCharsets.UTF_8);
+    contents.write(content);
+    int[] tags = new int[translation.getTags()
+                                    .size()];
+    int i = 0;
+    for (String tag : translation.getTags())
+    {
+      Integer index = tagIndexes.get(tag);
+      if (index == null)
+      {
+        index = tagIndexes.size();
+        tagIndexes.put(tag, index);
+      }
+      tags[i++] = index;
+    }
+    entries.add(new PendingEntry(translation.getTranslationKey()
+                                            .getBytes(StandardCharsets.UTF_8),
+                                 translation.getId() == null ? 0 : translation.getId(),
+                                 contentsSize,
+                                 content.length,
+                                 tags,
+                                 translation.getCreatedOn(),
+                                 translation.getUpdatedOn()));
+    contentsSize += content.length;
+    tagIdCount += tags.length;
+  }
+
+  /**
+   * Write the snapshot file, replace the previous one and map it.
+   *
+   * @throws IOException if writing fails or the locale does not fit into a file of 2 GB
+   */
+  public MappedLocaleSnapshot finish(String localeCode) throws IOException
+  {
+    contents.close();
+    entries.sort((left, right) -> Arrays.compareUnsigned(left.key, right.key));
+    List<byte[]> tagNames = tagIndexes.keySet()
+                                      .stream()
+                                      .map(tag -> tag.getBytes(StandardCharsets.UTF_8))
+                                      .toList();
+    long tagNamesSize = tagNames.stream()
+                                .mapToLong(name -> name.length)
+                                .sum();
+    long keysSize = entries.stream()
+                           .mapToLong(entry -> entry.key.length)
+                           .sum();
+    long total = MappedLocaleSnapshot.HEADER_SIZE + (long) entries.size() * MappedLocaleSnapshot.ENTRY_SIZE
+                 + (long) tagNames.size() * MappedLocaleSnapshot.TAG_SIZE + tagIdCount * Integer.BYTES + tagNamesSize + keysSize + contentsSize;
+    if (total > Integer.MAX_VALUE)
+    {
+      throw new IOException("Snapshot of locale " + localeCode + " exceeds 2 GB");
+    }
+
+    Path temporary = Files.createTempFile(target.getParent(), target.getFileName()
+                                                                    .toString(), ".tmp");
+    try
+    {
+      try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE))
+      {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+        out.writeInt(MappedLocaleSnapshot.MAGIC);
+        out.writeInt(MappedLocaleSnapshot.FORMAT_VERSION);
+        out.writeLong(version);
+        out.writeInt(entries.size());
+        out.writeInt(tagNames.size());
+        out.writeInt((int) tagIdCount);
+        out.writeInt((int) tagNamesSize);
+        out.writeInt((int) keysSize);
+        out.writeInt((int) contentsSize);
+        out.write(new byte[MappedLocaleSnapshot.HEADER_SIZE - out.size()]);
+
+        int keyOffset = 0;
+        int tagIdOffset = 0;
+        for (PendingEntry entry : entries)
+        {
+          out.writeLong(entry.id);
+          out.writeInt(keyOffset);
+          out.writeInt(entry.key.length);
+          out.writeInt((int) entry.contentOffset);
+          out.writeInt(entry.contentLength);
+          out.writeInt(tagIdOffset);
+          out.writeInt(entry.tags.length);
+          writeTimestamp(out, entry.createdOn);
+          writeTimestamp(out, entry.updatedOn);
+          keyOffset += entry.key.length;
+          tagIdOffset += entry.tags.length;
+        }
+        int tagNameOffset = 0;
+        for (byte[] name : tagNames)
+        {
+          out.writeInt(tagNameOffset);
+          out.writeInt(name.length);
+          tagNameOffset += name.length;
+        }
+        for (PendingEntry entry : entries)
+        {
+          for (int tag : entry.tags)
+          {
+            out.writeInt(tag);
+          }
+        }
+        for (byte[] name : tagNames)
+        {
+          out.write(name);
+        }
+        for (PendingEntry entry : entries)
+        {
+          out.write(entry.key);
+        }
+        out.flush();
+
+        try (FileChannel source = FileChannel.open(contentsFile, StandardOpenOption.READ))
+        {
+          long position = 0;
+          while (position < contentsSize)
+          {
+            position += source.transferTo(position, contentsSize - position, channel);
+          }
+        }
+        channel.force(true);
+      }
+      Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+    finally
+    {
+      Files.deleteIfExists(temporary);
+    }
+    return MappedLocaleSnapshot.open(target, localeCode);
+  }
+
+  /**
+   * Discard the spooled contents.
+   */
+  @Override
+  public void close() throws IOException
+  {
+    contents.close();
+    Files.deleteIfExists(contentsFile);
+  }
+
+  private static void writeTimestamp(DataOutputStream out, OffsetDateTime timestamp) throws IOException
+  {
+    if (timestamp == null)
+    {
+      out.writeLong(MappedLocaleSnapshot.NO_TIMESTAMP);
+      out.writeInt(0);
+      out.writeInt(0);
+      return;
+    }
+    out.writeLong(timestamp.toEpochSecond());
+    out.writeInt(timestamp.getNano());
+    out.writeInt(timestamp.getOffset()
+                          .getTotalSeconds());
+  }
+
+  private static class PendingEntry
+  {
+    private final byte[] key;
+    private final long id;
+    private final long contentOffset;
+    private final int contentLength;
+    private final int[] tags;
+    private final OffsetDateTime createdOn;
+    private final OffsetDateTime updatedOn;
+
+    private PendingEntry(byte[] key, long id, long contentOffset, int contentLength, int[] tags, OffsetDateTime createdOn, OffsetDateTime updatedOn)
+    {
+      this.key = key;
+      this.id = id;
+      this.contentOffset = contentOffset;
+      this.contentLength = contentLength;
+      this.tags = tags;
+      this.createdOn = createdOn;
+      this.updatedOn = updatedOn;
+    }
+  }
+}
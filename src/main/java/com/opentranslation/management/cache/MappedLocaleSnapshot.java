@@ -0,0 +1,280 @@
+package com.opentranslation.management.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Read-only view of the translations of one locale stored in a snapshot file, memory-mapped so the entries live in the page cache instead of the heap.
+ * <p>
+ * The file is written by {@link LocaleSnapshotFileWriter}. All integers are big-endian and all strings UTF-8:
+ * </p>
+ * <pre>
+ * header     magic, format version, content version, entry, tag and tag id counts, pool sizes
+ * entries    fixed-size records sorted by the bytes of their key: id, key, content and tag id ranges, created and updated timestamps
+ * tag table  offset and length of every distinct tag name
+ * tag ids    tag table indexes of the tags of each entry
+ * tag names  pool of tag names
+ * keys       pool of translation keys
+ * contents   pool of contents
+ * </pre>
+ * <p>
+ * Lookups binary-search the entry table and exports copy contents from the buffer into the response, so neither materializes the locale on the heap.
+ * </p>
+ */
+public class MappedLocaleSnapshot
+{
+
+  static final int MAGIC = 0x4F545346;
+  static final int FORMAT_VERSION = 1;
+  static final int HEADER_SIZE = 48;
+  static final int ENTRY_SIZE = 64;
+  static final int TAG_SIZE = 8;
+  static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+  private final String localeCode;
+  private final ByteBuffer buffer;
+  private final long version;
+  private final int size;
+  private final int tagCount;
+  private final int tagTableStart;
+  private final int tagIdsStart;
+  private final int tagNamesStart;
+  private final int keysStart;
+  private final int contentsStart;
+
+  private MappedLocaleSnapshot(String localeCode, ByteBuffer buffer) throws IOException
+  {
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION)
+    {
+      throw new IOException("Not a snapshot file of format version " + FORMAT_VERSION);
+    }
+    this.localeCode = localeCode;
+    this.buffer = buffer;
+    this.version = buffer.getLong(8);
+    this.size = buffer.getInt(16);
+    this.tagCount = buffer.getInt(20);
+    this.tagTableStart = HEADER_SIZE + size * ENTRY_SIZE;
+    this.tagIdsStart = tagTableStart + tagCount * TAG_SIZE;
+    this.tagNamesStart = tagIdsStart + buffer.getInt(24) * Integer.BYTES;
+    this.keysStart = tagNamesStart + buffer.getInt(28);
+    this.contentsStart = keysStart + buffer.getInt(32);
+    if ((long) contentsStart + buffer.getInt(36) != buffer.capacity())
+    {
+      throw new IOException("Truncated snapshot file");
+    }
+  }
+
+  /**
+   * Map a snapshot file. The mapping stays valid after the file is replaced or deleted.
+   *
+   * @throws IOException if the file cannot be read or is not a complete snapshot file
+   */
+  public static MappedLocaleSnapshot open(Path file, String localeCode) throws IOException
+  {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+    {
+      if (channel.size() > Integer.MAX_VALUE)
+      {
+        throw new IOException("Snapshot file exceeds 2 GB: " + file);
+      }
+      return new MappedLocaleSnapshot(localeCode, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Snapshot without entries, held on the heap, for a locale that does not exist.
+   */
+  public static MappedLocaleSnapshot empty(String localeCode)
+  {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                                  .putInt(0, MAGIC)
+                                  .putInt(4, FORMAT_VERSION);
+    try
+    {
+      return new MappedLocaleSnapshot(localeCode, header);
+    }
+    catch (IOException e)
+    {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public String getLocaleCode()
+  {
+    return localeCode;
+  }
+
+  /**
+   * Content version of the locale the file was written at, see {@link VersionedSnapshot#getVersion()}.
+   */
+  public long getVersion()
+  {
+    return version;
+  }
+
+  public int size()
+  {
+    return size;
+  }
+
+  /**
+   * Size of the file in bytes.
+   */
+  public long getByteSize()
+  {
+    return buffer.capacity();
+  }
+
+  public Optional<CachedTranslation> get(String translationKey)
+  {
+    byte[] key = translationKey.getBytes(StandardCharsets.UTF_8);
+    int low = 0;
+    int high = size - 1;
+    while (low <= high)
+    {
+      int middle = (low + high) >>> 1;
+      int comparison = compareKey(middle, key);
+      if (comparison < 0)
+      {
+        low = middle + 1;
+      }
+      else if (comparison > 0)
+      {
+        high = middle - 1;
+      }
+      else
+      {
+        return Optional.of(entry(middle));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Write the entries, optionally only those carrying {@code tag}, as fields of the JSON object the generator is in and return the number written. Contents
+   * are copied through one reused buffer without being decoded.
+   */
+  public long write(JsonGenerator generator, String tag) throws IOException
+  {
+    int tagIndex = tag == null ? -1 : tagIndexOf(tag);
+    if (tag != null && tagIndex < 0)
+    {
+      return 0;
+    }
+
+    byte[] content = new byte[256];
+    long rows = 0;
+    for (int index = 0; index < size; index++)
+    {
+      int record = HEADER_SIZE + index * ENTRY_SIZE;
+      if (tagIndex >= 0 && !hasTag(record, tagIndex))
+      {
+        continue;
+      }
+      int length = buffer.getInt(record + 20);
+      if (content.length < length)
+      {
+        content = new byte[Math.max(length, content.length * 2)];
+      }
+      buffer.get(contentsStart + buffer.getInt(record + 16), content, 0, length);
+      generator.writeFieldName(string(keysStart + buffer.getInt(record + 8), buffer.getInt(record + 12)));
+      generator.writeUTF8String(content, 0, length);
+      rows++;
+    }
+    return rows;
+  }
+
+  private int compareKey(int index, byte[] key)
+  {
+    int record = HEADER_SIZE + index * ENTRY_SIZE;
+    int offset = keysStart + buffer.getInt(record + 8);
+    int length = buffer.getInt(record + 12);
+    int common = Math.min(length, key.length);
+    for (int i = 0; i < common; i++)
+    {
+      int comparison = Byte.compareUnsigned(buffer.get(offset + i), key[i]);
+      if (comparison != 0)
+      {
+        return comparison;
+      }
+    }
+    return Integer.compare(length, key.length);
+  }
+
+  private CachedTranslation entry(int index)
+  {
+    int record = HEADER_SIZE + index * ENTRY_SIZE;
+    int tagsOffset = buffer.getInt(record + 24);
+    String[] tags = new String[buffer.getInt(record + 28)];
+    for (int i = 0; i < tags.length; i++)
+    {
+      tags[i] = tagName(buffer.getInt(tagIdsStart + (tagsOffset + i) * Integer.BYTES));
+    }
+    return new CachedTranslation(buffer.getLong(record),
+                                 string(keysStart + buffer.getInt(record + 8), buffer.getInt(record + 12)),
+                                 string(contentsStart + buffer.getInt(record + 16), buffer.getInt(record + 20)),
+                                 Set.of(tags),
+                                 timestamp(record + 32),
+                                 timestamp(record + 48));
+  }
+
+  private boolean hasTag(int record, int tagIndex)
+  {
+    int tagsOffset = buffer.getInt(record + 24);
+    int tagsCount = buffer.getInt(record + 28);
+    for (int i = 0; i < tagsCount; i++)
+    {
+      if (buffer.getInt(tagIdsStart + (tagsOffset + i) * Integer.BYTES) == tagIndex)
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private int tagIndexOf(String tag)
+  {
+    for (int index = 0; index < tagCount; index++)
+    {
+      if (tagName(index).equals(tag))
+      {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private String tagName(int index)
+  {
+    int entry = tagTableStart + index * TAG_SIZE;
+    return string(tagNamesStart + buffer.getInt(entry), buffer.getInt(entry + 4));
+  }
+
+  private String string(int offset, int length)
+  {
+    byte[] bytes = new byte[length];
+    buffer.get(offset, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private OffsetDateTime timestamp(int position)
+  {
+    long seconds = buffer.getLong(position);
+    if (seconds == NO_TIMESTAMP)
+    {
+      return null;
+    }
+    return OffsetDateTime.ofInstant(Instant.ofEpochSecond(seconds, buffer.getInt(position + 8)), ZoneOffset.ofTotalSeconds(buffer.getInt(position + 12)));
+  }
+}
@@ -0,0 +1,226 @@
+package com.opentranslation.management.cache;
+
+import com.opentranslation.management.model.Locale;
+import com.opentranslation.management.model.Tag;
+import com.opentranslation.management.repository.LocaleRepository;
+import com.opentranslation.management.repository.TagRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory dictionary of locale codes and tag names to their ids.
+ * <p>
+ * Locales and tags are small and almost never change, so translation writes resolve them here and attach {@link EntityManager#getReference lazy references}
+ * instead of selecting them per request. The dictionary is warmed at startup, filled on a miss, and updated by the locale and tag services; new entries are
+ * only remembered once the transaction that created or read them commits, so a rollback never leaves an id behind that does not exist. Tags are created with a
+ * race-safe {@link TagRepository#insertIfAbsent insert-if-absent}, so concurrent writers introducing the same tag both succeed.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ReferenceDictionary
+{
+
+  private final LocaleRepository localeRepository;
+  private final TagRepository tagRepository;
+  private final EntityManager entityManager;
+
+  private final Map<String, Long> localeIds = new ConcurrentHashMap<>();
+  private final Map<Long, String> localeCodes = new ConcurrentHashMap<>();
+  private final Map<Long, Long> localeParentIds = new ConcurrentHashMap<>();
+  private final Map<String, Long> tagIds = new ConcurrentHashMap<>();
+
+  public ReferenceDictionary(LocaleRepository localeRepository, TagRepository tagRepository, EntityManager entityManager)
+  {
+    this.localeRepository = localeRepository;
+    this.tagRepository = tagRepository;
+    this.entityManager = entityManager;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp()
+  {
+    localeRepository.findAll()
+                    .forEach(this::putLocale);
+    tagRepository.findAll()
+                 .forEach(this::putTag);
+    log.info("Reference dictionary warmed with {} locales and {} tags", localeIds.size(), tagIds.size());
+  }
+
+  /**
+   * A reloaded catalog may have recreated locales and tags, so everything is looked up again on demand.
+   */
+  @EventListener
+  public void onTranslationCatalogReloaded(TranslationCatalogReloadedEvent event)
+  {
+    localeIds.clear();
+    localeCodes.clear();
+    localeParentIds.clear();
+    tagIds.clear();
+  }
+
+  /**
+   * Reference to the locale with the given code, loading it only when the code is not in the dictionary yet. Must be called within a transaction.
+   */
+  public Optional<Locale> findLocale(String code)
+  {
+    Long id = localeIds.get(code);
+    if (id != null)
+    {
+      return Optional.of(entityManager.getReference(Locale.class, id));
+    }
+
+    Optional<Locale> locale = localeRepository.findByCode(code);
+    locale.ifPresent(this::putLocale);
+    return locale;
+  }
+
+  /**
+   * Code of a locale, read from the dictionary so an uninitialized reference is not loaded just for its code.
+   */
+  public String getLocaleCode(Locale locale)
+  {
+    String code = localeCodes.get(locale.getId());
+    return code != null ? code : locale.getCode();
+  }
+
+  /**
+   * The locale followed by the locales it falls back to, nearest first, e.g. {@code [fr-CA, fr, en]}. A fallback cycle is cut where it would repeat a locale.
+   */
+  public List<String> getFallbackChain(String code)
+  {
+    List<String> chain = new ArrayList<>();
+    String current = code;
+    while (current != null && !chain.contains(current))
+    {
+      chain.add(current);
+      current = getParentCode(current);
+    }
+    return chain;
+  }
+
+  /**
+   * Ids of the tags with the given names, creating the missing ones. Must be called within a transaction.
+   */
+  public Map<String, Long> getOrCreateTagIds(Collection<String> names)
+  {
+    Map<String, Long> ids = new HashMap<>();
+    Set<String> missing = new HashSet<>();
+    for (String name : names)
+    {
+      Long id = tagIds.get(name);
+      if (id != null)
+      {
+        ids.put(name, id);
+      }
+      else
+      {
+        missing.add(name);
+      }
+    }
+    if (missing.isEmpty())
+    {
+      return ids;
+    }
+
+    // Sorted, so concurrent writers lock new tag names in the same order
+    new TreeSet<>(missing).forEach(tagRepository::insertIfAbsent);
+    Map<String, Long> created = new HashMap<>();
+    tagRepository.findByNameIn(missing)
+                 .forEach(tag -> created.put(tag.getName(), tag.getId()));
+    ids.putAll(created);
+    afterCommit(() -> tagIds.putAll(created));
+    return ids;
+  }
+
+  /**
+   * References to the tags with the given names, creating the missing ones. Must be called within a transaction.
+   */
+  public Set<Tag> getOrCreateTags(Collection<String> names)
+  {
+    Set<Tag> tags = new HashSet<>();
+    getOrCreateTagIds(names).values()
+                            .forEach(id -> tags.add(entityManager.getReference(Tag.class, id)));
+    return tags;
+  }
+
+  /**
+   * Remember a locale once the current transaction, if any, commits.
+   */
+  public void putLocale(Locale locale)
+  {
+    Long id = locale.getId();
+    String code = locale.getCode();
+    Long parentId = locale.getParent() == null ? null : locale.getParent()
+                                                                .getId();
+    afterCommit(() -> {
+      if (parentId == null)
+      {
+        localeParentIds.remove(id);
+      }
+      else
+      {
+        localeParentIds.put(id, parentId);
+      }
+      localeIds.put(code, id);
+      localeCodes.put(id, code);
+    });
+  }
+
+  /**
+   * Remember a tag once the current transaction, if any, commits.
+   */
+  public void putTag(Tag tag)
+  {
+    Long id = tag.getId();
+    String name = tag.getName();
+    afterCommit(() -> tagIds.put(name, id));
+  }
+
+  private String getParentCode(String code)
+  {
+    Long id = localeIds.get(code);
+    if (id == null)
+    {
+      return localeRepository.findParentCode(code)
+                             .orElse(null);
+    }
+
+    Long parentId = localeParentIds.get(id);
+    if (parentId == null)
+    {
+      return null;
+    }
+    String parentCode = localeCodes.get(parentId);
+    return parentCode != null ? parentCode : localeRepository.findById(parentId)
+                                                             .map(Locale::getCode)
+                                                             .orElse(null);
+  }
+
+  private static void afterCommit(Runnable action)
+  {
+    if (!TransactionSynchronizationManager.isSynchronizationActive())
+    {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+    {
+      @Override
+      public void afterCommit()
+      {
+        action.run();
+      }
+    });
+  }
+}
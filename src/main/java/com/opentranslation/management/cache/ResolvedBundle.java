@@ -0,0 +1,310 @@
+package com.opentranslation.management.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Key-ordered translations of a locale merged with those of the locales it falls back to, the nearest locale of the chain winning per key.
+ * <p>
+ * A bundle is a base built from the snapshots of its chain plus a layer of the keys changed since, which {@link #with} extends and shares with the bundle it
+ * returns, so applying a change costs in proportion to the keys it touches rather than to the size of the bundle. Every revision in the layer carries its
+ * catalog version and a bundle only sees those up to its own {@link #getVersion() version}, so an instance, once handed out, never changes.
+ * </p>
+ * <p>
+ * The base does not copy any translation: it keeps the chain's {@link LocaleSnapshot snapshots} and, per merged key in key order, the depth of the locale
+ * providing it and its index in that locale's snapshot, about 5 bytes an entry. {@link ResolvedTranslation}s are only created for the entries a caller reads.
+ * </p>
+ */
+@Getter
+public class ResolvedBundle
+{
+  private final String localeCode;
+
+  /**
+   * The locale and the locales it falls back to, nearest first.
+   */
+  private final List<String> chain;
+
+  /**
+   * Latest content version of the locales of the chain, or -1 when the bundle was built outside the cache and its version is not known exactly.
+   */
+  private final long version;
+
+  @Getter(AccessLevel.NONE)
+  private final Base base;
+
+  @Getter(AccessLevel.NONE)
+  private final Changes changes;
+
+  private ResolvedBundle(String localeCode, List<String> chain, Base base, Changes changes, long version)
+  {
+    this.localeCode = localeCode;
+    this.chain = chain;
+    this.base = base;
+    this.changes = changes;
+    this.version = version;
+  }
+
+  /**
+   * Merge the snapshots of a chain, nearest locale first, into a bundle at {@code version}.
+   */
+  public static ResolvedBundle of(String localeCode, List<String> chain, List<LocaleSnapshot> layers, long version)
+  {
+    if (layers.size() != chain.size())
+    {
+      throw new IllegalArgumentException("Expected one snapshot per locale of " + chain);
+    }
+    if (chain.size() > Byte.MAX_VALUE)
+    {
+      throw new IllegalArgumentException("Fallback chain of " + localeCode + " is longer than " + Byte.MAX_VALUE + " locales");
+    }
+    int capacity = 0;
+    for (LocaleSnapshot layer : layers)
+    {
+      capacity += layer.size();
+    }
+    byte[] depths = new byte[capacity];
+    int[] indexes = new int[capacity];
+    int[] cursors = new int[layers.size()];
+    int size = 0;
+    while (true)
+    {
+      // The smallest key at any cursor, taken from the nearest locale that has it
+      int nearest = -1;
+      String key = null;
+      for (int depth = 0; depth < layers.size(); depth++)
+      {
+        if (cursors[depth] < layers.get(depth)
+                                   .size())
+        {
+          String candidate = layers.get(depth)
+                                   .keyAt(cursors[depth]);
+          if (key == null || candidate.compareTo(key) < 0)
+          {
+            nearest = depth;
+            key = candidate;
+          }
+        }
+      }
+      if (key == null)
+      {
+        break;
+      }
+      depths[size] = (byte) nearest;
+      indexes[size] = cursors[nearest];
+      size++;
+      for (int depth = 0; depth < layers.size(); depth++)
+      {
+        if (cursors[depth] < layers.get(depth)
+                                   .size() && layers.get(depth)
+                                                    .keyAt(cursors[depth])
+                                                    .equals(key))
+        {
+          cursors[depth]++;
+        }
+      }
+    }
+    Base base = new Base(List.copyOf(layers), Arrays.copyOf(depths, size), Arrays.copyOf(indexes, size));
+    return new ResolvedBundle(localeCode, List.copyOf(chain), base, new Changes(), version);
+  }
+
+  public Optional<ResolvedTranslation> get(String translationKey)
+  {
+    Revision revision = visible(changes.revisions.get(translationKey));
+    if (revision != null)
+    {
+      return Optional.ofNullable(revision.translation);
+    }
+    int index = base.indexOf(translationKey);
+    return index < 0 ? Optional.empty() : Optional.of(baseEntry(index));
+  }
+
+  /**
+   * The translations in key order.
+   */
+  public Iterable<ResolvedTranslation> values()
+  {
+    return MergingIterator::new;
+  }
+
+  /**
+   * Number of keys changed since the base was built; the bundle is worth rebuilding once this is a sizeable part of it.
+   */
+  public int changedKeys()
+  {
+    return changes.keys.get();
+  }
+
+  public int baseSize()
+  {
+    return base.depths.length;
+  }
+
+  /**
+   * Return the bundle at {@code catalogVersion}: this one with the given keys set to their new translation, or removed where it is {@code null}.
+   */
+  public ResolvedBundle with(Map<String, ResolvedTranslation> changed, long catalogVersion)
+  {
+    changed.forEach((key, translation) -> changes.revisions.compute(key, (k, previous) -> {
+      if (previous == null)
+      {
+        changes.keys.incrementAndGet();
+      }
+      return new Revision(catalogVersion, translation, previous);
+    }));
+    return new ResolvedBundle(localeCode, chain, base, changes, Math.max(version, catalogVersion));
+  }
+
+  /**
+   * The same bundle with its version marked unknown, for a bundle that may have missed a change while it was built.
+   */
+  ResolvedBundle unversioned()
+  {
+    return new ResolvedBundle(localeCode, chain, base, changes, -1);
+  }
+
+  /**
+   * The latest revision this bundle's version sees, or {@code null} if the key is as in the base.
+   */
+  private Revision visible(Revision revision)
+  {
+    while (revision != null && revision.version > version)
+    {
+      revision = revision.previous;
+    }
+    return revision;
+  }
+
+  private ResolvedTranslation baseEntry(int index)
+  {
+    int depth = base.depths[index];
+    return new ResolvedTranslation(base.layers.get(depth)
+                                              .entry(base.indexes[index]), chain.get(depth));
+  }
+
+  /**
+   * Merged keys of the chain's snapshots: entry {@code i} is entry {@code indexes[i]} of the snapshot at {@code depths[i]}.
+   */
+  private record Base(List<LocaleSnapshot> layers, byte[] depths, int[] indexes)
+  {
+    private String key(int index)
+    {
+      return layers.get(depths[index])
+                   .keyAt(indexes[index]);
+    }
+
+    private int indexOf(String translationKey)
+    {
+      int low = 0;
+      int high = depths.length - 1;
+      while (low <= high)
+      {
+        int middle = (low + high) >>> 1;
+        int comparison = key(middle).compareTo(translationKey);
+        if (comparison < 0)
+        {
+          low = middle + 1;
+        }
+        else if (comparison > 0)
+        {
+          high = middle - 1;
+        }
+        else
+        {
+          return middle;
+        }
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * Changed keys shared by every version of a bundle, each with its revisions newest first.
+   */
+  private static final class Changes
+  {
+    private final ConcurrentSkipListMap<String, Revision> revisions = new ConcurrentSkipListMap<>();
+    private final AtomicInteger keys = new AtomicInteger();
+  }
+
+  /**
+   * A key's translation from {@code version} on, {@code null} once it was removed.
+   */
+  private record Revision(long version, ResolvedTranslation translation, Revision previous)
+  {
+  }
+
+  /**
+   * Walks the base and the changed keys side by side in key order, a visible revision of a key replacing its base entry.
+   */
+  private final class MergingIterator implements Iterator<ResolvedTranslation>
+  {
+    private final Iterator<Map.Entry<String, Revision>> changedEntries = changes.revisions.entrySet()
+                                                                                          .iterator();
+    private int nextBase;
+    private Map.Entry<String, Revision> nextChanged = advance(changedEntries);
+    private ResolvedTranslation next = findNext();
+
+    @Override
+    public boolean hasNext()
+    {
+      return next != null;
+    }
+
+    @Override
+    public ResolvedTranslation next()
+    {
+      if (next == null)
+      {
+        throw new NoSuchElementException();
+      }
+      ResolvedTranslation current = next;
+      next = findNext();
+      return current;
+    }
+
+    private ResolvedTranslation findNext()
+    {
+      int baseSize = base.depths.length;
+      while (nextBase < baseSize || nextChanged != null)
+      {
+        int comparison = nextBase == baseSize ? 1 : nextChanged == null ? -1 : base.key(nextBase)
+                                                                                   .compareTo(nextChanged.getKey());
+        if (comparison < 0)
+        {
+          return baseEntry(nextBase++);
+        }
+
+        Revision revision = visible(nextChanged.getValue());
+        nextChanged = advance(changedEntries);
+        if (comparison == 0 && revision == null)
+        {
+          return baseEntry(nextBase++);
+        }
+        if (comparison == 0)
+        {
+          nextBase++;
+        }
+        if (revision != null && revision.translation != null)
+        {
+          return revision.translation;
+        }
+      }
+      return null;
+    }
+  }
+
+  private static <T> T advance(Iterator<T> iterator)
+  {
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+}
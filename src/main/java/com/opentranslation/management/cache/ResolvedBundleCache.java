@@ -0,0 +1,218 @@
+package com.opentranslation.management.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bundles of locales merged with their fallback chains ({@code fr-CA → fr → en}), so resolving a regional locale is one read.
+ * <p>
+ * A bundle is built from the snapshots of its chain on first use and afterwards patched with every change the {@link TranslationSnapshotCache} applies to any
+ * locale of the chain, in the same catalog version order: a created or updated key replaces the bundle entry unless a nearer locale already provides it, and a
+ * removed key falls through to the next ancestor that has it. A patch only records the changed keys on top of the bundle (see {@link ResolvedBundle}), so its
+ * cost follows the size of the change, not of the bundle. When the recorded keys outgrow an eighth of the bundle, or a removed key's ancestor snapshot is not
+ * cached, the bundle is dropped and rebuilt on its next read. A bundle whose chain no longer matches the locale hierarchy is rebuilt as well. Bundles read
+ * least recently are dropped beyond {@code app.cache.max-locales}.
+ * </p>
+ * <p>
+ * With the snapshot cache disabled every bundle is built from the database on each read and not kept.
+ * </p>
+ */
+@Component
+public class ResolvedBundleCache implements TranslationSnapshotCache.ChangeListener, MeterBinder
+{
+
+  /**
+   * Changed keys a bundle carries regardless of its size before it is rebuilt.
+   */
+  private static final int MIN_CHANGED_KEYS = 1024;
+
+  private final TranslationSnapshotCache snapshotCache;
+  private final ReferenceDictionary referenceDictionary;
+  private final int maxLocales;
+
+  /**
+   * Cached bundles in access order. Guarded by {@code this}.
+   */
+  private final LinkedHashMap<String, ResolvedBundle> bundles = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Incremented for every applied change; a bundle built while it moved may be stale and is not cached.
+   */
+  private final AtomicLong changeCount = new AtomicLong();
+
+  private final LongAdder rebuilds = new LongAdder();
+  private final LongAdder patches = new LongAdder();
+
+  public ResolvedBundleCache(TranslationSnapshotCache snapshotCache,
+                             ReferenceDictionary referenceDictionary,
+                             @Value("${app.cache.max-locales:50}") int maxLocales)
+  {
+    this.snapshotCache = snapshotCache;
+    this.referenceDictionary = referenceDictionary;
+    this.maxLocales = maxLocales;
+    snapshotCache.addChangeListener(this);
+  }
+
+  /**
+   * Return the resolved bundle of a locale, building it from the snapshots of its fallback chain if it is not cached.
+   */
+  public ResolvedBundle get(String localeCode)
+  {
+    List<String> chain = referenceDictionary.getFallbackChain(localeCode);
+    synchronized (this)
+    {
+      ResolvedBundle cached = bundles.get(localeCode);
+      if (cached != null && cached.getChain()
+                                  .equals(chain))
+      {
+        return cached;
+      }
+    }
+
+    rebuilds.increment();
+    long seen = changeCount.get();
+    long version = 0;
+    for (String code : chain)
+    {
+      version = Math.max(version, snapshotCache.getLocaleVersion(code));
+    }
+    List<LocaleSnapshot> layers = new ArrayList<>(chain.size());
+    for (String code : chain)
+    {
+      layers.add(snapshotCache.getSnapshot(code));
+    }
+    ResolvedBundle built = ResolvedBundle.of(localeCode, chain, layers, version);
+
+    synchronized (this)
+    {
+      if (!snapshotCache.isEnabled() || changeCount.get() != seen)
+      {
+        return built.unversioned();
+      }
+      bundles.put(localeCode, built);
+      if (bundles.size() > maxLocales)
+      {
+        Iterator<String> eldest = bundles.keySet()
+                                         .iterator();
+        eldest.next();
+        eldest.remove();
+      }
+      return built;
+    }
+  }
+
+  @Override
+  public synchronized void onChanged(String localeCode, Collection<CachedTranslation> upserts, Collection<String> removedKeys, long catalogVersion)
+  {
+    changeCount.incrementAndGet();
+    Iterator<Map.Entry<String, ResolvedBundle>> entries = bundles.entrySet()
+                                                                 .iterator();
+    while (entries.hasNext())
+    {
+      Map.Entry<String, ResolvedBundle> entry = entries.next();
+      int depth = entry.getValue()
+                       .getChain()
+                       .indexOf(localeCode);
+      if (depth < 0)
+      {
+        continue;
+      }
+
+      ResolvedBundle patched = patch(entry.getValue(), depth, upserts, removedKeys, catalogVersion);
+      if (patched == null)
+      {
+        entries.remove();
+      }
+      else
+      {
+        entry.setValue(patched);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void onReset()
+  {
+    changeCount.incrementAndGet();
+    bundles.clear();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry)
+  {
+    FunctionCounter.builder("translation.cache.resolved", rebuilds, LongAdder::sum)
+                   .tag("result", "rebuild")
+                   .description("Resolved bundles built from the snapshots of their fallback chain")
+                   .register(registry);
+    FunctionCounter.builder("translation.cache.resolved", patches, LongAdder::sum)
+                   .tag("result", "patch")
+                   .description("Resolved bundles patched with the changed keys of a locale of their chain")
+                   .register(registry);
+  }
+
+  /**
+   * Apply the changes of the locale at {@code depth} of the bundle's chain, or return {@code null} if the bundle has to be rebuilt.
+   */
+  private ResolvedBundle patch(ResolvedBundle bundle, int depth, Collection<CachedTranslation> upserts, Collection<String> removedKeys, long catalogVersion)
+  {
+    List<String> chain = bundle.getChain();
+    Map<String, ResolvedTranslation> changed = new HashMap<>();
+    for (String key : removedKeys)
+    {
+      Optional<ResolvedTranslation> current = bundle.get(key);
+      if (current.isEmpty() || !current.get()
+                                       .getLocaleCode()
+                                       .equals(chain.get(depth)))
+      {
+        // Served from a nearer locale, so the removal does not show
+        continue;
+      }
+      ResolvedTranslation inherited = null;
+      for (int ancestor = depth + 1; ancestor < chain.size() && inherited == null; ancestor++)
+      {
+        LocaleSnapshot snapshot = snapshotCache.peekSnapshot(chain.get(ancestor));
+        if (snapshot == null)
+        {
+          return null;
+        }
+        String ancestorCode = chain.get(ancestor);
+        inherited = snapshot.get(key)
+                            .map(translation -> new ResolvedTranslation(translation, ancestorCode))
+                            .orElse(null);
+      }
+      changed.put(key, inherited);
+    }
+    for (CachedTranslation translation : upserts)
+    {
+      Optional<ResolvedTranslation> current = bundle.get(translation.getTranslationKey());
+      if (current.isEmpty() || chain.indexOf(current.get()
+                                                    .getLocaleCode()) >= depth)
+      {
+        changed.put(translation.getTranslationKey(), new ResolvedTranslation(translation, chain.get(depth)));
+      }
+    }
+
+    ResolvedBundle patched = bundle.with(changed, catalogVersion);
+    if (patched.changedKeys() > Math.max(MIN_CHANGED_KEYS, patched.baseSize() / 8))
+    {
+      return null;
+    }
+    patches.increment();
+    return patched;
+  }
+}
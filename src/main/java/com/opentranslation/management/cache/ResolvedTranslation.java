@@ -0,0 +1,14 @@
+package com.opentranslation.management.cache;
+
+import lombok.*;
+
+/**
+ * Translation of a resolved bundle together with the locale of the fallback chain it was taken from.
+ */
+@Getter
+@AllArgsConstructor
+public class ResolvedTranslation
+{
+  private final CachedTranslation translation;
+  private final String localeCode;
+}
@@ -0,0 +1,25 @@
+package com.opentranslation.management.cache;
+
+import com.opentranslation.management.dto.TranslationResponse;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Published after a batch of translations was inserted or updated in place (same key and locale), e.g. by a bulk upsert.
+ */
+@Getter
+@AllArgsConstructor
+public class TranslationBatchChangedEvent
+{
+  /**
+   * State of every written translation after the change, including tags.
+   */
+  private final List<TranslationResponse> changes;
+
+  /**
+   * Catalog version shared by every change of the batch.
+   */
+  private final long catalogVersion;
+}
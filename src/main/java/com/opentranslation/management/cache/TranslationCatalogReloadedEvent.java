@@ -0,0 +1,16 @@
+package com.opentranslation.management.cache;
+
+import lombok.*;
+
+/**
+ * Published after translations were written wholesale outside the regular write paths, e.g. by the test data loader; read models rebuild from the database.
+ */
+@Getter
+@AllArgsConstructor
+public class TranslationCatalogReloadedEvent
+{
+  /**
+   * Catalog version the reload was committed with.
+   */
+  private final long catalogVersion;
+}
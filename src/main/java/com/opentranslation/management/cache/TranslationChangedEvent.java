@@ -0,0 +1,33 @@
+package com.opentranslation.management.cache;
+
+import com.opentranslation.management.dto.TranslationResponse;
+
+import lombok.*;
+
+/**
+ * Published by the service layer whenever a translation is written; read models apply it once the transaction has committed.
+ */
+@Getter
+@AllArgsConstructor
+public class TranslationChangedEvent
+{
+  /**
+   * Locale code before the change, or {@code null} for a newly created translation.
+   */
+  private final String previousLocaleCode;
+
+  /**
+   * Translation key before the change, or {@code null} for a newly created translation.
+   */
+  private final String previousKey;
+
+  /**
+   * State after the change, including tags, or {@code null} for a deleted translation.
+   */
+  private final TranslationResponse current;
+
+  /**
+   * Catalog version the change was committed with.
+   */
+  private final long catalogVersion;
+}
@@ -0,0 +1,90 @@
+package com.opentranslation.management.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact integer ids for translation keys, shared by the {@link LocaleSnapshot snapshots} of all locales so a key carried by many locales is held once.
+ * <p>
+ * Ids are assigned densely from 0 in order of first use and are never reused or removed: the keys of deleted translations keep their id until the cache is
+ * reset and starts a new dictionary. Tag sets are interned the same way, since most translations share one of a few combinations.
+ * </p>
+ */
+public class TranslationKeyDictionary
+{
+
+  private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+  private final Map<Set<String>, Set<String>> tagSets = new ConcurrentHashMap<>();
+
+  /**
+   * Keys by id. Grown by copying under the monitor; a reader that obtained an id from {@link #ids} or a published snapshot sees its key in the current array.
+   */
+  private volatile String[] keys = new String[1024];
+  private int size;
+
+  /**
+   * Return the id of a key, assigning the next one if the key is new.
+   */
+  public int intern(String key)
+  {
+    Integer id = ids.get(key);
+    if (id != null)
+    {
+      return id;
+    }
+
+    synchronized (this)
+    {
+      id = ids.get(key);
+      if (id != null)
+      {
+        return id;
+      }
+      String[] current = keys;
+      if (size == current.length)
+      {
+        current = Arrays.copyOf(current, size * 2);
+      }
+      current[size] = key;
+      keys = current;
+      ids.put(key, size);
+      return size++;
+    }
+  }
+
+  /**
+   * Return the id of a key, or -1 if no locale ever had it.
+   */
+  public int find(String key)
+  {
+    return ids.getOrDefault(key, -1);
+  }
+
+  public String key(int id)
+  {
+    return keys[id];
+  }
+
+  /**
+   * Return the shared instance of an immutable tag set.
+   */
+  public Set<String> internTags(Set<String> tags)
+  {
+    if (tags.isEmpty())
+    {
+      return Set.of();
+    }
+    Set<String> shared = tagSets.putIfAbsent(tags, tags);
+    return shared == null ? tags : shared;
+  }
+
+  /**
+   * Number of distinct keys.
+   */
+  public int size()
+  {
+    return ids.size();
+  }
+}
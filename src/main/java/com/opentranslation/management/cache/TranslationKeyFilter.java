@@ -0,0 +1,171 @@
+package com.opentranslation.management.cache;
+
+import com.opentranslation.management.dto.TranslationResponse;
+import com.opentranslation.management.repository.TranslationLookupRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-locale Bloom filters of the translation keys that exist, so batch lookups skip the database for keys that certainly do not.
+ * <p>
+ * Used when the snapshot cache is disabled; with the cache the snapshots answer negative lookups exactly. A locale's filter is built from its keys on first use,
+ * sized at twice the current key count, and rebuilt once writes have filled it. Committed writes add their keys; deleted keys stay in the filter and only cost
+ * a query. A filter is registered before its keys are read, so a write committing during the build is either read or added, and never missed. A catalog reload
+ * drops all filters.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TranslationKeyFilter implements MeterBinder
+{
+
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+  private static final long MIN_CAPACITY = 1024;
+
+  private final TranslationLookupRepository lookupRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final boolean enabled;
+
+  private final Map<String, KeyBloomFilter> filters = new ConcurrentHashMap<>();
+  private final Map<String, KeyBloomFilter> readyFilters = new ConcurrentHashMap<>();
+
+  private final LongAdder skipped = new LongAdder();
+  private final LongAdder falsePositives = new LongAdder();
+
+  public TranslationKeyFilter(TranslationLookupRepository lookupRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.lookup.bloom-filter.enabled:true}") boolean enabled)
+  {
+    this.lookupRepository = lookupRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.enabled = enabled;
+  }
+
+  /**
+   * Keys of {@code keys} that may have a translation in the locale; every other key certainly has none.
+   */
+  public List<String> mightExist(String localeCode, Collection<String> keys)
+  {
+    if (!enabled)
+    {
+      return List.copyOf(keys);
+    }
+
+    KeyBloomFilter filter = getFilter(localeCode);
+    List<String> candidates = keys.stream()
+                                  .filter(filter::mightContain)
+                                  .toList();
+    skipped.add(keys.size() - candidates.size());
+    return candidates;
+  }
+
+  /**
+   * Record how many keys passed the filter but were not found.
+   */
+  public void recordFalsePositives(int count)
+  {
+    falsePositives.add(count);
+  }
+
+  @TransactionalEventListener
+  public void onTranslationChanged(TranslationChangedEvent event)
+  {
+    if (event.getCurrent() != null)
+    {
+      add(event.getCurrent());
+    }
+  }
+
+  @TransactionalEventListener
+  public void onTranslationBatchChanged(TranslationBatchChangedEvent event)
+  {
+    event.getChanges()
+         .forEach(this::add);
+  }
+
+  @TransactionalEventListener
+  public void onTranslationCatalogReloaded(TranslationCatalogReloadedEvent event)
+  {
+    synchronized (this)
+    {
+      filters.clear();
+      readyFilters.clear();
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry)
+  {
+    FunctionCounter.builder("translation.lookup.filter", skipped, LongAdder::sum)
+                   .tag("result", "skipped")
+                   .description("Looked up keys the Bloom filter ruled out without a query")
+                   .register(registry);
+    FunctionCounter.builder("translation.lookup.filter", falsePositives, LongAdder::sum)
+                   .tag("result", "false-positive")
+                   .description("Looked up keys that passed the Bloom filter but were not found")
+                   .register(registry);
+  }
+
+  private void add(TranslationResponse translation)
+  {
+    KeyBloomFilter filter = filters.get(translation.getLocaleCode());
+    if (filter == null)
+    {
+      return;
+    }
+    filter.put(translation.getTranslationKey());
+    if (filter.isSaturated())
+    {
+      // Rebuilt with room for the grown locale on its next lookup
+      synchronized (this)
+      {
+        filters.remove(translation.getLocaleCode(), filter);
+        readyFilters.remove(translation.getLocaleCode(), filter);
+      }
+    }
+  }
+
+  private KeyBloomFilter getFilter(String localeCode)
+  {
+    KeyBloomFilter ready = readyFilters.get(localeCode);
+    if (ready != null)
+    {
+      return ready;
+    }
+
+    synchronized (this)
+    {
+      ready = readyFilters.get(localeCode);
+      if (ready != null)
+      {
+        return ready;
+      }
+      KeyBloomFilter filter = readOnlyTransaction.execute(status -> {
+        long count = lookupRepository.countKeys(localeCode);
+        KeyBloomFilter building = new KeyBloomFilter(Math.max(MIN_CAPACITY, count * 2), FALSE_POSITIVE_RATE);
+        filters.put(localeCode, building);
+        lookupRepository.forEachKey(localeCode, building::put);
+        return building;
+      });
+      readyFilters.put(localeCode, filter);
+      log.debug("Built key filter for locale {} with {} keys", localeCode, filter.getSize());
+      return filter;
+    }
+  }
+}
@@ -0,0 +1,554 @@
+package com.opentranslation.management.cache;
+
+import com.opentranslation.management.dto.TranslationCacheStats;
+import com.opentranslation.management.dto.TranslationResponse;
+import com.opentranslation.management.model.Locale;
+import com.opentranslation.management.repository.CatalogVersionRepository;
+import com.opentranslation.management.repository.LocaleRepository;
+import com.opentranslation.management.repository.TranslationRepository;
+import com.opentranslation.management.service.TranslationTagLoader;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache of immutable per-locale translation snapshots.
+ * <p>
+ * Export and exact key lookups are served from memory. A missing locale is loaded from {@link TranslationRepository} in one streaming pass; committed writes are
+ * applied by swapping in a copied snapshot, so readers never observe a partially updated locale. When more than {@code app.cache.max-locales} locales are
+ * cached, the least recently read one is evicted and reloaded on its next access. A code that is not a locale is answered with an empty snapshot that is
+ * not cached, so requests for arbitrary codes cannot grow the cache or evict real locales.
+ * </p>
+ * <p>
+ * Catalog versions are committed without gaps and in order, but their events may arrive slightly out of order. Changes are therefore applied strictly in
+ * version order, buffering any that arrive early, so the snapshots always reflect exactly {@link #getAppliedVersion()} and versions can serve as entity tags.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TranslationSnapshotCache implements MeterBinder
+{
+
+  private static final int MAX_PENDING_CHANGES = 1024;
+  private static final int CAPTURE_ATTEMPTS = 3;
+
+  private final TranslationRepository translationRepository;
+  private final LocaleRepository localeRepository;
+  private final CatalogVersionRepository catalogVersionRepository;
+  private final TranslationTagLoader tagLoader;
+  private final ReferenceDictionary referenceDictionary;
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final boolean enabled;
+  private final int maxLocales;
+  private final boolean warmOnStartup;
+
+  private final Map<String, LocaleSnapshot> snapshots = new ConcurrentHashMap<>();
+  private final Map<String, Long> lastAccess = new ConcurrentHashMap<>();
+  private final Set<String> knownLocales = new ConcurrentSkipListSet<>();
+  private volatile boolean knownLocalesLoaded;
+
+  /**
+   * Incremented for every committed change; a snapshot loaded while it moved may be stale and is not installed.
+   */
+  private final AtomicLong changeCount = new AtomicLong();
+
+  /**
+   * Catalog version the snapshots reflect; -1 until first read from the database. Guarded by {@code this}.
+   */
+  private long appliedVersion = -1;
+
+  /**
+   * Committed changes that arrived before an earlier version, keyed by catalog version. Guarded by {@code this}.
+   */
+  private final SortedMap<Long, Runnable> pendingChanges = new TreeMap<>();
+
+  /**
+   * Catalog version of the last applied change per locale; a locale without an entry has not changed since {@link #baseVersion}.
+   */
+  private final Map<String, Long> localeVersions = new ConcurrentHashMap<>();
+  private volatile long baseVersion;
+
+  private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Key ids of the snapshots loaded from now on; replaced when every snapshot is dropped, while each snapshot keeps the dictionary it was built with.
+   */
+  private volatile TranslationKeyDictionary keyDictionary = new TranslationKeyDictionary();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder rebuilds = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public TranslationSnapshotCache(TranslationRepository translationRepository,
+                                  LocaleRepository localeRepository,
+                                  CatalogVersionRepository catalogVersionRepository,
+                                  TranslationTagLoader tagLoader,
+                                  ReferenceDictionary referenceDictionary,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.cache.enabled:true}") boolean enabled,
+                                  @Value("${app.cache.max-locales:50}") int maxLocales,
+                                  @Value("${app.cache.warm-on-startup:true}") boolean warmOnStartup)
+  {
+    this.translationRepository = translationRepository;
+    this.localeRepository = localeRepository;
+    this.catalogVersionRepository = catalogVersionRepository;
+    this.tagLoader = tagLoader;
+    this.referenceDictionary = referenceDictionary;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.enabled = enabled;
+    this.maxLocales = maxLocales;
+    this.warmOnStartup = warmOnStartup;
+  }
+
+  public boolean isEnabled()
+  {
+    return enabled;
+  }
+
+  /**
+   * Return the snapshot of a locale, loading it from the database on a miss. A code that is not a locale gets an empty snapshot that is not cached.
+   */
+  public LocaleSnapshot getSnapshot(String localeCode)
+  {
+    LocaleSnapshot snapshot = snapshots.get(localeCode);
+    if (snapshot != null)
+    {
+      hits.increment();
+      lastAccess.put(localeCode, System.nanoTime());
+      return snapshot;
+    }
+
+    misses.increment();
+    long seen = changeCount.get();
+    LocaleSnapshot loaded = load(localeCode);
+    if (loaded == null)
+    {
+      return LocaleSnapshot.of(localeCode, keyDictionary, List.of());
+    }
+    install(loaded, seen);
+    return loaded;
+  }
+
+  /**
+   * Return the snapshot of a locale together with its content version, read atomically with respect to applied changes.
+   */
+  public VersionedSnapshot getVersionedSnapshot(String localeCode)
+  {
+    LocaleSnapshot loaded = getSnapshot(localeCode);
+    synchronized (this)
+    {
+      initializeVersion();
+      LocaleSnapshot cached = snapshots.get(localeCode);
+      return cached == null
+             ? new VersionedSnapshot(loaded, -1)
+             : new VersionedSnapshot(cached, localeVersions.getOrDefault(localeCode, baseVersion));
+    }
+  }
+
+  /**
+   * Capture the snapshot of every locale together with the applied version, so an export written from them is exactly that version however long it takes.
+   * Locales not cached are loaded first; if a change is applied while they load the capture is retried. Returns empty when the catalog has more locales than
+   * the cache holds, or keeps changing.
+   */
+  public Optional<CatalogSnapshot> getCatalogSnapshot()
+  {
+    for (int attempt = 0; attempt < CAPTURE_ATTEMPTS && getLocaleCodes().size() <= maxLocales; attempt++)
+    {
+      getLocaleCodes().forEach(this::getSnapshot);
+      synchronized (this)
+      {
+        initializeVersion();
+        SortedMap<String, LocaleSnapshot> captured = new TreeMap<>();
+        for (String localeCode : knownLocales)
+        {
+          LocaleSnapshot snapshot = snapshots.get(localeCode);
+          if (snapshot == null)
+          {
+            break;
+          }
+          captured.put(localeCode, snapshot);
+        }
+        if (captured.size() == knownLocales.size())
+        {
+          return Optional.of(new CatalogSnapshot(appliedVersion, Collections.unmodifiableSortedMap(captured)));
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Codes of every locale that may hold translations, in ascending order.
+   */
+  public Collection<String> getLocaleCodes()
+  {
+    if (!knownLocalesLoaded)
+    {
+      localeRepository.findAll()
+                      .stream()
+                      .map(Locale::getCode)
+                      .forEach(knownLocales::add);
+      knownLocalesLoaded = true;
+    }
+    return Collections.unmodifiableSet(knownLocales);
+  }
+
+  /**
+   * Catalog version whose committed state the snapshots reflect.
+   */
+  public synchronized long getAppliedVersion()
+  {
+    initializeVersion();
+    return appliedVersion;
+  }
+
+  /**
+   * Catalog version of the last applied change to a locale, usable as its content version.
+   */
+  public long getLocaleVersion(String localeCode)
+  {
+    if (appliedVersion < 0)
+    {
+      getAppliedVersion();
+    }
+    return localeVersions.getOrDefault(localeCode, baseVersion);
+  }
+
+  /**
+   * Snapshot of a locale if it is cached, without loading it or counting a hit or miss.
+   */
+  LocaleSnapshot peekSnapshot(String localeCode)
+  {
+    return snapshots.get(localeCode);
+  }
+
+  /**
+   * Register a listener for the changes applied to the snapshots, e.g. to keep state derived from several locales current.
+   */
+  void addChangeListener(ChangeListener listener)
+  {
+    changeListeners.add(listener);
+  }
+
+  public TranslationCacheStats getStats()
+  {
+    return TranslationCacheStats.builder()
+                                .enabled(enabled)
+                                .hits(hits.sum())
+                                .misses(misses.sum())
+                                .rebuilds(rebuilds.sum())
+                                .evictions(evictions.sum())
+                                .cachedLocales(snapshots.size())
+                                .cachedTranslations(snapshots.values()
+                                                             .stream()
+                                                             .mapToLong(LocaleSnapshot::size)
+                                                             .sum())
+                                .build();
+  }
+
+  /**
+   * Publish the cache statistics as {@code translation.cache.*} meters.
+   */
+  @Override
+  public void bindTo(MeterRegistry registry)
+  {
+    FunctionCounter.builder("translation.cache.requests", hits, LongAdder::sum)
+                   .tag("result", "hit")
+                   .description("Snapshot lookups served from memory")
+                   .register(registry);
+    FunctionCounter.builder("translation.cache.requests", misses, LongAdder::sum)
+                   .tag("result", "miss")
+                   .description("Snapshot lookups that loaded a locale from the database")
+                   .register(registry);
+    FunctionCounter.builder("translation.cache.rebuilds", rebuilds, LongAdder::sum)
+                   .register(registry);
+    FunctionCounter.builder("translation.cache.evictions", evictions, LongAdder::sum)
+                   .register(registry);
+    Gauge.builder("translation.cache.locales", snapshots, Map::size)
+         .register(registry);
+    Gauge.builder("translation.cache.translations", this, cache -> cache.getStats()
+                                                                         .getCachedTranslations())
+         .register(registry);
+    Gauge.builder("translation.cache.keys", this, cache -> cache.keyDictionary.size())
+         .description("Distinct translation keys in the key dictionary shared by the snapshots")
+         .register(registry);
+  }
+
+  /**
+   * Record the committed catalog version and build snapshots for all locales from a single pass over {@link TranslationRepository#streamAllTranslations()}.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp()
+  {
+    if (!enabled)
+    {
+      return;
+    }
+
+    // Nothing is cached yet, so the committed version is a safe starting point even when snapshots are loaded lazily
+    synchronized (this)
+    {
+      initializeVersion();
+    }
+    if (!warmOnStartup)
+    {
+      return;
+    }
+
+    long seen = changeCount.get();
+    Map<String, List<CachedTranslation>> byLocale = new HashMap<>();
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (Stream<TranslationResponse> stream = translationRepository.streamAllTranslations())
+      {
+        forEachTagged(stream, dto -> {
+          if (byLocale.containsKey(dto.getLocaleCode()) || byLocale.size() < maxLocales)
+          {
+            byLocale.computeIfAbsent(dto.getLocaleCode(), code -> new ArrayList<>())
+                    .add(CachedTranslation.from(dto));
+          }
+        });
+      }
+    });
+    TranslationKeyDictionary dictionary = keyDictionary;
+    byLocale.forEach((code, entries) -> {
+      rebuilds.increment();
+      install(LocaleSnapshot.of(code, dictionary, entries), seen);
+    });
+    log.info("Translation cache warmed with {} locales", byLocale.size());
+  }
+
+  /**
+   * Apply a committed write to the cached snapshots of the affected locales.
+   */
+  @TransactionalEventListener
+  public synchronized void onTranslationChanged(TranslationChangedEvent event)
+  {
+    enqueue(event.getCatalogVersion(), () -> {
+      TranslationResponse current = event.getCurrent();
+      if (event.getPreviousLocaleCode() != null)
+      {
+        localeVersions.put(event.getPreviousLocaleCode(), event.getCatalogVersion());
+        snapshots.computeIfPresent(event.getPreviousLocaleCode(), (code, snapshot) -> snapshot.without(event.getPreviousKey()));
+        // An update in place is reported as the upsert below only
+        boolean moved = current == null
+                        || !Objects.equals(current.getLocaleCode(), event.getPreviousLocaleCode())
+                        || !Objects.equals(current.getTranslationKey(), event.getPreviousKey());
+        if (moved)
+        {
+          changeListeners.forEach(listener -> listener.onChanged(event.getPreviousLocaleCode(),
+                                                                 List.of(),
+                                                                 List.of(event.getPreviousKey()),
+                                                                 event.getCatalogVersion()));
+        }
+      }
+
+      if (current != null)
+      {
+        CachedTranslation translation = CachedTranslation.from(current);
+        knownLocales.add(current.getLocaleCode());
+        localeVersions.put(current.getLocaleCode(), event.getCatalogVersion());
+        snapshots.computeIfPresent(current.getLocaleCode(), (code, snapshot) -> snapshot.with(translation));
+        changeListeners.forEach(listener -> listener.onChanged(current.getLocaleCode(), List.of(translation), List.of(), event.getCatalogVersion()));
+      }
+    });
+  }
+
+  /**
+   * Apply a committed batch of writes, copying each affected locale snapshot once.
+   */
+  @TransactionalEventListener
+  public synchronized void onTranslationBatchChanged(TranslationBatchChangedEvent event)
+  {
+    enqueue(event.getCatalogVersion(), () -> {
+      Map<String, List<CachedTranslation>> byLocale = new HashMap<>();
+      for (TranslationResponse change : event.getChanges())
+      {
+        byLocale.computeIfAbsent(change.getLocaleCode(), code -> new ArrayList<>())
+                .add(CachedTranslation.from(change));
+      }
+      byLocale.forEach((localeCode, changes) -> {
+        knownLocales.add(localeCode);
+        localeVersions.put(localeCode, event.getCatalogVersion());
+        snapshots.computeIfPresent(localeCode, (code, snapshot) -> snapshot.withAll(changes));
+        changeListeners.forEach(listener -> listener.onChanged(localeCode, changes, List.of(), event.getCatalogVersion()));
+      });
+    });
+  }
+
+  /**
+   * Drop every snapshot after the catalog was rewritten wholesale; locales are reloaded on their next access.
+   */
+  @TransactionalEventListener
+  public synchronized void onTranslationCatalogReloaded(TranslationCatalogReloadedEvent event)
+  {
+    enqueue(event.getCatalogVersion(), () -> resetTo(event.getCatalogVersion()));
+  }
+
+  /**
+   * Read the committed catalog version on first use. Must hold the monitor.
+   */
+  private void initializeVersion()
+  {
+    if (appliedVersion < 0)
+    {
+      long version = readOnlyTransaction.execute(status -> catalogVersionRepository.findCurrentVersion()
+                                                                                   .orElse(0L));
+      appliedVersion = version;
+      baseVersion = version;
+      applyPendingChanges();
+    }
+  }
+
+  /**
+   * Queue a committed change and apply every queued change that is next in version order. Must hold the monitor.
+   */
+  private void enqueue(long catalogVersion, Runnable change)
+  {
+    changeCount.incrementAndGet();
+    pendingChanges.put(catalogVersion, change);
+    if (appliedVersion < 0)
+    {
+      return;
+    }
+
+    applyPendingChanges();
+    if (pendingChanges.size() > MAX_PENDING_CHANGES)
+    {
+      // A version never arrived; start over from the database rather than fall further behind
+      log.warn("Translation cache missed catalog version {}, dropping all snapshots", appliedVersion + 1);
+      resetTo(pendingChanges.lastKey());
+      pendingChanges.clear();
+    }
+  }
+
+  private void applyPendingChanges()
+  {
+    // Changes up to the applied version are already part of every snapshot loaded since
+    pendingChanges.headMap(appliedVersion + 1)
+                  .clear();
+    while (!pendingChanges.isEmpty() && pendingChanges.firstKey() == appliedVersion + 1)
+    {
+      appliedVersion = pendingChanges.firstKey();
+      pendingChanges.remove(appliedVersion)
+                    .run();
+    }
+  }
+
+  private void resetTo(long catalogVersion)
+  {
+    appliedVersion = catalogVersion;
+    baseVersion = catalogVersion;
+    localeVersions.clear();
+    snapshots.clear();
+    lastAccess.clear();
+    keyDictionary = new TranslationKeyDictionary();
+    knownLocalesLoaded = false;
+    changeListeners.forEach(ChangeListener::onReset);
+  }
+
+  /**
+   * Load the snapshot of a locale, or return {@code null} if there is no such locale.
+   */
+  private LocaleSnapshot load(String localeCode)
+  {
+    List<CachedTranslation> entries = new ArrayList<>();
+    Boolean exists = readOnlyTransaction.execute(status -> {
+      if (referenceDictionary.findLocale(localeCode)
+                             .isEmpty())
+      {
+        return false;
+      }
+
+      rebuilds.increment();
+      try (Stream<TranslationResponse> stream = translationRepository.streamTranslationsByLocale(localeCode))
+      {
+        forEachTagged(stream, dto -> entries.add(CachedTranslation.from(dto)));
+      }
+      return true;
+    });
+    return Boolean.TRUE.equals(exists) ? LocaleSnapshot.of(localeCode, keyDictionary, entries) : null;
+  }
+
+  /**
+   * Feed streamed rows to the consumer in chunks, attaching tags to each chunk with a single query.
+   */
+  private void forEachTagged(Stream<TranslationResponse> stream, Consumer<TranslationResponse> consumer)
+  {
+    List<TranslationResponse> chunk = new ArrayList<>(TranslationTagLoader.BATCH_SIZE);
+    Iterator<TranslationResponse> rows = stream.iterator();
+    while (rows.hasNext())
+    {
+      chunk.add(rows.next());
+      if (chunk.size() == TranslationTagLoader.BATCH_SIZE || !rows.hasNext())
+      {
+        tagLoader.attachTags(chunk);
+        chunk.forEach(consumer);
+        chunk.clear();
+      }
+    }
+  }
+
+  private synchronized void install(LocaleSnapshot snapshot, long seenChangeCount)
+  {
+    if (!enabled || changeCount.get() != seenChangeCount)
+    {
+      return;
+    }
+    snapshots.putIfAbsent(snapshot.getLocaleCode(), snapshot);
+    lastAccess.put(snapshot.getLocaleCode(), System.nanoTime());
+    knownLocales.add(snapshot.getLocaleCode());
+
+    while (snapshots.size() > maxLocales && !lastAccess.isEmpty())
+    {
+      lastAccess.entrySet()
+                .stream()
+                .min(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .ifPresent(coldest -> {
+                  snapshots.remove(coldest);
+                  lastAccess.remove(coldest);
+                  evictions.increment();
+                });
+    }
+  }
+
+  /**
+   * Receives the changes applied to the snapshots, in catalog version order and while the cache monitor is held, so it must not call back into synchronized
+   * methods of the cache from another thread.
+   */
+  interface ChangeListener
+  {
+    /**
+     * Translations of a locale were created or updated, and translation keys of it removed.
+     */
+    void onChanged(String localeCode, Collection<CachedTranslation> upserts, Collection<String> removedKeys, long catalogVersion);
+
+    /**
+     * Every snapshot was dropped.
+     */
+    void onReset();
+  }
+}
@@ -0,0 +1,18 @@
+package com.opentranslation.management.cache;
+
+import lombok.*;
+
+/**
+ * Locale snapshot paired with the catalog version of the last change it reflects.
+ */
+@Getter
+@AllArgsConstructor
+public class VersionedSnapshot
+{
+  private final LocaleSnapshot snapshot;
+
+  /**
+   * Content version of the locale, or -1 when the snapshot was loaded outside the cache and its version is not known exactly.
+   */
+  private final long version;
+}
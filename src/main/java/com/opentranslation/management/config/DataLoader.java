@@ -1,125 +1,342 @@
 package com.opentranslation.management.config;
 
-import java.util.HashSet;
-import java.util.Random;
-import java.util.Set;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.opentranslation.management.cache.ReferenceDictionary;
+import com.opentranslation.management.cache.TranslationCatalogReloadedEvent;
 import com.opentranslation.management.model.Locale;
-import com.opentranslation.management.model.Tag;
-import com.opentranslation.management.model.Translation;
 import com.opentranslation.management.repository.LocaleRepository;
-import com.opentranslation.management.repository.TagRepository;
+import com.opentranslation.management.repository.TranslationLoadRepository;
+import com.opentranslation.management.repository.TranslationLoadRepository.GeneratedTranslation;
 import com.opentranslation.management.repository.TranslationRepository;
+import com.opentranslation.management.service.CatalogVersionService;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Component responsible for populating the database with test data for scalability and performance testing.
  * <p>
- * This DataLoader creates a predefined set of locales and tags, and then generates a large number of translation entries (100,000 by default) with random
- * associations between locales and tags.
+ * This DataLoader creates the configured locales and tags, and then generates {@code app.test-data.records} translation entries (100,000 by default) with
+ * random associations between locales and tags. Keys are {@code key_1..key_n}; content starts with {@code Sample content i} and is padded to a length between
+ * {@code content-min-length} and {@code content-max-length}, skewed towards short strings like real UI text.
  * <p>
- * The insertion is batched for better performance. The loader will skip execution if translations already exist in the database.
+ * The key range is split into chunks of {@code chunk-size} rows that {@code threads} workers write in parallel, each chunk in its own transaction, with
+ * PostgreSQL {@code COPY} (JDBC batches on other databases). All rows share one catalog version, reserved up front in a transaction of its own so the catalog
+ * lock is released at once and API writes carry on during the load; the caches reload under that version and again, under a new one, once the last chunk is
+ * written. Chunks become visible as they commit; if one fails or the load is cancelled, the remaining chunks are abandoned and the ones already written stay behind (reload with
+ * {@code force=true}). The loader will skip execution if translations already exist in the database.
  * <p>
  * Usage:
  * <ul>
  *     <li>Run the Spring Boot application; this loader executes automatically at startup.</li>
+ *     <li>Or start a load job with {@code POST /api/test-data/load}, see {@code DataLoadJobService}.</li>
  *     <li>Useful for testing the application's performance, search capabilities, and export functionality.</li>
+ *     <li>Each worker holds a connection, so keep {@code threads} below the connection pool size.</li>
  * </ul>
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class DataLoader implements CommandLineRunner
 {
 
+  private static final String[] WORDS = {"the", "value", "is", "not", "valid", "please", "try", "again", "save", "changes", "account", "settings", "your",
+                                         "file", "was", "uploaded", "successfully", "cannot", "be", "empty", "select", "an", "option", "from", "list"};
+
   private final LocaleRepository localeRepository;
-  private final TagRepository tagRepository;
   private final TranslationRepository translationRepository;
+  private final TranslationLoadRepository loadRepository;
+  private final ReferenceDictionary referenceDictionary;
+  private final CatalogVersionService catalogVersionService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Number of translations generated by {@link #loadData}; defaults to 100,000.
+   */
+  private final int totalRecords;
+  private final List<String> localeCodes;
+  private final List<String> tagNames;
+  private final int contentMinLength;
+  private final int contentMaxLength;
+  private final int threads;
+  private final int chunkSize;
 
-  private static final int TOTAL_RECORDS = 100_000;
+  public DataLoader(LocaleRepository localeRepository,
+                    TranslationRepository translationRepository,
+                    TranslationLoadRepository loadRepository,
+                    ReferenceDictionary referenceDictionary,
+                    CatalogVersionService catalogVersionService,
+                    ApplicationEventPublisher eventPublisher,
+                    TransactionTemplate transactionTemplate,
+                    @Value("${app.test-data.records:100000}") int totalRecords,
+                    @Value("${app.test-data.locales:en,fr,es}") List<String> localeCodes,
+                    @Value("${app.test-data.tags:general,ui,error}") List<String> tagNames,
+                    @Value("${app.test-data.content-min-length:20}") int contentMinLength,
+                    @Value("${app.test-data.content-max-length:200}") int contentMaxLength,
+                    @Value("${app.test-data.threads:4}") int threads,
+                    @Value("${app.test-data.chunk-size:5000}") int chunkSize)
+  {
+    this.localeRepository = localeRepository;
+    this.translationRepository = translationRepository;
+    this.loadRepository = loadRepository;
+    this.referenceDictionary = referenceDictionary;
+    this.catalogVersionService = catalogVersionService;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = transactionTemplate;
+    this.totalRecords = totalRecords;
+    this.localeCodes = localeCodes;
+    this.tagNames = tagNames;
+    this.contentMinLength = contentMinLength;
+    this.contentMaxLength = Math.max(contentMinLength, contentMaxLength);
+    this.threads = Math.max(1, threads);
+    this.chunkSize = Math.max(1, chunkSize);
+  }
 
   @Override
-  @Transactional
   public void run(String... args) throws Exception
   {
-    loadData();
+    loadData(LoadProgress.NONE);
   }
 
-  @Transactional
-  public void loadData()
+  /**
+   * Generate the configured test data unless translations already exist.
+   *
+   * @param progress notified of the rows written and asked between chunks whether to stop
+   * @return the number of translations inserted, 0 when the load was skipped
+   * @throws CancellationException if the load was cancelled; chunks written until then are kept
+   */
+  public long loadData(LoadProgress progress)
   {
 
     if (translationRepository.count() > 0)
     {
-      return; // skip if data already exists
+      return 0; // skip if data already exists
+    }
+    progress.started(totalRecords);
+
+    // Locales and tags are committed up front, so workers can reference them from their own transactions
+    long[] localeIds = transactionTemplate.execute(status -> ensureLocales());
+    long[] tagIds = transactionTemplate.execute(status -> {
+      Map<String, Long> ids = referenceDictionary.getOrCreateTagIds(tagNames);
+      return tagNames.stream()
+                     .mapToLong(ids::get)
+                     .toArray();
+    });
+
+    long started = System.nanoTime();
+    AtomicLong written = new AtomicLong();
+    // Holding the counter row's lock for the whole load would block every API write on it, each waiting with a pooled connection the workers need.
+    // Caches apply versions in order, so the reserved one is published right away instead of holding back every write made during the load.
+    long catalogVersion = transactionTemplate.execute(status -> publishReload());
+    RuntimeException failure = null;
+    try
+    {
+      generate(localeIds, tagIds, catalogVersion, written, progress);
+    }
+    catch (RuntimeException e)
+    {
+      failure = e;
+    }
+    // Chunks are committed as they are written, so the cache reloads even when the load stops early. Chunks stamped with the reserved version may commit
+    // after a client synced past it, so the reset recorded here is what sends such clients back to a full export.
+    transactionTemplate.execute(status -> publishReload());
+
+    long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+    if (failure != null)
+    {
+      log.warn("Test data insertion stopped after {} of {} translations in {} ms", written.get(), totalRecords, elapsedMs);
+      throw failure;
+    }
+    log.info("Test data insertion complete: {} translations in {} ms ({} rows/sec, {} threads, {})",
+             totalRecords,
+             elapsedMs,
+             totalRecords * 1000L / elapsedMs,
+             threads,
+             loadRepository.isCopySupported() ? "COPY" : "JDBC batch");
+    return totalRecords;
+  }
+
+  /**
+   * Delete all translations with set-based statements under a new catalog version, and reload the cache once committed.
+   * <p>
+   * No tombstones are written, so the purge is recorded as a reset of the catalog and {@code /api/translations/changes} answers clients that synced before it
+   * with 410 Gone: they must export the catalog again.
+   * </p>
+   *
+   * @return the number of translations deleted
+   */
+  public long purge()
+  {
+    long purged = transactionTemplate.execute(status -> {
+      publishReload();
+      return loadRepository.purge();
+    });
+    log.info("Purged {} translations", purged);
+    return purged;
+  }
+
+  /**
+   * Allocate a catalog version recorded as a reset, since rows are written or removed without tombstones, and have the caches reload once the surrounding
+   * transaction commits.
+   */
+  private long publishReload()
+  {
+    long catalogVersion = catalogVersionService.reset();
+    eventPublisher.publishEvent(new TranslationCatalogReloadedEvent(catalogVersion));
+    return catalogVersion;
+  }
+
+  private long[] ensureLocales()
+  {
+    long[] ids = new long[localeCodes.size()];
+    for (int i = 0; i < ids.length; i++)
+    {
+      String code = localeCodes.get(i);
+      Locale locale = referenceDictionary.findLocale(code)
+                                         .orElseGet(() -> {
+                                           Locale created = localeRepository.saveAndFlush(Locale.builder()
+                                                                                                .code(code)
+                                                                                                .build());
+                                           referenceDictionary.putLocale(created);
+                                           return created;
+                                         });
+      ids[i] = locale.getId();
     }
+    return ids;
+  }
 
-    // Ensure locales exist
-    Locale en = localeRepository.findByCode("en")
-                                .orElseGet(() -> localeRepository.save(Locale.builder()
-                                                                             .code("en")
-                                                                             .build()));
-    Locale fr = localeRepository.findByCode("fr")
-                                .orElseGet(() -> localeRepository.save(Locale.builder()
-                                                                             .code("fr")
-                                                                             .build()));
-    Locale es = localeRepository.findByCode("es")
-                                .orElseGet(() -> localeRepository.save(Locale.builder()
-                                                                             .code("es")
-                                                                             .build()));
-
-    Locale[] locales = new Locale[]{en, fr, es};
-
-    // Ensure some tags exist
-    Tag general = tagRepository.findByName("general")
-                               .orElseGet(() -> tagRepository.save(Tag.builder()
-                                                                      .name("general")
-                                                                      .build()));
-    Tag ui = tagRepository.findByName("ui")
-                          .orElseGet(() -> tagRepository.save(Tag.builder()
-                                                                 .name("ui")
-                                                                 .build()));
-    Tag error = tagRepository.findByName("error")
-                             .orElseGet(() -> tagRepository.save(Tag.builder()
-                                                                    .name("error")
-                                                                    .build()));
-
-    Tag[] tags = new Tag[]{general, ui, error};
-
-    Random random = new Random();
-    Set<Translation> batch = new HashSet<>();
-
-    for (int i = 1; i <= TOTAL_RECORDS; i++)
-    {
-      Locale locale = locales[random.nextInt(locales.length)];
-
-      Set<Tag> translationTags = new HashSet<>();
-      translationTags.add(tags[random.nextInt(tags.length)]);
-
-      Translation t = Translation.builder()
-                                 .translationKey("key_" + i)
-                                 .locale(locale)
-                                 .content("Sample content " + i)
-                                 .tags(translationTags)
-                                 .build();
-      batch.add(t);
-      if (i % 1000 == 0)
+  private void generate(long[] localeIds, long[] tagIds, long catalogVersion, AtomicLong written, LoadProgress progress)
+  {
+    ExecutorService workers = Executors.newFixedThreadPool(threads,
+                                                           Thread.ofPlatform()
+                                                                 .name("test-data-", 1)
+                                                                 .factory());
+    long progressStep = Math.max(chunkSize, totalRecords / 10);
+    List<Future<?>> chunks = new ArrayList<>();
+    try
+    {
+      for (int first = 1; first <= totalRecords; first += chunkSize)
       {
-        translationRepository.saveAll(batch);
-        batch.clear();
-        System.out.println("Inserted " + i + " translations");
+        int from = first;
+        int to = Math.min(totalRecords, first + chunkSize - 1);
+        chunks.add(workers.submit(() -> {
+          if (progress.isCancelled())
+          {
+            return;
+          }
+          transactionTemplate.executeWithoutResult(status -> writeChunk(from, to, localeIds, tagIds, catalogVersion));
+          long total = written.addAndGet(to - from + 1);
+          progress.written(total);
+          if (total / progressStep != (total - (to - from + 1)) / progressStep)
+          {
+            log.info("Inserted {} of {} translations", total, totalRecords);
+          }
+        }));
       }
+      for (Future<?> chunk : chunks)
+      {
+        chunk.get();
+      }
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread()
+            .interrupt();
+      throw new IllegalStateException("Test data load interrupted", e);
+    }
+    catch (ExecutionException e)
+    {
+      throw new IllegalStateException("Test data load failed after " + written.get() + " translations", e.getCause());
+    }
+    finally
+    {
+      workers.shutdownNow();
+    }
+
+    if (progress.isCancelled() && written.get() < totalRecords)
+    {
+      throw new CancellationException("Test data load cancelled after " + written.get() + " translations");
+    }
+  }
+
+  /**
+   * Generate and write translations {@code from..to}. The random source is seeded with the first key, so a chunk's rows do not depend on which worker runs it.
+   */
+  private void writeChunk(int from, int to, long[] localeIds, long[] tagIds, long catalogVersion)
+  {
+    SplittableRandom random = new SplittableRandom(from);
+    long[] ids = loadRepository.allocateIds(to - from + 1);
+    List<GeneratedTranslation> rows = new ArrayList<>(ids.length);
+    for (int i = from; i <= to; i++)
+    {
+      rows.add(new GeneratedTranslation(ids[i - from],
+                                        "key_" + i,
+                                        localeIds[random.nextInt(localeIds.length)],
+                                        content(i, random),
+                                        tagIds[random.nextInt(tagIds.length)]));
+    }
+    loadRepository.insert(rows, OffsetDateTime.now(), catalogVersion);
+  }
+
+  private String content(int i, SplittableRandom random)
+  {
+    // Cubing a uniform value skews lengths towards the minimum: most strings are short labels, a few are long messages
+    double skew = Math.pow(random.nextDouble(), 3);
+    int length = contentMinLength + (int) Math.round(skew * (contentMaxLength - contentMinLength));
+
+    StringBuilder content = new StringBuilder(length + 16).append("Sample content ")
+                                                          .append(i);
+    int prefixLength = content.length();
+    while (content.length() < length)
+    {
+      content.append(' ')
+             .append(WORDS[random.nextInt(WORDS.length)]);
     }
-    if (!batch.isEmpty())
+    content.setLength(Math.max(length, prefixLength));
+    return content.toString();
+  }
+
+  /**
+   * Receives progress of a load and decides whether it goes on. Callbacks come from the worker threads.
+   */
+  public interface LoadProgress
+  {
+
+    LoadProgress NONE = new LoadProgress()
+    {
+    };
+
+    default void started(long totalRecords)
     {
-      translationRepository.saveAll(batch);
     }
 
-    System.out.println("Test data insertion complete!");
+    default void written(long insertedRecords)
+    {
+    }
+
+    /**
+     * Checked before each chunk; chunks already being written are completed.
+     */
+    default boolean isCancelled()
+    {
+      return false;
+    }
   }
 
 }
@@ -1,5 +1,10 @@
 package com.opentranslation.management.config;
 
+import jakarta.servlet.DispatcherType;
+
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -40,7 +45,8 @@ public class SecurityConfig
    * Configures the Spring Security filter chain.
    * <p>
    * Disables CSRF, sets the session management policy to stateless, allows token generation endpoint without authentication, and requires JWT for all other
-   * endpoints.
+   * endpoints. Async and error dispatches are permitted: the JWT is checked on the initial request, and the stateless context is not carried over to the
+   * dispatch that completes a streamed response. The health and Prometheus actuator endpoints are open to probes and scrapers.
    * </p>
    *
    * @param http the {@link HttpSecurity} object to configure
@@ -52,8 +58,12 @@ public class SecurityConfig
   {
     http.csrf(csrf -> csrf.disable())
         .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-        .authorizeHttpRequests(auth -> auth.requestMatchers("/api/auth/token")
+        .authorizeHttpRequests(auth -> auth.dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR)
+                                           .permitAll()  // streamed responses re-dispatch after the original request was authorized
+                                           .requestMatchers("/api/auth/token")
                                            .permitAll()  // allow token generation without auth
+                                           .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class))
+                                           .permitAll()  // probes and scrapers, served on the management port
                                            .anyRequest()
                                            .authenticated()                     // everything else requires JWT
         );
@@ -0,0 +1,61 @@
+package com.opentranslation.management.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.opentranslation.management.dto.ContentSearchMode;
+import com.opentranslation.management.dto.PagingMode;
+
+/**
+ * Spring MVC configuration for request parameter binding.
+ * <p>
+ * Search and paging modes are documented in lower case ({@code mode=fulltext}, {@code paging=cursor}), while Spring's default enum conversion only accepts
+ * the exact constant name, so the enum parameters of the API are bound case-insensitively.
+ * </p>
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer
+{
+
+  @Override
+  public void addFormatters(FormatterRegistry registry)
+  {
+    registry.addConverter(String.class, ContentSearchMode.class, new CaseInsensitiveEnumConverter<>(ContentSearchMode.class));
+    registry.addConverter(String.class, PagingMode.class, new CaseInsensitiveEnumConverter<>(PagingMode.class));
+  }
+
+  /**
+   * Converts a request parameter to the enum constant of the same name, ignoring case and surrounding whitespace. An empty value converts to {@code null}, so
+   * the parameter's default applies as with Spring's own conversion.
+   */
+  static final class CaseInsensitiveEnumConverter<E extends Enum<E>> implements Converter<String, E>
+  {
+    private final Class<E> enumType;
+
+    CaseInsensitiveEnumConverter(Class<E> enumType)
+    {
+      this.enumType = enumType;
+    }
+
+    @Override
+    public E convert(String source)
+    {
+      String value = source.trim();
+      if (value.isEmpty())
+      {
+        return null;
+      }
+      for (E constant : enumType.getEnumConstants())
+      {
+        if (constant.name()
+                    .equalsIgnoreCase(value))
+        {
+          return constant;
+        }
+      }
+      throw new IllegalArgumentException("No " + enumType.getSimpleName() + " named " + value);
+    }
+  }
+}
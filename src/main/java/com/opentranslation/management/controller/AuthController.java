@@ -3,6 +3,8 @@ package com.opentranslation.management.controller;
 import java.util.Map;
 import java.util.Set;
 
+import com.opentranslation.management.dto.JwtAuthenticationStats;
+import com.opentranslation.management.security.JwtTokenCache;
 import com.opentranslation.management.security.JwtUtil;
 
 import org.springframework.http.ResponseEntity;
@@ -24,6 +26,11 @@ public class AuthController
    */
   private final JwtUtil jwtUtil;
 
+  /**
+   * Cache of verified tokens used by the JWT filter, queried for authentication statistics.
+   */
+  private final JwtTokenCache tokenCache;
+
   /**
    * Set of valid client codes allowed to request a JWT token.
    */
@@ -32,11 +39,13 @@ public class AuthController
   /**
    * Constructs the AuthController with the provided JWT utility.
    *
-   * @param jwtUtil the JWT utility for token generation and validation
+   * @param jwtUtil    the JWT utility for token generation and validation
+   * @param tokenCache the cache of verified tokens
    */
-  public AuthController(JwtUtil jwtUtil)
+  public AuthController(JwtUtil jwtUtil, JwtTokenCache tokenCache)
   {
     this.jwtUtil = jwtUtil;
+    this.tokenCache = tokenCache;
   }
 
   /**
@@ -60,4 +69,15 @@ public class AuthController
     String token = jwtUtil.generateToken(clientCode);
     return ResponseEntity.ok(Map.of("token", token));
   }
+
+  /**
+   * Returns token cache hit rate and the average time spent authenticating a request.
+   *
+   * @return {@link ResponseEntity} containing the authentication statistics
+   */
+  @GetMapping("/stats")
+  public ResponseEntity<JwtAuthenticationStats> getStats()
+  {
+    return ResponseEntity.ok(tokenCache.getStats());
+  }
 }
@@ -1,30 +1,46 @@
 package com.opentranslation.management.controller;
 
-import com.opentranslation.management.config.DataLoader;
-import com.opentranslation.management.repository.TranslationRepository;
+import com.opentranslation.management.dto.DataLoadJobResponse;
+import com.opentranslation.management.service.DataLoadJobService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/test-data")
 @RequiredArgsConstructor
 public class LoadDataController {
 
-  private final DataLoader dataLoader;
-  private final TranslationRepository translationRepository;
+  private final DataLoadJobService dataLoadJobService;
 
   /**
-   * Trigger insertion of test data on demand.
+   * Start insertion of test data on demand and return the queued job without waiting for it.
    * Useful for Dockerized environments without restarting the container.
    */
   @PostMapping("/load")
-  public ResponseEntity<String> loadTestData(@RequestParam(defaultValue = "false") boolean force) {
-    if (force) {
-      translationRepository.deleteAll();
-    }
-    dataLoader.loadData();
-    return ResponseEntity.ok("Test data insertion triggered!");
+  public ResponseEntity<DataLoadJobResponse> loadTestData(@RequestParam(defaultValue = "false") boolean force) {
+    DataLoadJobResponse job = dataLoadJobService.submit(force);
+    return ResponseEntity.accepted()
+                         .location(URI.create("/api/test-data/jobs/" + job.getId()))
+                         .body(job);
+  }
+
+  /**
+   * Progress and throughput of a load job.
+   */
+  @GetMapping("/jobs/{id}")
+  public ResponseEntity<DataLoadJobResponse> getJob(@PathVariable String id) {
+    return ResponseEntity.of(dataLoadJobService.getJob(id));
+  }
+
+  /**
+   * Cancel a load job; a running job stops before its next chunk.
+   */
+  @DeleteMapping("/jobs/{id}")
+  public ResponseEntity<DataLoadJobResponse> cancelJob(@PathVariable String id) {
+    return ResponseEntity.of(dataLoadJobService.cancel(id));
   }
 }
@@ -13,7 +13,7 @@ import lombok.RequiredArgsConstructor;
 /**
  * Controller responsible for managing locales in the translation system.
  * <p>
- * Provides endpoints to create, retrieve by ID, and list all locales.
+ * Provides endpoints to create, retrieve by ID, and list all locales, and to set the locale a locale falls back to for the keys it lacks.
  * </p>
  */
 @RestController
@@ -30,13 +30,35 @@ public class LocaleController
   /**
    * Creates a new locale with the specified code.
    *
-   * @param code the locale code (e.g., "en_US", "fr_FR")
+   * @param code   the locale code (e.g., "en_US", "fr_FR")
+   * @param parent optional code of the locale to fall back to (e.g., "fr" for "fr_CA")
    * @return {@link ResponseEntity} containing the created {@link LocaleDto}
    */
   @PostMapping
-  public ResponseEntity<LocaleDto> createLocale(@RequestParam String code)
+  public ResponseEntity<LocaleDto> createLocale(@RequestParam String code, @RequestParam(required = false) String parent)
   {
-    return ResponseEntity.ok(localeService.createLocale(code));
+    return ResponseEntity.ok(localeService.createLocale(code, parent));
+  }
+
+  /**
+   * Sets the locale a locale falls back to, or makes it a root locale when no parent is given.
+   *
+   * @param id     the ID of the locale
+   * @param parent optional code of the locale to fall back to
+   * @return {@link ResponseEntity} containing the updated {@link LocaleDto}, or {@code 400 Bad Request} if the fallback chain would form a cycle
+   */
+  @PutMapping("/{id}/parent")
+  public ResponseEntity<?> setParent(@PathVariable Long id, @RequestParam(required = false) String parent)
+  {
+    try
+    {
+      return ResponseEntity.ok(localeService.setParent(id, parent));
+    }
+    catch (IllegalArgumentException e)
+    {
+      return ResponseEntity.badRequest()
+                           .body(e.getMessage());
+    }
   }
 
   /**
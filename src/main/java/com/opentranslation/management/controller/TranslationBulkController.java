@@ -0,0 +1,59 @@
+package com.opentranslation.management.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.opentranslation.management.dto.BulkTranslationResponse;
+import com.opentranslation.management.dto.TranslationRequest;
+import com.opentranslation.management.service.TranslationBulkService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controller responsible for importing many translations in one request.
+ * <p>
+ * Accepts either a JSON array or newline-delimited JSON of translation requests and upserts them on translation key and locale, returning the outcome of every
+ * row together with throughput statistics.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/translations/bulk")
+@RequiredArgsConstructor
+public class TranslationBulkController
+{
+
+  /**
+   * Service responsible for batched translation upserts.
+   */
+  private final TranslationBulkService translationBulkService;
+
+  /**
+   * Upserts a JSON array of translations.
+   *
+   * @param requests the translations to create or update
+   * @return {@link ResponseEntity} containing per-row outcomes and throughput statistics
+   */
+  @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<BulkTranslationResponse> upsertTranslations(@RequestBody List<TranslationRequest> requests)
+  {
+    return ResponseEntity.ok(translationBulkService.upsert(requests));
+  }
+
+  /**
+   * Upserts translations sent as newline-delimited JSON, one translation per line.
+   *
+   * @param body the raw request body
+   * @return {@link ResponseEntity} containing per-row outcomes and throughput statistics
+   * @throws IOException if the body cannot be read; a line that cannot be parsed is reported as a failed row
+   */
+  @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<BulkTranslationResponse> upsertTranslationsNdjson(InputStream body) throws IOException
+  {
+    return ResponseEntity.ok(translationBulkService.upsertNdjson(body));
+  }
+}
@@ -1,18 +1,37 @@
 package com.opentranslation.management.controller;
 
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.opentranslation.management.cache.CatalogSnapshot;
+import com.opentranslation.management.cache.LocaleExportArtifact;
+import com.opentranslation.management.dto.ChangesCursor;
+import com.opentranslation.management.dto.ContentSearchMode;
+import com.opentranslation.management.dto.CursorPage;
+import com.opentranslation.management.dto.PagingMode;
+import com.opentranslation.management.dto.SearchCursor;
+import com.opentranslation.management.dto.TranslationCacheStats;
+import com.opentranslation.management.dto.TranslationChangesResponse;
 import com.opentranslation.management.dto.TranslationRequest;
 import com.opentranslation.management.dto.TranslationResponse;
+import com.opentranslation.management.dto.VersionedResponse;
 import com.opentranslation.management.service.TranslationService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +48,16 @@ import lombok.RequiredArgsConstructor;
 public class TranslationController
 {
 
+  /**
+   * Response header carrying the catalog version an export is complete up to.
+   */
+  public static final String CATALOG_VERSION_HEADER = "X-Catalog-Version";
+
+  /**
+   * Upper bound on the changes of one delta sync response.
+   */
+  public static final int MAX_CHANGES_LIMIT = 10_000;
+
   private final TranslationService translationService;
 
   @PostMapping
@@ -43,34 +72,160 @@ public class TranslationController
     return ResponseEntity.ok(translationService.updateTranslation(id, request));
   }
 
+  /**
+   * Read a translation with a strong {@code ETag}. A matching {@code If-None-Match} is answered with {@code 304 Not Modified}, straight from the snapshot cache
+   * when it proves the locale unchanged and otherwise after reading the row but before serializing it.
+   */
   @GetMapping("/{id}")
-  public ResponseEntity<TranslationResponse> getTranslation(@PathVariable Long id)
+  public ResponseEntity<TranslationResponse> getTranslation(@PathVariable Long id,
+                                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
   {
-    return ResponseEntity.ok(translationService.getTranslation(id));
+    for (String tag : opaqueTags(ifNoneMatch))
+    {
+      if (translationService.isTranslationUnchanged(id, tag))
+      {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                             .eTag("\"" + tag + "\"")
+                             .build();
+      }
+    }
+
+    VersionedResponse<TranslationResponse> translation = translationService.getVersionedTranslation(id);
+    if (matches(ifNoneMatch, translation.getETag()))
+    {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                           .eTag(translation.getETag())
+                           .build();
+    }
+    return ResponseEntity.ok()
+                         .eTag(translation.getETag())
+                         .body(translation.getBody());
+  }
+
+  @DeleteMapping("/{id}")
+  public ResponseEntity<Void> deleteTranslation(@PathVariable Long id)
+  {
+    translationService.deleteTranslation(id);
+    return ResponseEntity.noContent()
+                         .build();
+  }
+
+  /**
+   * Delta sync: translations written or deleted since a catalog version or an ISO-8601 timestamp, optionally for a single locale.
+   * <p>
+   * Clients take the {@value #CATALOG_VERSION_HEADER} header of a full export (or the {@code version} of a previous response) and pass it as {@code since}, so
+   * the response size follows the number of changes rather than the size of the catalog.
+   * </p>
+   * <p>
+   * A response holds at most {@code limit} changes. When more follow it sets {@code hasMore}, and its {@code nextSince} is passed as {@code since} to read the
+   * next page.
+   * </p>
+   */
+  @GetMapping("/changes")
+  public ResponseEntity<?> getChanges(@RequestParam String since,
+                                      @RequestParam(required = false) String locale,
+                                      @RequestParam(defaultValue = "1000") int limit)
+  {
+    if (limit < 1 || limit > MAX_CHANGES_LIMIT)
+    {
+      return ResponseEntity.badRequest()
+                           .body("limit must be between 1 and " + MAX_CHANGES_LIMIT);
+    }
+
+    TranslationChangesResponse changes;
+    try
+    {
+      if (!since.isEmpty() && since.chars()
+                                   .allMatch(Character::isDigit))
+      {
+        changes = translationService.getChangesSinceVersion(Long.parseLong(since), locale, limit);
+      }
+      else if (since.contains(":"))
+      {
+        changes = translationService.getChangesSince(OffsetDateTime.parse(since), locale, limit);
+      }
+      else
+      {
+        changes = translationService.getChangesAfter(ChangesCursor.decode(since), locale, limit);
+      }
+    }
+    catch (IllegalArgumentException | DateTimeParseException e)
+    {
+      return ResponseEntity.badRequest()
+                           .body("since must be a catalog version, an ISO-8601 timestamp or the nextSince of a previous response");
+    }
+    return ResponseEntity.ok(changes);
   }
 
   /**
    * Search translations with pagination. Only one filter type can be applied per request.
+   * <p>
+   * Content search defaults to a case-insensitive substring match; {@code mode=fulltext} matches whole words through the full-text index instead, optionally
+   * treating the last word as a prefix and ordering by relevance. {@code mode=trigram} matches fragments of content or key through the trigram indexes and
+   * returns a {@link CursorPage}: pass its {@code nextCursor} back as {@code cursor} to read the next slice.
+   * </p>
+   * <p>
+   * With {@code paging=cursor} the key, content and tag searches return a {@link CursorPage} as well, so walking a whole result set reads each row once instead
+   * of re-scanning skipped rows and counting on every page.
+   * </p>
    */
   @GetMapping("/search")
-  public ResponseEntity<Page<TranslationResponse>> searchTranslations(@RequestParam(required = false) String key,
-                                                                      @RequestParam(required = false) String locale,
-                                                                      @RequestParam(required = false) String content,
-                                                                      @RequestParam(required = false) String tag,
-                                                                      @RequestParam(defaultValue = "0") int page,
-                                                                      @RequestParam(defaultValue = "50") int size)
+  public ResponseEntity<?> searchTranslations(@RequestParam(required = false) String key,
+                                              @RequestParam(required = false) String locale,
+                                              @RequestParam(required = false) String content,
+                                              @RequestParam(required = false) String tag,
+                                              @RequestParam(defaultValue = "LIKE") ContentSearchMode mode,
+                                              @RequestParam(defaultValue = "false") boolean prefix,
+                                              @RequestParam(defaultValue = "false") boolean rank,
+                                              @RequestParam(defaultValue = "OFFSET") PagingMode paging,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "0") int page,
+                                              @RequestParam(defaultValue = "50") int size)
   {
 
     PageRequest pageRequest = PageRequest.of(page, size);
 
-    if (key != null && locale != null)
+    SearchCursor after;
+    try
+    {
+      after = cursor == null ? null : SearchCursor.decode(cursor);
+    }
+    catch (IllegalArgumentException e)
+    {
+      return ResponseEntity.badRequest()
+                           .body("Invalid cursor");
+    }
+
+    boolean keyset = paging == PagingMode.CURSOR || cursor != null;
+
+    if (key != null && locale != null && keyset)
+    {
+      return ResponseEntity.ok(translationService.scrollByKeyAndLocale(key, locale, after, size));
+    }
+    else if (key != null && locale != null)
     {
       return ResponseEntity.ok(translationService.searchByKeyAndLocale(key, locale, pageRequest));
     }
+    else if (content != null && mode == ContentSearchMode.TRIGRAM)
+    {
+      return ResponseEntity.ok(translationService.searchByFragment(content, after, size));
+    }
+    else if (content != null && mode == ContentSearchMode.FULLTEXT)
+    {
+      return ResponseEntity.ok(translationService.searchByContentFullText(content, prefix, rank, pageRequest));
+    }
+    else if (content != null && keyset)
+    {
+      return ResponseEntity.ok(translationService.scrollByContent(content, after, size));
+    }
     else if (content != null)
     {
       return ResponseEntity.ok(translationService.searchByContent(content, pageRequest));
     }
+    else if (tag != null && keyset)
+    {
+      return ResponseEntity.ok(translationService.scrollByTag(tag, after, size));
+    }
     else if (tag != null)
     {
       return ResponseEntity.ok(translationService.searchByTag(tag, pageRequest));
@@ -81,12 +236,161 @@ public class TranslationController
   }
 
   /**
-   * Export translations as nested JSON grouped by locale and translation key. Uses streaming to efficiently handle large datasets.
+   * Export translations as nested JSON grouped by locale and translation key. The document is written to the response as rows are read from the database, so
+   * the catalog is never materialized in memory. The {@value #CATALOG_VERSION_HEADER} header is the starting point for subsequent {@code /changes} requests.
+   * <p>
+   * The {@code ETag} is derived from the catalog version, so a matching {@code If-None-Match} is answered with {@code 304 Not Modified} before any row is read
+   * or serialized. The locale snapshots are captured with the version before the response starts, so the body is exactly the version of a strong tag; when
+   * they cannot be captured the tag is weak.
+   * </p>
    */
   @GetMapping("/export")
-  public ResponseEntity<Map<String, Map<String, String>>> exportTranslations()
+  public ResponseEntity<StreamingResponseBody> exportTranslations(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
   {
-    Map<String, Map<String, String>> export = translationService.exportTranslations();
-    return ResponseEntity.ok(export);
+    CatalogSnapshot catalog = translationService.getExportSnapshot();
+    long version = catalog.getVersion();
+    String eTag = translationService.getExportETag(catalog);
+    if (matches(ifNoneMatch, eTag))
+    {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                           .eTag(eTag)
+                           .header(CATALOG_VERSION_HEADER, String.valueOf(version))
+                           .build();
+    }
+    return ResponseEntity.ok()
+                         .eTag(eTag)
+                         .header(CATALOG_VERSION_HEADER, String.valueOf(version))
+                         .contentType(MediaType.APPLICATION_JSON)
+                         .body(out -> translationService.writeExport(catalog, out));
+  }
+
+  /**
+   * Export the translations of one locale as a flat JSON object of translation key to content, optionally only those carrying {@code tag}.
+   * <p>
+   * With {@code resolved=true} the locale is merged with the locales it falls back to ({@code fr-CA → fr → en}), its own keys overriding those of its
+   * ancestors, so a regional locale is complete in one request.
+   * </p>
+   * <p>
+   * Without a tag filter the document is served from a precomputed artifact with an {@code ETag} per locale content version and encoding: gzip-compressed
+   * when the client accepts it, so a request costs a byte copy instead of serialization and compression, and otherwise serialized from the snapshots the
+   * artifact was built from.
+   * </p>
+   */
+  @GetMapping("/export/{locale}")
+  public ResponseEntity<StreamingResponseBody> exportLocale(@PathVariable String locale,
+                                                            @RequestParam(required = false) String tag,
+                                                            @RequestParam(defaultValue = "false") boolean resolved,
+                                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
+    throws IOException
+  {
+    Optional<LocaleExportArtifact> precomputed;
+    if (tag != null)
+    {
+      precomputed = Optional.empty();
+    }
+    else
+    {
+      precomputed = resolved ? translationService.findResolvedExportArtifact(locale) : translationService.findLocaleExportArtifact(locale);
+    }
+    if (precomputed.isEmpty())
+    {
+      return ResponseEntity.ok()
+                           .contentType(MediaType.APPLICATION_JSON)
+                           .body(out -> {
+                             if (resolved)
+                             {
+                               translationService.writeResolvedLocaleExport(locale, tag, out);
+                             }
+                             else
+                             {
+                               translationService.writeLocaleExport(locale, tag, out);
+                             }
+                           });
+    }
+
+    LocaleExportArtifact artifact = precomputed.get();
+    boolean gzip = acceptsGzip(acceptEncoding);
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .contentLength(gzip ? artifact.getGzip().length : artifact.getJsonLength())
+                                                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip)
+    {
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    if (artifact.getVersion() >= 0)
+    {
+      // Strong validators differ per content coding; a resolved export also changes with its fallback chain
+      String eTag = "\"" + String.join(".", artifact.getChain()) + "." + artifact.getVersion() + (gzip ? ".gz" : "") + "\"";
+      if (matches(ifNoneMatch, eTag))
+      {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                             .eTag(eTag)
+                             .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                             .build();
+      }
+      response.eTag(eTag);
+    }
+    return response.body(out -> translationService.writeLocaleExportArtifact(artifact, gzip, out));
+  }
+
+  /**
+   * Hit, miss, rebuild and eviction counters of the in-memory translation snapshot cache.
+   */
+  @GetMapping("/cache/stats")
+  public ResponseEntity<TranslationCacheStats> getCacheStats()
+  {
+    return ResponseEntity.ok(translationService.getCacheStats());
+  }
+
+  /**
+   * Weak comparison of an {@code If-None-Match} header against an entity tag, as required for conditional GET.
+   */
+  private static boolean matches(String ifNoneMatch, String eTag)
+  {
+    if (ifNoneMatch == null)
+    {
+      return false;
+    }
+    String opaqueTag = opaqueTags(eTag).get(0);
+    return ifNoneMatch.trim()
+                      .equals("*") || opaqueTags(ifNoneMatch).contains(opaqueTag);
+  }
+
+  /**
+   * Whether an {@code Accept-Encoding} header admits gzip, i.e. lists {@code gzip} or {@code *} without {@code q=0}.
+   */
+  private static boolean acceptsGzip(String acceptEncoding)
+  {
+    if (acceptEncoding == null)
+    {
+      return false;
+    }
+    return Arrays.stream(acceptEncoding.split(","))
+                 .map(coding -> coding.trim()
+                                      .split("\\s*;\\s*"))
+                 .anyMatch(coding -> (coding[0].equalsIgnoreCase("gzip") || coding[0].equals("*"))
+                                     && Arrays.stream(coding)
+                                              .skip(1)
+                                              .noneMatch(param -> param.replace(" ", "")
+                                                                       .matches("q=0(\\.0*)?")));
+  }
+
+  /**
+   * Opaque values of a comma separated list of entity tags, without weak prefixes and quotes.
+   */
+  private static List<String> opaqueTags(String header)
+  {
+    if (header == null)
+    {
+      return List.of();
+    }
+    return Arrays.stream(header.split(","))
+                 .map(String::trim)
+                 .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                 .map(tag -> tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"") ? tag.substring(1, tag.length() - 1) : tag)
+                 .filter(tag -> !tag.isEmpty() && !tag.equals("*"))
+                 .toList();
   }
 }
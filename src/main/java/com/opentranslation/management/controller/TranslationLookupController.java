@@ -0,0 +1,57 @@
+package com.opentranslation.management.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.opentranslation.management.dto.TranslationLookupRequest;
+import com.opentranslation.management.service.TranslationLookupService;
+
+/**
+ * Controller resolving many translation keys in one request, e.g. every key a server-rendered page needs.
+ */
+@RestController
+@RequestMapping("/api/translations/lookup")
+public class TranslationLookupController
+{
+
+  /**
+   * Service responsible for batch key lookups.
+   */
+  private final TranslationLookupService translationLookupService;
+
+  /**
+   * Upper bound on the keys of one request.
+   */
+  private final int maxKeys;
+
+  public TranslationLookupController(TranslationLookupService translationLookupService, @Value("${app.lookup.max-keys:1000}") int maxKeys)
+  {
+    this.translationLookupService = translationLookupService;
+    this.maxKeys = maxKeys;
+  }
+
+  /**
+   * Resolves the given keys in a locale, trying the fallback locales in order for keys it lacks.
+   *
+   * @param request the locale, optional fallback locales and the keys to resolve
+   * @return {@link ResponseEntity} containing key to content, the fallback locale of each key resolved from one, and the keys found nowhere
+   */
+  @PostMapping
+  public ResponseEntity<?> lookupTranslations(@RequestBody TranslationLookupRequest request)
+  {
+    if (request.getLocaleCode() == null || request.getKeys() == null || request.getKeys()
+                                                                             .contains(null))
+    {
+      return ResponseEntity.badRequest()
+                           .body("localeCode and keys are required");
+    }
+    if (request.getKeys()
+               .size() > maxKeys)
+    {
+      return ResponseEntity.badRequest()
+                           .body("At most " + maxKeys + " keys can be looked up at once");
+    }
+    return ResponseEntity.ok(translationLookupService.lookup(request));
+  }
+}
@@ -0,0 +1,18 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRowResult
+{
+  private int index;
+  private String translationKey;
+  private String localeCode;
+  private Long id;
+  private BulkRowStatus status;
+  private String error;
+}
@@ -0,0 +1,11 @@
+package com.opentranslation.management.dto;
+
+/**
+ * Outcome of a single row of a bulk translation upsert.
+ */
+public enum BulkRowStatus
+{
+  CREATED,
+  UPDATED,
+  FAILED
+}
@@ -0,0 +1,21 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTranslationResponse
+{
+  private int total;
+  private int created;
+  private int updated;
+  private int failed;
+  private long elapsedMs;
+  private double rowsPerSecond;
+  private List<BulkRowResult> results;
+}
@@ -0,0 +1,66 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the delta sync after the last change of a page. Within a catalog version writes are listed before deletions, each in id order, so the position
+ * is the version together with the last translation and tombstone id delivered in it. Clients only see it as the opaque {@code nextSince} token.
+ */
+@Getter
+@AllArgsConstructor
+public class ChangesCursor
+{
+  private final long version;
+  private final long afterChangedId;
+  private final long afterDeletedId;
+
+  /**
+   * Position after everything up to and including {@code version}.
+   */
+  public static ChangesCursor since(long version)
+  {
+    return new ChangesCursor(version, Long.MAX_VALUE, Long.MAX_VALUE);
+  }
+
+  /**
+   * Position after the write of translation {@code id} at {@code version}; the deletions of that version are still to come.
+   */
+  public static ChangesCursor afterChanged(long version, long id)
+  {
+    return new ChangesCursor(version, id, Long.MIN_VALUE);
+  }
+
+  /**
+   * Position after tombstone {@code id} at {@code version}; every write of that version was delivered before it.
+   */
+  public static ChangesCursor afterDeleted(long version, long id)
+  {
+    return new ChangesCursor(version, Long.MAX_VALUE, id);
+  }
+
+  public String encode()
+  {
+    return Base64.getUrlEncoder()
+                 .withoutPadding()
+                 .encodeToString((version + ":" + afterChangedId + ":" + afterDeletedId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decode a token produced by {@link #encode()}.
+   *
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static ChangesCursor decode(String token)
+  {
+    String[] parts = new String(Base64.getUrlDecoder()
+                                      .decode(token), StandardCharsets.UTF_8).split(":");
+    if (parts.length != 3)
+    {
+      throw new IllegalArgumentException("Malformed changes cursor");
+    }
+    return new ChangesCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+  }
+}
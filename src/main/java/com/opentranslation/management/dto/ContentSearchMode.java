@@ -0,0 +1,22 @@
+package com.opentranslation.management.dto;
+
+/**
+ * Strategy used by content search.
+ */
+public enum ContentSearchMode
+{
+  /**
+   * Case-insensitive substring match; always correct but scans every translation.
+   */
+  LIKE,
+
+  /**
+   * Word match against the {@code idx_trans_content_gin} tsvector index (PostgreSQL only).
+   */
+  FULLTEXT,
+
+  /**
+   * Case-insensitive substring match on content or key, served by the pg_trgm indexes and paginated by cursor.
+   */
+  TRIGRAM
+}
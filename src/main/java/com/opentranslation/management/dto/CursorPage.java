@@ -0,0 +1,20 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated search. There is no total count; pass {@code nextCursor} back as {@code cursor} to continue until it is {@code null}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T>
+{
+  private List<T> content;
+  private int size;
+  private String nextCursor;
+}
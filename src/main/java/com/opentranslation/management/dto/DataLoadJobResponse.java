@@ -0,0 +1,29 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DataLoadJobResponse
+{
+  private String id;
+  private DataLoadJobState state;
+  private boolean force;
+  private long purgedRecords;
+  private long totalRecords;
+  private long insertedRecords;
+  /**
+   * Share of {@code totalRecords} inserted so far, from 0 to 100.
+   */
+  private double progressPercent;
+  private double rowsPerSecond;
+  private OffsetDateTime submittedAt;
+  private OffsetDateTime startedAt;
+  private OffsetDateTime finishedAt;
+  private String message;
+}
@@ -0,0 +1,13 @@
+package com.opentranslation.management.dto;
+
+/**
+ * Lifecycle of an asynchronous test data load.
+ */
+public enum DataLoadJobState
+{
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  CANCELLED,
+  FAILED
+}
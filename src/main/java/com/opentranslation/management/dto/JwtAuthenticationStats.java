@@ -0,0 +1,21 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JwtAuthenticationStats
+{
+  private boolean cacheEnabled;
+  private long hits;
+  private long misses;
+  private long evictions;
+  private int cachedTokens;
+  private double hitRate;
+  private long authenticatedRequests;
+  private long rejectedRequests;
+  private double averageAuthMicros;
+}
@@ -11,4 +11,8 @@ public class LocaleDto
 {
   private Long id;
   private String code;
+  /**
+   * Code of the locale this one falls back to, or {@code null} for a root locale.
+   */
+  private String parentCode;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.opentranslation.management.dto;
+
+/**
+ * How search results are paginated.
+ */
+public enum PagingMode
+{
+  /**
+   * Page number and size; every page runs an {@code OFFSET} query plus a {@code count(*)}.
+   */
+  OFFSET,
+
+  /**
+   * Keyset on translation id; each slice continues after the previous one's {@code nextCursor} and no count is taken.
+   */
+  CURSOR
+}
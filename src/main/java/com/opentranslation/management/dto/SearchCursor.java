@@ -0,0 +1,36 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a keyset-paginated search. Clients only see it as an opaque, URL-safe token.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchCursor
+{
+  private final long lastId;
+
+  public String encode()
+  {
+    return Base64.getUrlEncoder()
+                 .withoutPadding()
+                 .encodeToString(Long.toString(lastId)
+                                     .getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decode a token produced by {@link #encode()}.
+   *
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static SearchCursor decode(String token)
+  {
+    String decoded = new String(Base64.getUrlDecoder()
+                                      .decode(token), StandardCharsets.UTF_8);
+    return new SearchCursor(Long.parseLong(decoded));
+  }
+}
@@ -0,0 +1,19 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationCacheStats
+{
+  private boolean enabled;
+  private long hits;
+  private long misses;
+  private long rebuilds;
+  private long evictions;
+  private int cachedLocales;
+  private long cachedTranslations;
+}
@@ -0,0 +1,22 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A translation read for delta sync together with the catalog version of its last write, which positions it in the change feed.
+ */
+@Getter
+@AllArgsConstructor
+public class TranslationChange
+{
+  private final TranslationResponse translation;
+  private final long catalogVersion;
+
+  public TranslationChange(Long id, String translationKey, String localeCode, String content, OffsetDateTime createdOn, OffsetDateTime updatedOn,
+                           Long catalogVersion)
+  {
+    this(new TranslationResponse(id, translationKey, localeCode, content, null, createdOn, updatedOn), catalogVersion == null ? 0 : catalogVersion);
+  }
+}
@@ -0,0 +1,30 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationChangesResponse
+{
+  /**
+   * Catalog version this response is complete up to; pass it as {@code since} on the next sync.
+   */
+  private long version;
+  private List<TranslationResponse> changed;
+  private List<TranslationTombstoneDto> deleted;
+
+  /**
+   * Whether the page was cut at the requested limit; read on with {@link #nextSince}.
+   */
+  private boolean hasMore;
+
+  /**
+   * Opaque position after the last change of this page, to pass as {@code since} while {@link #hasMore} is set; {@code null} otherwise.
+   */
+  private String nextSince;
+}
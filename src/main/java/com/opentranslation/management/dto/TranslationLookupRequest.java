@@ -0,0 +1,21 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationLookupRequest
+{
+  private String localeCode;
+  /**
+   * Locales tried in order for keys missing in {@code localeCode}, e.g. {@code ["fr", "en"]} for {@code fr-CA}. When absent, the fallback chain configured for
+   * the locale is used; an empty list disables fallback.
+   */
+  private List<String> fallbackLocaleCodes;
+  private List<String> keys;
+}
@@ -0,0 +1,25 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationLookupResponse
+{
+  private String localeCode;
+  /**
+   * Content of every resolved key, in request order.
+   */
+  private Map<String, String> translations;
+  /**
+   * Locale each key was taken from, for keys resolved from a fallback locale only.
+   */
+  private Map<String, String> fallbacks;
+  private List<String> missing;
+}
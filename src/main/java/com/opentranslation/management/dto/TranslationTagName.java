@@ -0,0 +1,14 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+/**
+ * A single (translation id, tag name) pair read from the translation_tags join, used to attach tags to many translations at once.
+ */
+@Getter
+@AllArgsConstructor
+public class TranslationTagName
+{
+  private Long translationId;
+  private String tagName;
+}
@@ -0,0 +1,18 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationTombstoneDto
+{
+  private Long id;
+  private String translationKey;
+  private String localeCode;
+  private OffsetDateTime deletedOn;
+}
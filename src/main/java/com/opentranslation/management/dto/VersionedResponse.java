@@ -0,0 +1,18 @@
+package com.opentranslation.management.dto;
+
+import lombok.*;
+
+/**
+ * Response body paired with the entity tag identifying its exact content.
+ */
+@Getter
+@AllArgsConstructor
+public class VersionedResponse<T>
+{
+  private final T body;
+
+  /**
+   * Entity tag as sent in the {@code ETag} header, including quotes.
+   */
+  private final String eTag;
+}
@@ -0,0 +1,52 @@
+package com.opentranslation.management.metrics;
+
+import java.io.IOException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the number of SQL statements issued per request as {@code http.server.requests.queries}, tagged like {@code http.server.requests} by method and URI
+ * template.
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter
+{
+
+  private final QueryCountInspector inspector;
+  private final MeterRegistry registry;
+
+  public QueryCountFilter(QueryCountInspector inspector, MeterRegistry registry)
+  {
+    this.inspector = inspector;
+    this.registry = registry;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException
+  {
+    inspector.reset();
+    try
+    {
+      filterChain.doFilter(request, response);
+    }
+    finally
+    {
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      DistributionSummary.builder("http.server.requests.queries")
+                         .description("SQL statements issued while serving a request")
+                         .tag("method", request.getMethod())
+                         .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                         .register(registry)
+                         .record(inspector.getCount());
+    }
+  }
+}
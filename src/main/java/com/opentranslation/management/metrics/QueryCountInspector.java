@@ -0,0 +1,48 @@
+package com.opentranslation.management.metrics;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so the statements issued while serving one request can be attributed to it.
+ * <p>
+ * Unlike the session factory statistics, which are global, the count is kept per thread and is therefore not mixed up by concurrent requests. Statements issued
+ * through plain JDBC (bulk writes) are not seen.
+ * </p>
+ */
+@Component
+public class QueryCountInspector implements StatementInspector, HibernatePropertiesCustomizer
+{
+
+  private final ThreadLocal<long[]> count = ThreadLocal.withInitial(() -> new long[1]);
+
+  @Override
+  public String inspect(String sql)
+  {
+    count.get()[0]++;
+    return sql;
+  }
+
+  @Override
+  public void customize(Map<String, Object> hibernateProperties)
+  {
+    hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+  }
+
+  /**
+   * Statements prepared on the current thread since the last {@link #reset()}.
+   */
+  public long getCount()
+  {
+    return count.get()[0];
+  }
+
+  public void reset()
+  {
+    count.get()[0] = 0;
+  }
+}
@@ -0,0 +1,41 @@
+package com.opentranslation.management.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for translation exports, recorded per export kind ({@code all} or {@code locale}) and source ({@code cache}, {@code artifact} or {@code database}).
+ */
+@Component
+public class TranslationMetrics
+{
+
+  private final MeterRegistry registry;
+
+  public TranslationMetrics(MeterRegistry registry)
+  {
+    this.registry = registry;
+  }
+
+  /**
+   * Record one completed export of {@code rows} translations written as {@code bytes} bytes.
+   */
+  public void recordExport(String export, String source, long rows, long bytes)
+  {
+    DistributionSummary.builder("translation.export.rows")
+                       .description("Translations written per export")
+                       .tag("export", export)
+                       .tag("source", source)
+                       .register(registry)
+                       .record(rows);
+    DistributionSummary.builder("translation.export.size")
+                       .description("Response bytes written per export")
+                       .baseUnit("bytes")
+                       .tag("export", export)
+                       .tag("source", source)
+                       .register(registry)
+                       .record(bytes);
+  }
+}
@@ -0,0 +1,40 @@
+package com.opentranslation.management.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Single-row counter of the translation catalog version.
+ * <p>
+ * Every write locks and increments the row inside its own transaction, so versions are handed out without gaps and become visible in the order they were
+ * assigned.
+ * </p>
+ */
+@Entity
+@Table(name = "catalog_version")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogVersion
+{
+  public static final int SINGLETON_ID = 1;
+
+  @Id
+  private Integer id;
+
+  @Column(name = "current_version", nullable = false)
+  private Long currentVersion;
+
+  /**
+   * Version of the last wholesale rewrite of the catalog, a purge or a test data load, which left no tombstones; 0 if there was none.
+   */
+  @Column(name = "reset_version", nullable = false)
+  private Long resetVersion;
+
+  @Column(name = "reset_on")
+  private OffsetDateTime resetOn;
+}
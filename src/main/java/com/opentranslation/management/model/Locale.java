@@ -3,9 +3,10 @@ package com.opentranslation.management.model;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.util.HashSet;
-import java.util.Set;
-
+/**
+ * A locale. Its translations are queried through {@code TranslationRepository}; there is deliberately no inverse collection, which could pull every
+ * translation of the locale into the persistence context.
+ */
 @Entity
 @Table(name = "locales")
 @Getter
@@ -16,13 +17,17 @@ import java.util.Set;
 public class Locale
 {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "locales_id_seq")
+  @SequenceGenerator(name = "locales_id_seq", sequenceName = "locales_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, unique = true, length = 10)
   private String code;
 
-  @OneToMany(mappedBy = "locale", cascade = CascadeType.ALL, orphanRemoval = true)
-  @Builder.Default
-  private Set<Translation> translations = new HashSet<>();
+  /**
+   * Locale consulted for the keys this locale lacks, e.g. {@code fr} for {@code fr-CA}; {@code null} for a root locale.
+   */
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "parent_id")
+  private Locale parent;
 }
@@ -3,9 +3,10 @@ package com.opentranslation.management.model;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.util.HashSet;
-import java.util.Set;
-
+/**
+ * A tag. Tagged translations are queried through {@code TranslationRepository}; there is deliberately no inverse collection, which could pull every tagged
+ * translation into the persistence context.
+ */
 @Entity
 @Table(name = "tags")
 @Getter
@@ -16,13 +17,10 @@ import java.util.Set;
 public class Tag
 {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tags_id_seq")
+  @SequenceGenerator(name = "tags_id_seq", sequenceName = "tags_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, unique = true, length = 100)
   private String name;
-
-  @ManyToMany(mappedBy = "tags", fetch = FetchType.LAZY)
-  @Builder.Default
-  private Set<Translation> translations = new HashSet<>();
 }
\ No newline at end of file
@@ -17,7 +17,8 @@ import java.util.Set;
 public class Translation
 {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "translations_id_seq")
+  @SequenceGenerator(name = "translations_id_seq", sequenceName = "translations_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "translation_key", nullable = false, length = 255)
@@ -36,6 +37,16 @@ public class Translation
   @Column(name = "updated_on", nullable = false)
   private OffsetDateTime updatedOn;
 
+  /**
+   * Catalog version of the last write through the API, used by delta sync; {@code null} for rows loaded outside it.
+   */
+  @Column(name = "catalog_version")
+  private Long catalogVersion;
+
+  /**
+   * The only side of the association; tags keep no collection of their translations. Change it in place rather than replacing the set, which would delete and
+   * reinsert every join row.
+   */
   @ManyToMany(fetch = FetchType.LAZY)
   @JoinTable(name = "translation_tags", joinColumns = @JoinColumn(name = "translation_id"), inverseJoinColumns = @JoinColumn(name = "tag_id"))
   @Builder.Default
@@ -0,0 +1,39 @@
+package com.opentranslation.management.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Record of a deleted translation, kept so delta sync clients can remove it locally.
+ */
+@Entity
+@Table(name = "translation_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationTombstone
+{
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "translation_tombstones_id_seq")
+  @SequenceGenerator(name = "translation_tombstones_id_seq", sequenceName = "translation_tombstones_id_seq", allocationSize = 50)
+  private Long id;
+
+  @Column(name = "translation_id", nullable = false)
+  private Long translationId;
+
+  @Column(name = "translation_key", nullable = false, length = 255)
+  private String translationKey;
+
+  @Column(name = "locale_code", nullable = false, length = 10)
+  private String localeCode;
+
+  @Column(name = "catalog_version", nullable = false)
+  private Long catalogVersion;
+
+  @Column(name = "deleted_on", nullable = false)
+  private OffsetDateTime deletedOn;
+}
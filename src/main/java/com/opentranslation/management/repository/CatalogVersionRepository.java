@@ -0,0 +1,27 @@
+package com.opentranslation.management.repository;
+
+import com.opentranslation.management.model.CatalogVersion;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, Integer>
+{
+  /**
+   * Read the counter row with a write lock held until the surrounding transaction ends.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT v FROM CatalogVersion v WHERE v.id = " + CatalogVersion.SINGLETON_ID)
+  Optional<CatalogVersion> lockCurrent();
+
+  @Query("SELECT v.currentVersion FROM CatalogVersion v WHERE v.id = " + CatalogVersion.SINGLETON_ID)
+  Optional<Long> findCurrentVersion();
+
+  @Query("SELECT v FROM CatalogVersion v WHERE v.id = " + CatalogVersion.SINGLETON_ID)
+  Optional<CatalogVersion> findCurrent();
+}
@@ -3,10 +3,22 @@ package com.opentranslation.management.repository;
 import com.opentranslation.management.model.Locale;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LocaleRepository extends JpaRepository<Locale, Long>
 {
   Optional<Locale> findByCode(String code);
+
+  List<Locale> findByCodeIn(Collection<String> codes);
+
+  /**
+   * Code of the locale the given locale falls back to, if it has one.
+   */
+  @Query("SELECT p.code FROM Locale l JOIN l.parent p WHERE l.code = :code")
+  Optional<String> findParentCode(@Param("code") String code);
 }
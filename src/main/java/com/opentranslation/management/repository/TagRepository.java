@@ -3,10 +3,27 @@ package com.opentranslation.management.repository;
 import com.opentranslation.management.model.Tag;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long>
 {
   Optional<Tag> findByName(String name);
+
+  List<Tag> findByNameIn(Collection<String> names);
+
+  /**
+   * Insert a tag unless one with the same name exists, without failing when a concurrent transaction creates it first. The id is taken from the sequence
+   * Hibernate allocates from, so the row never collides with JPA inserts.
+   *
+   * @return 1 if the tag was inserted, 0 if it already existed
+   */
+  @Modifying
+  @Query(value = "INSERT INTO tags (id, name) VALUES (nextval('tags_id_seq'), :name) ON CONFLICT DO NOTHING", nativeQuery = true)
+  int insertIfAbsent(@Param("name") String name);
 }
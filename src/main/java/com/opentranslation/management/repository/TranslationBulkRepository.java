@@ -0,0 +1,148 @@
+package com.opentranslation.management.repository;
+
+import com.opentranslation.management.dto.TranslationRequest;
+import com.opentranslation.management.dto.TranslationResponse;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * Set-based JDBC access for bulk translation writes.
+ * <p>
+ * Rows are upserted on the {@code (translation_key, locale_id)} unique constraint with JDBC batches: {@code INSERT ... ON CONFLICT} on PostgreSQL and a standard
+ * {@code MERGE} elsewhere (e.g. the embedded H2 test database). New rows take their id from {@code translations_id_seq}, the sequence Hibernate allocates
+ * from, so JDBC and JPA inserts never collide.
+ * </p>
+ */
+@Repository
+public class TranslationBulkRepository
+{
+
+  private static final String POSTGRES_UPSERT = """
+      INSERT INTO translations (id, translation_key, locale_id, content, created_on, updated_on, catalog_version)
+      VALUES (nextval('translations_id_seq'), :key, :localeId, :content, :now, :now, :version)
+      ON CONFLICT (translation_key, locale_id)
+      DO UPDATE SET content = EXCLUDED.content, updated_on = EXCLUDED.updated_on, catalog_version = EXCLUDED.catalog_version
+      """;
+
+  private static final String MERGE_UPSERT = """
+      MERGE INTO translations t
+      USING (VALUES (CAST(:key AS VARCHAR(255)), CAST(:localeId AS BIGINT), CAST(:content AS VARCHAR), CAST(:now AS TIMESTAMP WITH TIME ZONE),
+                     CAST(:version AS BIGINT)))
+        AS s (translation_key, locale_id, content, changed_on, catalog_version)
+      ON t.translation_key = s.translation_key AND t.locale_id = s.locale_id
+      WHEN MATCHED THEN UPDATE SET content = s.content, updated_on = s.changed_on, catalog_version = s.catalog_version
+      WHEN NOT MATCHED THEN INSERT (id, translation_key, locale_id, content, created_on, updated_on, catalog_version)
+        VALUES (NEXT VALUE FOR translations_id_seq, s.translation_key, s.locale_id, s.content, s.changed_on, s.changed_on, s.catalog_version)
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final String upsertSql;
+
+  public TranslationBulkRepository(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) throws Exception
+  {
+    this.jdbcTemplate = jdbcTemplate;
+    String product = JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> metaData.getDatabaseProductName());
+    this.upsertSql = "PostgreSQL".equals(product) ? POSTGRES_UPSERT : MERGE_UPSERT;
+  }
+
+  /**
+   * Load the stored state of the given keys of one locale, keyed by translation key. Tags are not populated.
+   */
+  public Map<String, TranslationResponse> findByLocaleAndKeys(Long localeId, String localeCode, Collection<String> keys)
+  {
+    Map<String, TranslationResponse> rows = new HashMap<>();
+    if (keys.isEmpty())
+    {
+      return rows;
+    }
+
+    MapSqlParameterSource params = new MapSqlParameterSource().addValue("localeId", localeId)
+                                                              .addValue("keys", keys);
+    jdbcTemplate.query("SELECT id, translation_key, content, created_on, updated_on FROM translations " +
+                       "WHERE locale_id = :localeId AND translation_key IN (:keys)", params, rs -> {
+      TranslationResponse row = new TranslationResponse(rs.getLong("id"),
+                                                        rs.getString("translation_key"),
+                                                        localeCode,
+                                                        rs.getString("content"),
+                                                        null,
+                                                        rs.getObject("created_on", OffsetDateTime.class),
+                                                        rs.getObject("updated_on", OffsetDateTime.class));
+      rows.put(row.getTranslationKey(), row);
+    });
+    return rows;
+  }
+
+  /**
+   * Insert or update the given rows of one locale in a single JDBC batch, stamping them with the given catalog version.
+   */
+  public void upsert(Long localeId, List<TranslationRequest> rows, OffsetDateTime now, long catalogVersion)
+  {
+    SqlParameterSource[] batch = rows.stream()
+                                     .map(row -> new MapSqlParameterSource().addValue("key", row.getTranslationKey())
+                                                                            .addValue("localeId", localeId)
+                                                                            .addValue("content", row.getContent())
+                                                                            .addValue("now", now)
+                                                                            .addValue("version", catalogVersion))
+                                     .toArray(SqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(upsertSql, batch);
+  }
+
+  /**
+   * Replace the tag links of the given translations with the supplied tag ids. Current links are read in one query and only the difference is written, so
+   * unchanged links are neither deleted nor inserted again.
+   */
+  public void replaceTags(Map<Long, Set<Long>> tagIdsByTranslationId)
+  {
+    if (tagIdsByTranslationId.isEmpty())
+    {
+      return;
+    }
+
+    Map<Long, Set<Long>> current = new HashMap<>();
+    jdbcTemplate.query("SELECT translation_id, tag_id FROM translation_tags WHERE translation_id IN (:ids)",
+                       new MapSqlParameterSource("ids", tagIdsByTranslationId.keySet()),
+                       rs -> {
+                         current.computeIfAbsent(rs.getLong("translation_id"), id -> new HashSet<>())
+                                .add(rs.getLong("tag_id"));
+                       });
+
+    List<SqlParameterSource> removed = new ArrayList<>();
+    List<SqlParameterSource> added = new ArrayList<>();
+    for (Map.Entry<Long, Set<Long>> entry : tagIdsByTranslationId.entrySet())
+    {
+      Set<Long> existing = current.getOrDefault(entry.getKey(), Set.of());
+      existing.stream()
+              .filter(tagId -> !entry.getValue()
+                                     .contains(tagId))
+              .forEach(tagId -> removed.add(link(entry.getKey(), tagId)));
+      entry.getValue()
+           .stream()
+           .filter(tagId -> !existing.contains(tagId))
+           .forEach(tagId -> added.add(link(entry.getKey(), tagId)));
+    }
+    if (!removed.isEmpty())
+    {
+      jdbcTemplate.batchUpdate("DELETE FROM translation_tags WHERE translation_id = :translationId AND tag_id = :tagId",
+                               removed.toArray(SqlParameterSource[]::new));
+    }
+    if (!added.isEmpty())
+    {
+      jdbcTemplate.batchUpdate("INSERT INTO translation_tags (translation_id, tag_id) VALUES (:translationId, :tagId)",
+                               added.toArray(SqlParameterSource[]::new));
+    }
+  }
+
+  private static SqlParameterSource link(Long translationId, Long tagId)
+  {
+    return new MapSqlParameterSource().addValue("translationId", translationId)
+                                      .addValue("tagId", tagId);
+  }
+}
@@ -0,0 +1,201 @@
+package com.opentranslation.management.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Raw JDBC writer for generated test data.
+ * <p>
+ * Rows are streamed with {@code COPY ... FROM STDIN} on PostgreSQL and written as JDBC batches elsewhere (e.g. the embedded H2 test database), always on the
+ * connection of the current transaction, and the whole catalog is purged with set-based statements. Ids are reserved from {@code translations_id_seq} in the
+ * same blocks Hibernate's pooled optimizer uses, so generated rows never collide with translations created concurrently through JPA or the bulk API.
+ * </p>
+ */
+@Repository
+public class TranslationLoadRepository
+{
+
+  /**
+   * Increment of {@code translations_id_seq}; must match {@code allocationSize} on {@code Translation} (see the V2 migration).
+   */
+  private static final int ID_BLOCK_SIZE = 50;
+
+  private static final String COPY_TRANSLATIONS = "COPY translations (id, translation_key, locale_id, content, created_on, updated_on, catalog_version) "
+                                                  + "FROM STDIN WITH (FORMAT csv)";
+  private static final String COPY_TRANSLATION_TAGS = "COPY translation_tags (translation_id, tag_id) FROM STDIN WITH (FORMAT csv)";
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean postgres;
+
+  public TranslationLoadRepository(DataSource dataSource, JdbcTemplate jdbcTemplate) throws Exception
+  {
+    this.dataSource = dataSource;
+    this.jdbcTemplate = jdbcTemplate;
+    String product = JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> metaData.getDatabaseProductName());
+    this.postgres = "PostgreSQL".equals(product);
+  }
+
+  public boolean isCopySupported()
+  {
+    return postgres;
+  }
+
+  /**
+   * Reserve {@code count} translation ids, taking whole blocks of the pooled sequence.
+   */
+  public long[] allocateIds(int count)
+  {
+    String sql = postgres
+                 ? "SELECT nextval('translations_id_seq') FROM generate_series(1, ?)"
+                 : "SELECT NEXT VALUE FOR translations_id_seq FROM SYSTEM_RANGE(1, ?)";
+    long[] ids = new long[count];
+    int next = 0;
+    while (next < count)
+    {
+      int blocks = (count - next + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+      for (long high : jdbcTemplate.queryForList(sql, Long.class, blocks))
+      {
+        // Each value is the upper bound of a block; the first value of a fresh sequence (1) is a block of its own, as for Hibernate
+        for (long id = Math.max(1, high - ID_BLOCK_SIZE + 1); id <= high && next < count; id++)
+        {
+          ids[next++] = id;
+        }
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * Insert generated translations and their tag links in the current transaction.
+   */
+  public void insert(List<GeneratedTranslation> rows, OffsetDateTime now, long catalogVersion)
+  {
+    if (postgres)
+    {
+      copy(rows, now, catalogVersion);
+      return;
+    }
+
+    jdbcTemplate.batchUpdate("INSERT INTO translations (id, translation_key, locale_id, content, created_on, updated_on, catalog_version) "
+                             + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows, rows.size(), (statement, row) -> {
+      statement.setLong(1, row.getId());
+      statement.setString(2, row.getTranslationKey());
+      statement.setLong(3, row.getLocaleId());
+      statement.setString(4, row.getContent());
+      statement.setObject(5, now);
+      statement.setObject(6, now);
+      statement.setLong(7, catalogVersion);
+    });
+    jdbcTemplate.batchUpdate("INSERT INTO translation_tags (translation_id, tag_id) VALUES (?, ?)", rows, rows.size(), (statement, row) -> {
+      statement.setLong(1, row.getId());
+      statement.setLong(2, row.getTagId());
+    });
+  }
+
+  /**
+   * Delete all translations and their tag links in the current transaction: {@code TRUNCATE} on PostgreSQL, set-based {@code DELETE} elsewhere.
+   *
+   * @return the number of translations deleted
+   */
+  public long purge()
+  {
+    if (postgres)
+    {
+      Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translations", Long.class);
+      jdbcTemplate.execute("TRUNCATE translation_tags, translations");
+      return count == null ? 0 : count;
+    }
+
+    jdbcTemplate.update("DELETE FROM translation_tags");
+    return jdbcTemplate.update("DELETE FROM translations");
+  }
+
+  private void copy(List<GeneratedTranslation> rows, OffsetDateTime now, long catalogVersion)
+  {
+    StringBuilder translations = new StringBuilder(rows.size() * 96);
+    StringBuilder links = new StringBuilder(rows.size() * 16);
+    String timestamp = now.toString();
+    for (GeneratedTranslation row : rows)
+    {
+      translations.append(row.getId())
+                  .append(',');
+      appendCsv(translations, row.getTranslationKey()).append(',')
+                                                      .append(row.getLocaleId())
+                                                      .append(',');
+      appendCsv(translations, row.getContent()).append(',')
+                                               .append(timestamp)
+                                               .append(',')
+                                               .append(timestamp)
+                                               .append(',')
+                                               .append(catalogVersion)
+                                               .append('\n');
+      links.append(row.getId())
+           .append(',')
+           .append(row.getTagId())
+           .append('\n');
+    }
+
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try
+    {
+      PGConnection pgConnection = connection.unwrap(PGConnection.class);
+      pgConnection.getCopyAPI()
+                  .copyIn(COPY_TRANSLATIONS, new StringReader(translations.toString()));
+      pgConnection.getCopyAPI()
+                  .copyIn(COPY_TRANSLATION_TAGS, new StringReader(links.toString()));
+    }
+    catch (SQLException | IOException e)
+    {
+      throw new IllegalStateException("COPY of generated translations failed", e);
+    }
+    finally
+    {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  private static StringBuilder appendCsv(StringBuilder out, String value)
+  {
+    out.append('"');
+    for (int i = 0; i < value.length(); i++)
+    {
+      char c = value.charAt(i);
+      if (c == '"')
+      {
+        out.append('"');
+      }
+      out.append(c);
+    }
+    return out.append('"');
+  }
+
+  /**
+   * One generated translation row with its single tag link.
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class GeneratedTranslation
+  {
+
+    private final long id;
+    private final String translationKey;
+    private final long localeId;
+    private final String content;
+    private final long tagId;
+  }
+}
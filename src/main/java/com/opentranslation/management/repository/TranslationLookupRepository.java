@@ -0,0 +1,76 @@
+package com.opentranslation.management.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Native queries for resolving many translation keys of a locale at once.
+ * <p>
+ * Keys are bound as a single array parameter ({@code translation_key = ANY(?)}), so one prepared statement serves any number of keys and the lookup is
+ * answered from the {@code (translation_key, locale_id)} index.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class TranslationLookupRepository
+{
+
+  private static final int KEY_FETCH_SIZE = 10_000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Content of the given keys in one locale, keyed by translation key; keys without a translation are absent.
+   */
+  public Map<String, String> findContentByKeys(String localeCode, Collection<String> keys)
+  {
+    Map<String, String> contents = new HashMap<>();
+    if (keys.isEmpty())
+    {
+      return contents;
+    }
+
+    jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement("SELECT t.translation_key, t.content FROM translations t " +
+                                                                "JOIN locales l ON l.id = t.locale_id " +
+                                                                "WHERE l.code = ? AND t.translation_key = ANY(?)");
+      Array keyArray = connection.createArrayOf("varchar", keys.toArray());
+      statement.setString(1, localeCode);
+      statement.setArray(2, keyArray);
+      return statement;
+    }, (RowCallbackHandler) rs -> contents.put(rs.getString(1), rs.getString(2)));
+    return contents;
+  }
+
+  public long countKeys(String localeCode)
+  {
+    Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM translations t JOIN locales l ON l.id = t.locale_id WHERE l.code = ?",
+                                             Long.class,
+                                             localeCode);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Pass every translation key of a locale to {@code consumer}. Rows are fetched in batches, so call within a transaction for PostgreSQL to use a cursor.
+   */
+  public void forEachKey(String localeCode, Consumer<String> consumer)
+  {
+    jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement("SELECT t.translation_key FROM translations t " +
+                                                                "JOIN locales l ON l.id = t.locale_id WHERE l.code = ?");
+      statement.setFetchSize(KEY_FETCH_SIZE);
+      statement.setString(1, localeCode);
+      return statement;
+    }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1)));
+  }
+}
@@ -1,10 +1,14 @@
 package com.opentranslation.management.repository;
 
-import java.util.stream.Stream;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.opentranslation.management.dto.TranslationChange;
 import com.opentranslation.management.dto.TranslationResponse;
+import com.opentranslation.management.dto.TranslationTagName;
 import com.opentranslation.management.model.Translation;
 import com.opentranslation.management.model.Tag;
 
@@ -14,7 +18,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface TranslationRepository extends JpaRepository<Translation, Long> {
+public interface TranslationRepository extends JpaRepository<Translation, Long>, TranslationStreamRepository {
 
   /**
    * Find translations by key and locale.
@@ -38,17 +42,56 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
 
   /**
    * Find translations by tag name.
-   * Here we fetch entities to map tags manually in service layer to avoid JPQL constructor issues.
+   * Tags are set to null and can be mapped later in the service layer.
    */
-  @Query("SELECT t FROM Translation t JOIN t.tags tag WHERE tag.name = :tag")
-  Page<Translation> findByTagName(@Param("tag") String tag, Pageable pageable);
+  @Query("SELECT new com.opentranslation.management.dto.TranslationResponse(" +
+         "t.id, t.translationKey, t.locale.code, t.content, null, t.createdOn, t.updatedOn) " +
+         "FROM Translation t JOIN t.tags tag WHERE tag.name = :tag")
+  Page<TranslationResponse> findByTagName(@Param("tag") String tag, Pageable pageable);
+
+  // ---------------------- Keyset (cursor) variants ----------------------
+  // Rows after :afterId in id order; pass a Pageable of (0, limit) to cap the slice. No count query is issued.
+
+  @Query("SELECT new com.opentranslation.management.dto.TranslationResponse(" +
+         "t.id, t.translationKey, t.locale.code, t.content, null, t.createdOn, t.updatedOn) " +
+         "FROM Translation t WHERE t.translationKey = :key AND t.locale.code = :locale AND t.id > :afterId ORDER BY t.id")
+  List<TranslationResponse> findByKeyAndLocaleAfter(@Param("key") String key,
+                                                    @Param("locale") String locale,
+                                                    @Param("afterId") long afterId,
+                                                    Pageable limit);
+
+  @Query("SELECT new com.opentranslation.management.dto.TranslationResponse(" +
+         "t.id, t.translationKey, t.locale.code, t.content, null, t.createdOn, t.updatedOn) " +
+         "FROM Translation t WHERE LOWER(t.content) LIKE LOWER(CONCAT('%', :content, '%')) AND t.id > :afterId ORDER BY t.id")
+  List<TranslationResponse> findByContentContainingAfter(@Param("content") String content, @Param("afterId") long afterId, Pageable limit);
 
-  /**
-   * Stream all translations.
-   * Tags are set to null in DTO; mapping to Set<String> should be done in the service layer.
-   */
   @Query("SELECT new com.opentranslation.management.dto.TranslationResponse(" +
          "t.id, t.translationKey, t.locale.code, t.content, null, t.createdOn, t.updatedOn) " +
-         "FROM Translation t")
-  Stream<TranslationResponse> streamAllTranslations();
+         "FROM Translation t JOIN t.tags tag WHERE tag.name = :tag AND t.id > :afterId ORDER BY t.id")
+  List<TranslationResponse> findByTagNameAfter(@Param("tag") String tag, @Param("afterId") long afterId, Pageable limit);
+
+  // ---------------------- Delta sync ----------------------
+  // Rows written after a catalog version or a point in time, optionally restricted to one locale (pass null for all).
+
+  /**
+   * Translations updated after a point in time, in the same order as {@link #streamChangedAfter}, rows without a catalog version first.
+   */
+  @Query("SELECT new com.opentranslation.management.dto.TranslationChange(" +
+         "t.id, t.translationKey, t.locale.code, t.content, t.createdOn, t.updatedOn, t.catalogVersion) " +
+         "FROM Translation t WHERE t.updatedOn > :since AND (:locale IS NULL OR t.locale.code = :locale) ORDER BY COALESCE(t.catalogVersion, 0), t.id")
+  List<TranslationChange> findChangedSince(@Param("since") OffsetDateTime since, @Param("locale") String locale, Pageable pageable);
+
+  /**
+   * Fetch the tag names of many translations in one query.
+   * Used by the service layer to attach tags to a page or chunk of DTOs without a lookup per row.
+   */
+  @Query("SELECT new com.opentranslation.management.dto.TranslationTagName(t.id, tag.name) " +
+         "FROM Translation t JOIN t.tags tag WHERE t.id IN :ids")
+  List<TranslationTagName> findTagNamesByTranslationIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Catalog version of the latest write still present in a locale, or {@code null} if it has no translations.
+   */
+  @Query("SELECT max(t.catalogVersion) FROM Translation t WHERE t.locale.code = :locale")
+  Long findLatestCatalogVersionByLocale(@Param("locale") String locale);
 }
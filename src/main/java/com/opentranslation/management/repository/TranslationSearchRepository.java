@@ -0,0 +1,81 @@
+package com.opentranslation.management.repository;
+
+import com.opentranslation.management.dto.TranslationResponse;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Native search queries that cannot be expressed in JPQL (full-text and trigram matching).
+ * Tags are set to null in DTO; mapping to Set<String> should be done in the service layer.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TranslationSearchRepository
+{
+
+  private static final String SELECT_COLUMNS = "SELECT t.id, t.translation_key, l.code, t.content, t.created_on, t.updated_on " +
+                                               "FROM translations t JOIN locales l ON l.id = t.locale_id ";
+
+  private static final String FULLTEXT_MATCH = "WHERE to_tsvector('simple', t.content) @@ to_tsquery('simple', :query) ";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * Full-text content search served by the {@code idx_trans_content_gin} index.
+   *
+   * @param tsQuery a {@code to_tsquery} expression, e.g. {@code save & file:*}
+   * @param ranked  order by {@code ts_rank} (best match first) instead of id; ranking reads every match, so it costs more on common terms
+   */
+  public Page<TranslationResponse> searchFullText(String tsQuery, boolean ranked, Pageable pageable)
+  {
+    MapSqlParameterSource params = new MapSqlParameterSource().addValue("query", tsQuery)
+                                                              .addValue("limit", pageable.getPageSize())
+                                                              .addValue("offset", pageable.getOffset());
+    String order = ranked
+                   ? "ORDER BY ts_rank(to_tsvector('simple', t.content), to_tsquery('simple', :query)) DESC, t.id "
+                   : "ORDER BY t.id ";
+
+    List<TranslationResponse> content = jdbcTemplate.query(SELECT_COLUMNS + FULLTEXT_MATCH + order + "LIMIT :limit OFFSET :offset", params, this::mapRow);
+    Long total = jdbcTemplate.queryForObject("SELECT count(*) FROM translations t " + FULLTEXT_MATCH, params, Long.class);
+    return new PageImpl<>(content, pageable, total == null ? 0 : total);
+  }
+
+  /**
+   * Case-insensitive substring search on content or translation key, served by the pg_trgm GIN indexes. Rows are returned in id order after
+   * {@code afterId} (keyset pagination), so deep pages cost the same as the first.
+   *
+   * @param pattern an ILIKE pattern using backslash as escape character
+   */
+  public List<TranslationResponse> searchSubstring(String pattern, long afterId, int limit)
+  {
+    MapSqlParameterSource params = new MapSqlParameterSource().addValue("pattern", pattern)
+                                                              .addValue("afterId", afterId)
+                                                              .addValue("limit", limit);
+    return jdbcTemplate.query(SELECT_COLUMNS +
+                              "WHERE (t.content ILIKE :pattern ESCAPE '\\' OR t.translation_key ILIKE :pattern ESCAPE '\\') AND t.id > :afterId " +
+                              "ORDER BY t.id LIMIT :limit", params, this::mapRow);
+  }
+
+  private TranslationResponse mapRow(ResultSet rs, int rowNum) throws SQLException
+  {
+    return new TranslationResponse(rs.getLong("id"),
+                                   rs.getString("translation_key"),
+                                   rs.getString("code"),
+                                   rs.getString("content"),
+                                   null,
+                                   rs.getObject("created_on", OffsetDateTime.class),
+                                   rs.getObject("updated_on", OffsetDateTime.class));
+  }
+}
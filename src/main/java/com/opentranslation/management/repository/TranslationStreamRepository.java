@@ -0,0 +1,45 @@
+package com.opentranslation.management.repository;
+
+import java.util.stream.Stream;
+
+import com.opentranslation.management.dto.TranslationChange;
+import com.opentranslation.management.dto.TranslationResponse;
+
+/**
+ * Streaming reads over the whole catalog or large parts of it, mixed into {@link TranslationRepository}.
+ * <p>
+ * Rows are read through a server-side cursor, {@code app.stream.fetch-size} at a time, into a stateless session, so neither the driver nor a persistence
+ * context holds more than one fetch of the result. Call within a transaction, which PostgreSQL needs for a cursor and which keeps the connection open, and
+ * close the stream. Tags are set to null in the DTOs; attach them in chunks in the service layer.
+ * </p>
+ */
+public interface TranslationStreamRepository
+{
+
+  /**
+   * Stream all translations ordered by locale code and translation key.
+   * The ordering lets callers emit one locale group at a time without buffering the whole catalog.
+   */
+  Stream<TranslationResponse> streamAllTranslations();
+
+  /**
+   * Stream the translations of one locale ordered by translation key.
+   */
+  Stream<TranslationResponse> streamTranslationsByLocale(String locale);
+
+  /**
+   * Stream the translations carrying the given tag ordered by locale code and translation key.
+   */
+  Stream<TranslationResponse> streamTranslationsByTag(String tag);
+
+  /**
+   * Stream the translations of one locale carrying the given tag, ordered by translation key.
+   */
+  Stream<TranslationResponse> streamTranslationsByLocaleAndTag(String locale, String tag);
+
+  /**
+   * Stream the translations written after a position of the change feed, optionally restricted to one locale (pass null for all), in catalog version and id
+   * order: those of later versions than {@code version} and those of the same version with a greater id than {@code afterId}.
+   */
+  Stream<TranslationChange> streamChangedAfter(long version, long afterId, String locale);
+}
@@ -0,0 +1,119 @@
+package com.opentranslation.management.repository;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.opentranslation.management.dto.TranslationChange;
+import com.opentranslation.management.dto.TranslationResponse;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * {@link TranslationStreamRepository} on a Hibernate {@link StatelessSession} opened on the connection of the current transaction.
+ */
+public class TranslationStreamRepositoryImpl implements TranslationStreamRepository
+{
+
+  private static final String SELECT = "SELECT new com.opentranslation.management.dto.TranslationResponse(" +
+                                       "t.id, t.translationKey, t.locale.code, t.content, null, t.createdOn, t.updatedOn) ";
+
+  private static final String CHANGE_SELECT = "SELECT new com.opentranslation.management.dto.TranslationChange(" +
+                                              "t.id, t.translationKey, t.locale.code, t.content, t.createdOn, t.updatedOn, t.catalogVersion) ";
+
+  private final SessionFactory sessionFactory;
+  private final DataSource dataSource;
+  private final int fetchSize;
+
+  public TranslationStreamRepositoryImpl(EntityManagerFactory entityManagerFactory,
+                                         DataSource dataSource,
+                                         @Value("${app.stream.fetch-size:1000}") int fetchSize)
+  {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    this.dataSource = dataSource;
+    this.fetchSize = fetchSize;
+  }
+
+  @Override
+  public Stream<TranslationResponse> streamAllTranslations()
+  {
+    return stream(SELECT + "FROM Translation t ORDER BY t.locale.code, t.translationKey", Map.of());
+  }
+
+  @Override
+  public Stream<TranslationResponse> streamTranslationsByLocale(String locale)
+  {
+    return stream(SELECT + "FROM Translation t WHERE t.locale.code = :locale ORDER BY t.translationKey", Map.of("locale", locale));
+  }
+
+  @Override
+  public Stream<TranslationResponse> streamTranslationsByTag(String tag)
+  {
+    return stream(SELECT + "FROM Translation t JOIN t.tags tag WHERE tag.name = :tag ORDER BY t.locale.code, t.translationKey", Map.of("tag", tag));
+  }
+
+  @Override
+  public Stream<TranslationResponse> streamTranslationsByLocaleAndTag(String locale, String tag)
+  {
+    return stream(SELECT + "FROM Translation t JOIN t.tags tag WHERE t.locale.code = :locale AND tag.name = :tag ORDER BY t.translationKey",
+                  Map.of("locale", locale, "tag", tag));
+  }
+
+  @Override
+  public Stream<TranslationChange> streamChangedAfter(long version, long afterId, String locale)
+  {
+    String after = "WHERE (t.catalogVersion > :version OR (t.catalogVersion = :version AND t.id > :afterId)) ";
+    if (locale == null)
+    {
+      return stream(CHANGE_SELECT + "FROM Translation t " + after + "ORDER BY t.catalogVersion, t.id", TranslationChange.class,
+                    Map.of("version", version, "afterId", afterId));
+    }
+    return stream(CHANGE_SELECT + "FROM Translation t " + after + "AND t.locale.code = :locale ORDER BY t.catalogVersion, t.id", TranslationChange.class,
+                  Map.of("version", version, "afterId", afterId, "locale", locale));
+  }
+
+  private Stream<TranslationResponse> stream(String query, Map<String, Object> parameters)
+  {
+    return stream(query, TranslationResponse.class, parameters);
+  }
+
+  private <T> Stream<T> stream(String query, Class<T> resultType, Map<String, Object> parameters)
+  {
+    if (!TransactionSynchronizationManager.isActualTransactionActive())
+    {
+      throw new InvalidDataAccessApiUsageException("Translation streams need a surrounding transaction that keeps the connection open");
+    }
+
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    StatelessSession session = sessionFactory.withStatelessOptions()
+                                             .connection(connection)
+                                             .openStatelessSession();
+    try
+    {
+      SelectionQuery<T> selection = session.createSelectionQuery(query, resultType)
+                                                             .setFetchSize(fetchSize);
+      parameters.forEach(selection::setParameter);
+      return selection.getResultStream()
+                      .onClose(() -> {
+                        session.close();
+                        DataSourceUtils.releaseConnection(connection, dataSource);
+                      });
+    }
+    catch (RuntimeException e)
+    {
+      session.close();
+      DataSourceUtils.releaseConnection(connection, dataSource);
+      throw e;
+    }
+  }
+}
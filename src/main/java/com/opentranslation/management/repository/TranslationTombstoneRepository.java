@@ -0,0 +1,34 @@
+package com.opentranslation.management.repository;
+
+import com.opentranslation.management.model.TranslationTombstone;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface TranslationTombstoneRepository extends JpaRepository<TranslationTombstone, Long>
+{
+  /**
+   * Deletions after a position of the change feed, in catalog version and id order. Fetch one row more than the page size to see whether another page follows.
+   */
+  @Query("SELECT t FROM TranslationTombstone t WHERE (t.catalogVersion > :version OR (t.catalogVersion = :version AND t.id > :afterId)) " +
+         "AND (:locale IS NULL OR t.localeCode = :locale) ORDER BY t.catalogVersion, t.id")
+  List<TranslationTombstone> findDeletedAfter(@Param("version") long version, @Param("afterId") long afterId, @Param("locale") String locale,
+                                              Pageable pageable);
+
+  /**
+   * Deletions after a point in time, in the same order as {@link #findDeletedAfter}.
+   */
+  @Query("SELECT t FROM TranslationTombstone t WHERE t.deletedOn > :since AND (:locale IS NULL OR t.localeCode = :locale) ORDER BY t.catalogVersion, t.id")
+  List<TranslationTombstone> findDeletedSince(@Param("since") OffsetDateTime since, @Param("locale") String locale, Pageable pageable);
+
+  /**
+   * Catalog version of the latest deletion in a locale, or {@code null} if none was recorded.
+   */
+  @Query("SELECT max(t.catalogVersion) FROM TranslationTombstone t WHERE t.localeCode = :locale")
+  Long findLatestCatalogVersionByLocale(@Param("locale") String locale);
+}
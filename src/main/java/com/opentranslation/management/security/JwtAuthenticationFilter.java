@@ -14,10 +14,10 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-  private final JwtUtil jwtUtil;
+  private final JwtTokenCache tokenCache;
 
-  public JwtAuthenticationFilter(JwtUtil jwtUtil) {
-    this.jwtUtil = jwtUtil;
+  public JwtAuthenticationFilter(JwtTokenCache tokenCache) {
+    this.tokenCache = tokenCache;
   }
 
   @Override
@@ -28,13 +28,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     String authHeader = request.getHeader("Authorization");
     if (authHeader != null && authHeader.startsWith("Bearer ")) {
       String token = authHeader.substring(7);
-      if (jwtUtil.validateToken(token)) {
-        String clientCode = jwtUtil.extractClientCode(token);
+      tokenCache.authenticate(token).ifPresent(clientCode -> {
         UsernamePasswordAuthenticationToken authToken =
                 new UsernamePasswordAuthenticationToken(clientCode, null, null);
         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authToken);
-      }
+      });
     }
     filterChain.doFilter(request, response);
   }
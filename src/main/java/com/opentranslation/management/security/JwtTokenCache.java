@@ -0,0 +1,184 @@
+package com.opentranslation.management.security;
+
+import com.opentranslation.management.dto.JwtAuthenticationStats;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers verified JWTs so a token's signature is checked once per lifetime instead of on every request.
+ * <p>
+ * Entries are keyed by the SHA-256 hash of the token, never the token itself, and hold only the client code and the token's {@code exp}. An entry is dropped
+ * when read at or after its expiry, and the least recently used entries are evicted beyond {@code app.security.token-cache.max-size}. Rejected tokens are not
+ * cached, so a flood of bad tokens cannot displace valid ones.
+ * </p>
+ */
+@Component
+public class JwtTokenCache implements MeterBinder {
+
+  private final JwtUtil jwtUtil;
+  private final Clock clock;
+  private final boolean enabled;
+  private final Map<String, CachedToken> tokens;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder authenticated = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder authNanos = new LongAdder();
+
+  @Autowired
+  public JwtTokenCache(JwtUtil jwtUtil,
+                       @Value("${app.security.token-cache.enabled:true}") boolean enabled,
+                       @Value("${app.security.token-cache.max-size:10000}") int maxSize) {
+    this(jwtUtil, enabled, maxSize, Clock.systemUTC());
+  }
+
+  public JwtTokenCache(JwtUtil jwtUtil, boolean enabled, int maxSize, Clock clock) {
+    this.jwtUtil = jwtUtil;
+    this.enabled = enabled;
+    this.clock = clock;
+    this.tokens = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedToken> eldest) {
+        if (size() > maxSize) {
+          evictions.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Resolve the client code of a bearer token, verifying it only when it is not already cached and unexpired.
+   *
+   * @return the client code, or empty when the token is invalid or expired
+   */
+  public Optional<String> authenticate(String token) {
+    long started = System.nanoTime();
+    try {
+      Optional<String> clientCode = enabled ? cachedOrParsed(token) : jwtUtil.parseToken(token)
+                                                                             .map(Claims::getSubject);
+      (clientCode.isPresent() ? authenticated : rejected).increment();
+      return clientCode;
+    } finally {
+      authNanos.add(System.nanoTime() - started);
+    }
+  }
+
+  private Optional<String> cachedOrParsed(String token) {
+    String key = hash(token);
+    long now = clock.millis();
+    synchronized (tokens) {
+      CachedToken cached = tokens.get(key);
+      if (cached != null) {
+        if (now < cached.getExpiresAt()) {
+          hits.increment();
+          return Optional.of(cached.getClientCode());
+        }
+        tokens.remove(key);
+        evictions.increment();
+      }
+    }
+
+    misses.increment();
+    Optional<Claims> claims = jwtUtil.parseToken(token);
+    claims.filter(c -> c.getExpiration() != null && c.getSubject() != null)
+          .ifPresent(c -> {
+            synchronized (tokens) {
+              tokens.put(key, new CachedToken(c.getSubject(), c.getExpiration()
+                                                                .getTime()));
+            }
+          });
+    return claims.map(Claims::getSubject);
+  }
+
+  public JwtAuthenticationStats getStats() {
+    long hitCount = hits.sum();
+    long lookups = hitCount + misses.sum();
+    long requests = authenticated.sum() + rejected.sum();
+    int size;
+    synchronized (tokens) {
+      size = tokens.size();
+    }
+    return JwtAuthenticationStats.builder()
+                                 .cacheEnabled(enabled)
+                                 .hits(hitCount)
+                                 .misses(misses.sum())
+                                 .evictions(evictions.sum())
+                                 .cachedTokens(size)
+                                 .hitRate(lookups == 0 ? 0 : (double) hitCount / lookups)
+                                 .authenticatedRequests(authenticated.sum())
+                                 .rejectedRequests(rejected.sum())
+                                 .averageAuthMicros(requests == 0 ? 0 : authNanos.sum() / 1_000.0 / requests)
+                                 .build();
+  }
+
+  /**
+   * Publish the token cache statistics and the time spent authenticating requests as {@code auth.*} meters.
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("auth.token.cache.requests", hits, LongAdder::sum)
+                   .tag("result", "hit")
+                   .register(registry);
+    FunctionCounter.builder("auth.token.cache.requests", misses, LongAdder::sum)
+                   .tag("result", "miss")
+                   .register(registry);
+    FunctionCounter.builder("auth.token.cache.evictions", evictions, LongAdder::sum)
+                   .register(registry);
+    Gauge.builder("auth.token.cache.size", this, cache -> cache.getStats().getCachedTokens())
+         .register(registry);
+    FunctionTimer.builder("auth.authentication", this,
+                          cache -> cache.authenticated.sum() + cache.rejected.sum(),
+                          cache -> cache.authNanos.sum(),
+                          TimeUnit.NANOSECONDS)
+                 .description("Time spent resolving the bearer token of a request")
+                 .register(registry);
+    FunctionCounter.builder("auth.requests", rejected, LongAdder::sum)
+                   .tag("outcome", "rejected")
+                   .register(registry);
+    FunctionCounter.builder("auth.requests", authenticated, LongAdder::sum)
+                   .tag("outcome", "authenticated")
+                   .register(registry);
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+                                   .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder()
+                   .encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static final class CachedToken {
+    private final String clientCode;
+    private final long expiresAt;
+  }
+}
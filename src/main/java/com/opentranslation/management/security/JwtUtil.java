@@ -1,5 +1,8 @@
 package com.opentranslation.management.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -8,6 +11,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
@@ -15,6 +19,10 @@ public class JwtUtil {
   private static final String KEY = "super-secret-key-super-secret-key-12345"; // make it long enough (>= 256 bits)
   private static final SecretKey SECRET_KEY = Keys.hmacShaKeyFor(KEY.getBytes(StandardCharsets.UTF_8));
   private static final long EXPIRATION_MS = 24 * 60 * 60 * 1000; // 24h
+  // Parsers are immutable and thread-safe, so one instance serves every request
+  private static final JwtParser PARSER = Jwts.parserBuilder()
+                                              .setSigningKey(SECRET_KEY)
+                                              .build();
 
   public String generateToken(String clientCode) {
     return Jwts.builder()
@@ -26,20 +34,24 @@ public class JwtUtil {
   }
 
   public String extractClientCode(String token) {
-    return Jwts.parserBuilder()
-               .setSigningKey(SECRET_KEY)
-               .build()
-               .parseClaimsJws(token)
-               .getBody()
-               .getSubject();
+    return PARSER.parseClaimsJws(token)
+                 .getBody()
+                 .getSubject();
   }
 
   public boolean validateToken(String token) {
+    return parseToken(token).isPresent();
+  }
+
+  /**
+   * Verify the signature and expiry of a token once and return its claims, or empty when the token is not valid.
+   */
+  public Optional<Claims> parseToken(String token) {
     try {
-      extractClientCode(token);
-      return true;
-    } catch (Exception e) {
-      return false;
+      return Optional.of(PARSER.parseClaimsJws(token)
+                               .getBody());
+    } catch (JwtException | IllegalArgumentException e) {
+      return Optional.empty();
     }
   }
 }
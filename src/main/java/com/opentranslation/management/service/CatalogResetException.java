@@ -0,0 +1,17 @@
+package com.opentranslation.management.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when delta sync is asked for changes from before the last reset of the catalog, which left no tombstones; answered with 410 so clients export the
+ * catalog again.
+ */
+@ResponseStatus(HttpStatus.GONE)
+public class CatalogResetException extends RuntimeException
+{
+  public CatalogResetException(String message)
+  {
+    super(message);
+  }
+}
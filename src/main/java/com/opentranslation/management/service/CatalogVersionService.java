@@ -0,0 +1,80 @@
+package com.opentranslation.management.service;
+
+import com.opentranslation.management.model.CatalogVersion;
+import com.opentranslation.management.repository.CatalogVersionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Hands out the monotonic catalog version stamped on every translation write.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogVersionService
+{
+
+  private final CatalogVersionRepository catalogVersionRepository;
+
+  /**
+   * Allocate the next catalog version within the caller's transaction.
+   * <p>
+   * The counter row stays locked until that transaction ends, so concurrent writers commit in version order and a client that has seen version {@code n} has
+   * seen every change up to {@code n}. A rolled back write releases its version again.
+   * </p>
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public long next()
+  {
+    CatalogVersion counter = increment();
+    catalogVersionRepository.save(counter);
+    return counter.getCurrentVersion();
+  }
+
+  /**
+   * Allocate the next catalog version as by {@link #next()} and record it as a reset: the caller rewrites the catalog without tombstones, so clients that
+   * synced before it can no longer follow the changes and must export again.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public long reset()
+  {
+    CatalogVersion counter = increment();
+    counter.setResetVersion(counter.getCurrentVersion());
+    counter.setResetOn(OffsetDateTime.now());
+    catalogVersionRepository.save(counter);
+    return counter.getCurrentVersion();
+  }
+
+  /**
+   * Latest committed catalog version, or 0 before the first versioned write.
+   */
+  @Transactional(readOnly = true)
+  public long current()
+  {
+    return catalogVersionRepository.findCurrentVersion()
+                                   .orElse(0L);
+  }
+
+  /**
+   * Counter row as committed, for the last reset along with the current version; a row at version 0 before the first versioned write.
+   */
+  @Transactional(readOnly = true)
+  public CatalogVersion state()
+  {
+    return catalogVersionRepository.findCurrent()
+                                   .orElseGet(() -> new CatalogVersion(CatalogVersion.SINGLETON_ID, 0L, 0L, null));
+  }
+
+  private CatalogVersion increment()
+  {
+    CatalogVersion counter = catalogVersionRepository.lockCurrent()
+                                                     .orElseGet(() -> new CatalogVersion(CatalogVersion.SINGLETON_ID, 0L, 0L, null));
+    counter.setCurrentVersion(counter.getCurrentVersion() + 1);
+    return counter;
+  }
+}
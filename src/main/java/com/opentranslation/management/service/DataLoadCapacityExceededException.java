@@ -0,0 +1,16 @@
+package com.opentranslation.management.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the data load job queue is full; answered with 503 so clients retry later.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DataLoadCapacityExceededException extends RuntimeException
+{
+  public DataLoadCapacityExceededException(String message)
+  {
+    super(message);
+  }
+}
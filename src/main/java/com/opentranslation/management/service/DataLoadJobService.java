@@ -0,0 +1,259 @@
+package com.opentranslation.management.service;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.opentranslation.management.config.DataLoader;
+import com.opentranslation.management.dto.DataLoadJobResponse;
+import com.opentranslation.management.dto.DataLoadJobState;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs test data loads in the background.
+ * <p>
+ * Jobs are executed one at a time on a dedicated thread (the {@link DataLoader} parallelizes each load itself); up to {@code app.test-data.jobs.max-queued}
+ * more wait in a bounded queue, and further submissions fail with {@link DataLoadCapacityExceededException}. The latest {@code app.test-data.jobs.retained}
+ * jobs are kept for status queries. A cancelled job stops before its next chunk; queued jobs are cancelled before they start.
+ * </p>
+ */
+@Slf4j
+@Service
+public class DataLoadJobService
+{
+
+  private final DataLoader dataLoader;
+  private final ThreadPoolExecutor executor;
+  private final Map<String, DataLoadJob> jobs;
+
+  public DataLoadJobService(DataLoader dataLoader,
+                            @Value("${app.test-data.jobs.max-queued:4}") int maxQueued,
+                            @Value("${app.test-data.jobs.retained:20}") int retained)
+  {
+    this.dataLoader = dataLoader;
+    this.executor = new ThreadPoolExecutor(1,
+                                           1,
+                                           0,
+                                           TimeUnit.MILLISECONDS,
+                                           new ArrayBlockingQueue<>(Math.max(1, maxQueued)),
+                                           Thread.ofPlatform()
+                                                 .name("test-data-job-", 1)
+                                                 .factory());
+    // Retaining more jobs than can be queued or running means only finished jobs are ever evicted
+    int capacity = Math.max(retained, maxQueued + 1);
+    this.jobs = new LinkedHashMap<>()
+    {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, DataLoadJob> eldest)
+      {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Queue a test data load.
+   *
+   * @param force delete all translations before loading
+   * @throws DataLoadCapacityExceededException if too many jobs are already waiting
+   */
+  public DataLoadJobResponse submit(boolean force)
+  {
+    DataLoadJob job = new DataLoadJob(UUID.randomUUID()
+                                          .toString(), force);
+    synchronized (jobs)
+    {
+      jobs.put(job.id, job);
+    }
+    try
+    {
+      executor.execute(() -> run(job));
+    }
+    catch (RejectedExecutionException e)
+    {
+      synchronized (jobs)
+      {
+        jobs.remove(job.id);
+      }
+      throw new DataLoadCapacityExceededException("Too many data load jobs queued, retry later");
+    }
+    return job.toResponse();
+  }
+
+  public Optional<DataLoadJobResponse> getJob(String id)
+  {
+    return findJob(id).map(DataLoadJob::toResponse);
+  }
+
+  /**
+   * Request cancellation of a job; finished jobs are left as they are.
+   */
+  public Optional<DataLoadJobResponse> cancel(String id)
+  {
+    return findJob(id).map(job -> {
+      job.cancel();
+      return job.toResponse();
+    });
+  }
+
+  @PreDestroy
+  public void shutdown()
+  {
+    synchronized (jobs)
+    {
+      jobs.values()
+          .forEach(DataLoadJob::cancel);
+    }
+    executor.shutdown();
+  }
+
+  private Optional<DataLoadJob> findJob(String id)
+  {
+    synchronized (jobs)
+    {
+      return Optional.ofNullable(jobs.get(id));
+    }
+  }
+
+  private void run(DataLoadJob job)
+  {
+    if (!job.start())
+    {
+      return;
+    }
+    try
+    {
+      if (job.force)
+      {
+        job.purgedRecords = dataLoader.purge();
+      }
+      long inserted = dataLoader.loadData(job);
+      job.finish(DataLoadJobState.COMPLETED, inserted == 0 ? "Translations already exist; use force=true to reload" : null);
+    }
+    catch (CancellationException e)
+    {
+      job.finish(DataLoadJobState.CANCELLED, e.getMessage());
+    }
+    catch (RuntimeException e)
+    {
+      log.error("Data load job {} failed", job.id, e);
+      job.finish(DataLoadJobState.FAILED, e.getMessage());
+    }
+  }
+
+  /**
+   * State of one job, updated by the job thread and the load workers and read by status queries.
+   */
+  private static class DataLoadJob implements DataLoader.LoadProgress
+  {
+
+    private final String id;
+    private final boolean force;
+    private final OffsetDateTime submittedAt = OffsetDateTime.now();
+    private volatile DataLoadJobState state = DataLoadJobState.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile long purgedRecords;
+    private volatile long totalRecords;
+    private volatile long insertedRecords;
+    private volatile long loadStartedNanos;
+    private volatile long finishedNanos;
+    private volatile OffsetDateTime startedAt;
+    private volatile OffsetDateTime finishedAt;
+    private volatile String message;
+
+    DataLoadJob(String id, boolean force)
+    {
+      this.id = id;
+      this.force = force;
+    }
+
+    /**
+     * Move from queued to running, unless the job was cancelled while queued.
+     */
+    synchronized boolean start()
+    {
+      if (state != DataLoadJobState.QUEUED)
+      {
+        return false;
+      }
+      state = DataLoadJobState.RUNNING;
+      startedAt = OffsetDateTime.now();
+      return true;
+    }
+
+    synchronized void cancel()
+    {
+      if (state == DataLoadJobState.QUEUED)
+      {
+        finish(DataLoadJobState.CANCELLED, "Cancelled before start");
+      }
+      else if (state == DataLoadJobState.RUNNING)
+      {
+        cancelRequested = true;
+      }
+    }
+
+    synchronized void finish(DataLoadJobState finalState, String finalMessage)
+    {
+      state = finalState;
+      message = finalMessage;
+      finishedAt = OffsetDateTime.now();
+      finishedNanos = System.nanoTime();
+    }
+
+    @Override
+    public void started(long records)
+    {
+      totalRecords = records;
+      // Throughput covers the load only, not a preceding purge
+      loadStartedNanos = System.nanoTime();
+    }
+
+    @Override
+    public void written(long inserted)
+    {
+      // Chunks complete out of order, so keep the highest total seen
+      synchronized (this)
+      {
+        insertedRecords = Math.max(insertedRecords, inserted);
+      }
+    }
+
+    @Override
+    public boolean isCancelled()
+    {
+      return cancelRequested;
+    }
+
+    synchronized DataLoadJobResponse toResponse()
+    {
+      long elapsedNanos = loadStartedNanos == 0 ? 0 : (finishedNanos != 0 ? finishedNanos : System.nanoTime()) - loadStartedNanos;
+      return DataLoadJobResponse.builder()
+                                .id(id)
+                                .state(state)
+                                .force(force)
+                                .purgedRecords(purgedRecords)
+                                .totalRecords(totalRecords)
+                                .insertedRecords(insertedRecords)
+                                .progressPercent(totalRecords == 0 ? 0 : insertedRecords * 100.0 / totalRecords)
+                                .rowsPerSecond(elapsedNanos == 0 ? 0 : insertedRecords * 1_000_000_000.0 / elapsedNanos)
+                                .submittedAt(submittedAt)
+                                .startedAt(startedAt)
+                                .finishedAt(finishedAt)
+                                .message(message)
+                                .build();
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.opentranslation.management.service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounds the number of exports streamed from the database at the same time.
+ * <p>
+ * A streamed export holds a pooled connection until its last row reaches the client. With virtual threads nothing else limits how many run at once, so
+ * without this bound a burst of slow exports could take every connection and starve short reads and writes. Exports beyond
+ * {@code app.export.max-concurrent-db-streams} wait for a permit and fail with {@link ExportCapacityExceededException} after
+ * {@code app.export.stream-wait-timeout-ms}.
+ * </p>
+ */
+@Component
+public class DatabaseStreamLimiter
+{
+
+  private final Semaphore permits;
+  private final long waitTimeoutMs;
+
+  public DatabaseStreamLimiter(@Value("${app.export.max-concurrent-db-streams:8}") int maxStreams,
+                               @Value("${app.export.stream-wait-timeout-ms:30000}") long waitTimeoutMs)
+  {
+    this.permits = new Semaphore(maxStreams, true);
+    this.waitTimeoutMs = waitTimeoutMs;
+  }
+
+  /**
+   * Wait for a permit to stream from the database; close the returned permit when the stream is done.
+   *
+   * @throws ExportCapacityExceededException if no permit becomes available in time
+   */
+  public Permit acquire()
+  {
+    try
+    {
+      if (!permits.tryAcquire(waitTimeoutMs, TimeUnit.MILLISECONDS))
+      {
+        throw new ExportCapacityExceededException("Too many exports in progress, retry later");
+      }
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread()
+            .interrupt();
+      throw new ExportCapacityExceededException("Interrupted while waiting to export");
+    }
+    return permits::release;
+  }
+
+  public int getAvailablePermits()
+  {
+    return permits.availablePermits();
+  }
+
+  /**
+   * Permit to stream from the database, released on close.
+   */
+  public interface Permit extends AutoCloseable
+  {
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,16 @@
+package com.opentranslation.management.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an export cannot get a database stream permit in time; answered with 503 so clients retry later.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ExportCapacityExceededException extends RuntimeException
+{
+  public ExportCapacityExceededException(String message)
+  {
+    super(message);
+  }
+}
@@ -1,5 +1,6 @@
 package com.opentranslation.management.service;
 
+import com.opentranslation.management.cache.ReferenceDictionary;
 import com.opentranslation.management.dto.LocaleDto;
 import com.opentranslation.management.model.Locale;
 import com.opentranslation.management.repository.LocaleRepository;
@@ -19,13 +20,38 @@ public class LocaleService
 {
 
   private final LocaleRepository localeRepository;
+  private final ReferenceDictionary referenceDictionary;
 
-  public LocaleDto createLocale(String code)
+  public LocaleDto createLocale(String code, String parentCode)
   {
     Locale entity = Locale.builder()
                           .code(code)
+                          .parent(findParent(parentCode))
                           .build();
-    return map(localeRepository.save(entity));
+    Locale saved = localeRepository.saveAndFlush(entity);
+    referenceDictionary.putLocale(saved);
+    return map(saved);
+  }
+
+  /**
+   * Set or, with a {@code null} code, clear the locale a locale falls back to.
+   *
+   * @throws IllegalArgumentException if the locale would fall back to itself through the new parent
+   */
+  public LocaleDto setParent(Long id, String parentCode)
+  {
+    Locale entity = localeRepository.findById(id)
+                                    .orElseThrow(() -> new EntityNotFoundException("Locale not found: " + id));
+    if (parentCode != null && referenceDictionary.getFallbackChain(parentCode)
+                                                 .contains(entity.getCode()))
+    {
+      throw new IllegalArgumentException("Locale " + entity.getCode() + " cannot fall back to " + parentCode + ", which falls back to it");
+    }
+
+    entity.setParent(findParent(parentCode));
+    Locale saved = localeRepository.saveAndFlush(entity);
+    referenceDictionary.putLocale(saved);
+    return map(saved);
   }
 
   public LocaleDto getLocale(Long id)
@@ -43,8 +69,19 @@ public class LocaleService
                            .toList();
   }
 
+  private Locale findParent(String parentCode)
+  {
+    if (parentCode == null)
+    {
+      return null;
+    }
+    return referenceDictionary.findLocale(parentCode)
+                              .orElseThrow(() -> new EntityNotFoundException("Locale not found: " + parentCode));
+  }
+
   private LocaleDto map(Locale entity)
   {
-    return new LocaleDto(entity.getId(), entity.getCode());
+    String parentCode = entity.getParent() == null ? null : referenceDictionary.getLocaleCode(entity.getParent());
+    return new LocaleDto(entity.getId(), entity.getCode(), parentCode);
   }
 }
@@ -1,5 +1,6 @@
 package com.opentranslation.management.service;
 
+import com.opentranslation.management.cache.ReferenceDictionary;
 import com.opentranslation.management.dto.TagDto;
 import com.opentranslation.management.model.Tag;
 import com.opentranslation.management.repository.TagRepository;
@@ -19,13 +20,16 @@ public class TagService
 {
 
   private final TagRepository tagRepository;
+  private final ReferenceDictionary referenceDictionary;
 
   public TagDto createTag(String name)
   {
     Tag entity = Tag.builder()
                     .name(name)
                     .build();
-    return map(tagRepository.save(entity));
+    Tag saved = tagRepository.saveAndFlush(entity);
+    referenceDictionary.putTag(saved);
+    return map(saved);
   }
 
   public TagDto getTag(Long id)
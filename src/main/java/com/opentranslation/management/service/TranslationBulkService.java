@@ -0,0 +1,331 @@
+package com.opentranslation.management.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opentranslation.management.cache.ReferenceDictionary;
+import com.opentranslation.management.cache.TranslationBatchChangedEvent;
+import com.opentranslation.management.dto.*;
+import com.opentranslation.management.model.Locale;
+import com.opentranslation.management.repository.LocaleRepository;
+import com.opentranslation.management.repository.TranslationBulkRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk insert-or-update of translations.
+ * <p>
+ * Requests are processed in chunks of {@code app.bulk.batch-size} rows, each in its own transaction. Locales and tags are resolved once per chunk (and
+ * remembered for the rest of the request), rows are upserted with JDBC batches on the {@code (translation_key, locale_id)} constraint under one catalog version per
+ * chunk, and every input row gets an individual outcome. A failing chunk is rolled back and reported without affecting chunks that already committed, and a
+ * line of newline-delimited JSON that cannot be parsed fails on its own.
+ * </p>
+ */
+@Service
+public class TranslationBulkService
+{
+
+  private final TranslationBulkRepository bulkRepository;
+  private final LocaleRepository localeRepository;
+  private final ReferenceDictionary referenceDictionary;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final CatalogVersionService catalogVersionService;
+  private final int batchSize;
+
+  public TranslationBulkService(TranslationBulkRepository bulkRepository,
+                                LocaleRepository localeRepository,
+                                ReferenceDictionary referenceDictionary,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                TransactionTemplate transactionTemplate,
+                                CatalogVersionService catalogVersionService,
+                                @Value("${app.bulk.batch-size:1000}") int batchSize)
+  {
+    this.bulkRepository = bulkRepository;
+    this.localeRepository = localeRepository;
+    this.referenceDictionary = referenceDictionary;
+    this.objectMapper = objectMapper;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = transactionTemplate;
+    this.catalogVersionService = catalogVersionService;
+    this.batchSize = batchSize;
+  }
+
+  public BulkTranslationResponse upsert(List<TranslationRequest> requests)
+  {
+    return upsert(requests.stream()
+                          .map(BulkRow::of)
+                          .iterator());
+  }
+
+  /**
+   * Upsert translations read from newline-delimited JSON, one {@link TranslationRequest} per line. Lines are parsed as chunks are processed, so the body is
+   * never held in memory as a whole. Blank lines are skipped; a line that is not a translation object is reported as a failed row and the following lines are
+   * still processed.
+   */
+  public BulkTranslationResponse upsertNdjson(InputStream body) throws IOException
+  {
+    BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    try
+    {
+      return upsert(lines.lines()
+                         .filter(line -> !line.isBlank())
+                         .map(this::parseLine)
+                         .iterator());
+    }
+    catch (UncheckedIOException e)
+    {
+      throw e.getCause();
+    }
+  }
+
+  private BulkRow parseLine(String line)
+  {
+    try
+    {
+      return BulkRow.of(objectMapper.readValue(line, TranslationRequest.class));
+    }
+    catch (JsonProcessingException e)
+    {
+      return new BulkRow(null, "Invalid JSON: " + e.getOriginalMessage());
+    }
+  }
+
+  private BulkTranslationResponse upsert(Iterator<BulkRow> rows)
+  {
+    long started = System.nanoTime();
+    List<BulkRowResult> results = new ArrayList<>();
+    Map<String, Locale> locales = new HashMap<>();
+    Map<String, Long> tagIds = new HashMap<>();
+
+    List<BulkRow> chunk = new ArrayList<>(batchSize);
+    while (rows.hasNext())
+    {
+      chunk.add(rows.next());
+      if (chunk.size() == batchSize || !rows.hasNext())
+      {
+        processChunk(chunk, results.size(), results, locales, tagIds);
+        chunk.clear();
+      }
+    }
+
+    long elapsedNanos = System.nanoTime() - started;
+    Map<BulkRowStatus, Long> counts = results.stream()
+                                             .collect(Collectors.groupingBy(BulkRowResult::getStatus, Collectors.counting()));
+    return BulkTranslationResponse.builder()
+                                  .total(results.size())
+                                  .created(counts.getOrDefault(BulkRowStatus.CREATED, 0L)
+                                                 .intValue())
+                                  .updated(counts.getOrDefault(BulkRowStatus.UPDATED, 0L)
+                                                 .intValue())
+                                  .failed(counts.getOrDefault(BulkRowStatus.FAILED, 0L)
+                                                .intValue())
+                                  .elapsedMs(elapsedNanos / 1_000_000)
+                                  .rowsPerSecond(elapsedNanos == 0 ? 0 : results.size() * 1_000_000_000.0 / elapsedNanos)
+                                  .results(results)
+                                  .build();
+  }
+
+  private void processChunk(List<BulkRow> rows,
+                            int offset,
+                            List<BulkRowResult> results,
+                            Map<String, Locale> locales,
+                            Map<String, Long> tagIds)
+  {
+    List<TranslationRequest> chunk = new ArrayList<>(rows.size());
+    List<BulkRowResult> chunkResults = new ArrayList<>(rows.size());
+    for (int i = 0; i < rows.size(); i++)
+    {
+      BulkRow row = rows.get(i);
+      chunk.add(row.request());
+      chunkResults.add(BulkRowResult.builder()
+                                    .index(offset + i)
+                                    .translationKey(row.request() == null ? null : row.request()
+                                                                                      .getTranslationKey())
+                                    .localeCode(row.request() == null ? null : row.request()
+                                                                                  .getLocaleCode())
+                                    .status(row.error() == null ? null : BulkRowStatus.FAILED)
+                                    .error(row.error())
+                                    .build());
+    }
+    results.addAll(chunkResults);
+
+    try
+    {
+      Map<String, Long> resolvedTags = transactionTemplate.execute(status -> writeChunk(chunk, chunkResults, locales, tagIds));
+      tagIds.putAll(resolvedTags);
+    }
+    catch (RuntimeException e)
+    {
+      // Whatever failed, the chunk was rolled back as a whole; the chunks before it stay committed and the ones after it are still attempted
+      String cause = e instanceof DataAccessException dataAccess ? dataAccess.getMostSpecificCause()
+                                                                             .getMessage() : e.getMessage();
+      for (BulkRowResult result : chunkResults)
+      {
+        if (result.getStatus() != BulkRowStatus.FAILED)
+        {
+          result.setId(null);
+          result.setStatus(BulkRowStatus.FAILED);
+          result.setError("Batch rolled back: " + cause);
+        }
+      }
+    }
+  }
+
+  /**
+   * Write one chunk inside the current transaction and return the tag ids it resolved, to be remembered once it commits. Rows already failed are {@code null}.
+   */
+  private Map<String, Long> writeChunk(List<TranslationRequest> chunk,
+                                       List<BulkRowResult> chunkResults,
+                                       Map<String, Locale> locales,
+                                       Map<String, Long> tagIds)
+  {
+    resolveLocales(chunk, locales);
+    Map<String, Long> resolvedTags = resolveTags(chunk, tagIds);
+
+    // Validate and group by locale; a later row for the same key and locale supersedes an earlier one
+    Map<String, LinkedHashMap<String, Integer>> rowsByLocale = new LinkedHashMap<>();
+    for (int i = 0; i < chunk.size(); i++)
+    {
+      TranslationRequest request = chunk.get(i);
+      BulkRowResult result = chunkResults.get(i);
+      if (request == null)
+      {
+        continue;
+      }
+      if (request.getTranslationKey() == null || request.getLocaleCode() == null || request.getContent() == null)
+      {
+        fail(result, "translationKey, localeCode and content are required");
+      }
+      else if (!locales.containsKey(request.getLocaleCode()))
+      {
+        fail(result, "Locale not found: " + request.getLocaleCode());
+      }
+      else
+      {
+        rowsByLocale.computeIfAbsent(request.getLocaleCode(), code -> new LinkedHashMap<>())
+                    .put(request.getTranslationKey(), i);
+      }
+    }
+
+    if (rowsByLocale.isEmpty())
+    {
+      return resolvedTags;
+    }
+
+    OffsetDateTime now = OffsetDateTime.now();
+    long catalogVersion = catalogVersionService.next();
+    List<TranslationResponse> changes = new ArrayList<>();
+    Map<Long, Set<Long>> tagLinks = new HashMap<>();
+
+    for (Map.Entry<String, LinkedHashMap<String, Integer>> group : rowsByLocale.entrySet())
+    {
+      Locale locale = locales.get(group.getKey());
+      Set<String> keys = group.getValue()
+                              .keySet();
+      List<TranslationRequest> rows = group.getValue()
+                                           .values()
+                                           .stream()
+                                           .map(chunk::get)
+                                           .toList();
+
+      Set<String> existing = bulkRepository.findByLocaleAndKeys(locale.getId(), locale.getCode(), keys)
+                                           .keySet();
+      bulkRepository.upsert(locale.getId(), rows, now, catalogVersion);
+      Map<String, TranslationResponse> stored = bulkRepository.findByLocaleAndKeys(locale.getId(), locale.getCode(), keys);
+
+      for (int index : group.getValue()
+                            .values())
+      {
+        TranslationRequest request = chunk.get(index);
+        TranslationResponse row = stored.get(request.getTranslationKey());
+        Set<String> tagNames = request.getTags() == null ? Set.of() : request.getTags();
+        row.setTags(new HashSet<>(tagNames));
+        changes.add(row);
+        tagLinks.put(row.getId(),
+                     tagNames.stream()
+                             .map(name -> tagIds.getOrDefault(name, resolvedTags.get(name)))
+                             .collect(Collectors.toSet()));
+
+        BulkRowResult result = chunkResults.get(index);
+        result.setId(row.getId());
+        result.setStatus(existing.contains(request.getTranslationKey()) ? BulkRowStatus.UPDATED : BulkRowStatus.CREATED);
+      }
+    }
+
+    // Rows superseded by a later duplicate in the same chunk share its outcome
+    for (int i = 0; i < chunk.size(); i++)
+    {
+      BulkRowResult result = chunkResults.get(i);
+      if (result.getStatus() == null)
+      {
+        int winner = rowsByLocale.get(result.getLocaleCode())
+                                 .get(result.getTranslationKey());
+        result.setId(chunkResults.get(winner)
+                                 .getId());
+        result.setStatus(BulkRowStatus.UPDATED);
+      }
+    }
+
+    bulkRepository.replaceTags(tagLinks);
+    eventPublisher.publishEvent(new TranslationBatchChangedEvent(changes, catalogVersion));
+    return resolvedTags;
+  }
+
+  private void resolveLocales(List<TranslationRequest> chunk, Map<String, Locale> locales)
+  {
+    Set<String> missing = chunk.stream()
+                               .filter(Objects::nonNull)
+                               .map(TranslationRequest::getLocaleCode)
+                               .filter(code -> code != null && !locales.containsKey(code))
+                               .collect(Collectors.toSet());
+    if (!missing.isEmpty())
+    {
+      localeRepository.findByCodeIn(missing)
+                      .forEach(locale -> locales.put(locale.getCode(), locale));
+    }
+  }
+
+  private Map<String, Long> resolveTags(List<TranslationRequest> chunk, Map<String, Long> tagIds)
+  {
+    Set<String> missing = chunk.stream()
+                               .filter(request -> request != null && request.getTags() != null)
+                               .flatMap(request -> request.getTags()
+                                                          .stream())
+                               .filter(name -> !tagIds.containsKey(name))
+                               .collect(Collectors.toSet());
+    return missing.isEmpty() ? new HashMap<>() : referenceDictionary.getOrCreateTagIds(missing);
+  }
+
+  private void fail(BulkRowResult result, String error)
+  {
+    result.setStatus(BulkRowStatus.FAILED);
+    result.setError(error);
+  }
+
+  /**
+   * An input row: the parsed request, or the reason it could not be read.
+   */
+  private record BulkRow(TranslationRequest request, String error)
+  {
+    static BulkRow of(TranslationRequest request)
+    {
+      return request == null ? new BulkRow(null, "Row must be a translation object") : new BulkRow(request, null);
+    }
+  }
+}
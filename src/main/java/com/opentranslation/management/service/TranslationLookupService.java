@@ -0,0 +1,175 @@
+package com.opentranslation.management.service;
+
+import com.opentranslation.management.cache.LocaleSnapshot;
+import com.opentranslation.management.cache.LocaleSnapshotFileStore;
+import com.opentranslation.management.cache.MappedLocaleSnapshot;
+import com.opentranslation.management.cache.ReferenceDictionary;
+import com.opentranslation.management.cache.ResolvedBundle;
+import com.opentranslation.management.cache.ResolvedBundleCache;
+import com.opentranslation.management.cache.ResolvedTranslation;
+import com.opentranslation.management.cache.TranslationKeyFilter;
+import com.opentranslation.management.cache.TranslationSnapshotCache;
+import com.opentranslation.management.dto.TranslationLookupRequest;
+import com.opentranslation.management.dto.TranslationLookupResponse;
+import com.opentranslation.management.repository.TranslationLookupRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Resolves many translation keys of a locale in one call, falling back along a chain of locales for keys the requested locale lacks.
+ * <p>
+ * Without explicit fallback locales the locale's configured fallback chain is used, and with the snapshot cache enabled the keys are then read from the
+ * locale's {@link ResolvedBundleCache resolved bundle}, one map lookup per key whatever the length of the chain. With the snapshot cache enabled every key is
+ * answered from memory, and with {@link LocaleSnapshotFileStore snapshot files} enabled instead from the mapped file of each locale. Otherwise each locale of
+ * the chain costs at most one query for the keys still unresolved, after the {@link TranslationKeyFilter} has removed the keys that certainly do not exist, so
+ * a page asking for keys nobody translated yet does not reach the database at all.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TranslationLookupService
+{
+
+  private final TranslationSnapshotCache snapshotCache;
+  private final ResolvedBundleCache resolvedBundleCache;
+  private final ReferenceDictionary referenceDictionary;
+  private final LocaleSnapshotFileStore snapshotFileStore;
+  private final TranslationLookupRepository lookupRepository;
+  private final TranslationKeyFilter keyFilter;
+
+  public TranslationLookupResponse lookup(TranslationLookupRequest request)
+  {
+    if (request.getFallbackLocaleCodes() == null && snapshotCache.isEnabled())
+    {
+      return lookupResolved(request);
+    }
+
+    List<String> chain = request.getFallbackLocaleCodes() == null
+                         ? referenceDictionary.getFallbackChain(request.getLocaleCode())
+                         : Stream.concat(Stream.of(request.getLocaleCode()), request.getFallbackLocaleCodes()
+                                                                                    .stream())
+                                 .distinct()
+                                 .toList();
+    Set<String> remaining = new LinkedHashSet<>(request.getKeys());
+    Map<String, String> found = new HashMap<>();
+    Map<String, String> fallbacks = new HashMap<>();
+
+    for (String localeCode : chain)
+    {
+      if (remaining.isEmpty())
+      {
+        break;
+      }
+      Map<String, String> resolved;
+      if (snapshotCache.isEnabled())
+      {
+        resolved = lookupCached(localeCode, remaining);
+      }
+      else if (snapshotFileStore.isEnabled())
+      {
+        resolved = lookupMapped(localeCode, remaining);
+      }
+      else
+      {
+        resolved = lookupDatabase(localeCode, remaining);
+      }
+      found.putAll(resolved);
+      if (!localeCode.equals(request.getLocaleCode()))
+      {
+        resolved.keySet()
+                .forEach(key -> fallbacks.put(key, localeCode));
+      }
+      remaining.removeAll(resolved.keySet());
+    }
+
+    Map<String, String> translations = new LinkedHashMap<>();
+    for (String key : request.getKeys())
+    {
+      String content = found.get(key);
+      if (content != null)
+      {
+        translations.put(key, content);
+      }
+    }
+    return TranslationLookupResponse.builder()
+                                    .localeCode(request.getLocaleCode())
+                                    .translations(translations)
+                                    .fallbacks(fallbacks)
+                                    .missing(List.copyOf(remaining))
+                                    .build();
+  }
+
+  private TranslationLookupResponse lookupResolved(TranslationLookupRequest request)
+  {
+    ResolvedBundle bundle = resolvedBundleCache.get(request.getLocaleCode());
+    Map<String, String> translations = new LinkedHashMap<>();
+    Map<String, String> fallbacks = new HashMap<>();
+    Set<String> missing = new LinkedHashSet<>();
+    for (String key : request.getKeys())
+    {
+      Optional<ResolvedTranslation> resolved = bundle.get(key);
+      if (resolved.isEmpty())
+      {
+        missing.add(key);
+        continue;
+      }
+      translations.put(key, resolved.get()
+                                    .getTranslation()
+                                    .getContent());
+      if (!resolved.get()
+                   .getLocaleCode()
+                   .equals(request.getLocaleCode()))
+      {
+        fallbacks.put(key, resolved.get()
+                                   .getLocaleCode());
+      }
+    }
+    return TranslationLookupResponse.builder()
+                                    .localeCode(request.getLocaleCode())
+                                    .translations(translations)
+                                    .fallbacks(fallbacks)
+                                    .missing(List.copyOf(missing))
+                                    .build();
+  }
+
+  private Map<String, String> lookupCached(String localeCode, Collection<String> keys)
+  {
+    LocaleSnapshot snapshot = snapshotCache.getSnapshot(localeCode);
+    Map<String, String> resolved = new HashMap<>();
+    for (String key : keys)
+    {
+      snapshot.get(key)
+              .ifPresent(translation -> resolved.put(key, translation.getContent()));
+    }
+    return resolved;
+  }
+
+  private Map<String, String> lookupMapped(String localeCode, Collection<String> keys)
+  {
+    MappedLocaleSnapshot snapshot = snapshotFileStore.get(localeCode);
+    Map<String, String> resolved = new HashMap<>();
+    for (String key : keys)
+    {
+      snapshot.get(key)
+              .ifPresent(translation -> resolved.put(key, translation.getContent()));
+    }
+    return resolved;
+  }
+
+  private Map<String, String> lookupDatabase(String localeCode, Collection<String> keys)
+  {
+    List<String> candidates = keyFilter.mightExist(localeCode, keys);
+    if (candidates.isEmpty())
+    {
+      return Map.of();
+    }
+    Map<String, String> resolved = lookupRepository.findContentByKeys(localeCode, candidates);
+    keyFilter.recordFalsePositives(candidates.size() - resolved.size());
+    return resolved;
+  }
+}
@@ -1,40 +1,86 @@
 package com.opentranslation.management.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opentranslation.management.cache.CachedTranslation;
+import com.opentranslation.management.cache.CatalogSnapshot;
+import com.opentranslation.management.cache.LocaleExportArtifact;
+import com.opentranslation.management.cache.LocaleExportArtifactCache;
+import com.opentranslation.management.cache.LocaleSnapshotFileStore;
+import com.opentranslation.management.cache.LocaleSnapshot;
+import com.opentranslation.management.cache.ReferenceDictionary;
+import com.opentranslation.management.cache.TranslationChangedEvent;
+import com.opentranslation.management.cache.TranslationSnapshotCache;
+import com.opentranslation.management.dto.ChangesCursor;
+import com.opentranslation.management.dto.CursorPage;
+import com.opentranslation.management.dto.SearchCursor;
+import com.opentranslation.management.dto.TranslationCacheStats;
+import com.opentranslation.management.dto.TranslationChange;
+import com.opentranslation.management.dto.TranslationChangesResponse;
 import com.opentranslation.management.dto.TranslationRequest;
 import com.opentranslation.management.dto.TranslationResponse;
+import com.opentranslation.management.dto.TranslationTombstoneDto;
+import com.opentranslation.management.dto.VersionedResponse;
+import com.opentranslation.management.model.CatalogVersion;
 import com.opentranslation.management.model.Locale;
 import com.opentranslation.management.model.Tag;
 import com.opentranslation.management.model.Translation;
-import com.opentranslation.management.repository.LocaleRepository;
-import com.opentranslation.management.repository.TagRepository;
+import com.opentranslation.management.model.TranslationTombstone;
 import com.opentranslation.management.repository.TranslationRepository;
+import com.opentranslation.management.repository.TranslationSearchRepository;
+import com.opentranslation.management.repository.TranslationTombstoneRepository;
 
+import com.opentranslation.management.metrics.CountingOutputStream;
+import com.opentranslation.management.metrics.TranslationMetrics;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "translation.service", histogram = true)
 public class TranslationService
 {
 
   private final TranslationRepository translationRepository;
-  private final LocaleRepository localeRepository;
-  private final TagRepository tagRepository;
+  private final TranslationSearchRepository translationSearchRepository;
+  private final ReferenceDictionary referenceDictionary;
+  private final ObjectMapper objectMapper;
+  private final TranslationTagLoader tagLoader;
+  private final TranslationSnapshotCache snapshotCache;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final CatalogVersionService catalogVersionService;
+  private final TranslationTombstoneRepository tombstoneRepository;
+  private final LocaleExportArtifactCache exportArtifactCache;
+  private final LocaleSnapshotFileStore snapshotFileStore;
+  private final TranslationMetrics translationMetrics;
+  private final DatabaseStreamLimiter streamLimiter;
 
   public TranslationResponse createTranslation(TranslationRequest request)
   {
-    Locale locale = localeRepository.findByCode(request.getLocaleCode())
-                                    .orElseThrow(() -> new EntityNotFoundException("Locale not found: " + request.getLocaleCode()));
+    Locale locale = referenceDictionary.findLocale(request.getLocaleCode())
+                                       .orElseThrow(() -> new EntityNotFoundException("Locale not found: " + request.getLocaleCode()));
 
     Set<Tag> tags = resolveTags(request.getTags());
 
@@ -43,10 +89,13 @@ public class TranslationService
                                     .locale(locale)
                                     .content(request.getContent())
                                     .tags(tags)
+                                    .catalogVersion(catalogVersionService.next())
                                     .build();
 
     Translation saved = translationRepository.save(entity);
-    return mapToResponse(saved);
+    TranslationResponse response = mapToResponse(saved, request);
+    eventPublisher.publishEvent(new TranslationChangedEvent(null, null, response, saved.getCatalogVersion()));
+    return response;
   }
 
   public TranslationResponse updateTranslation(Long id, TranslationRequest request)
@@ -54,17 +103,44 @@ public class TranslationService
     Translation entity = translationRepository.findById(id)
                                               .orElseThrow(() -> new EntityNotFoundException("Translation not found: " + id));
 
-    Locale locale = localeRepository.findByCode(request.getLocaleCode())
-                                    .orElseThrow(() -> new EntityNotFoundException("Locale not found: " + request.getLocaleCode()));
+    Locale locale = referenceDictionary.findLocale(request.getLocaleCode())
+                                       .orElseThrow(() -> new EntityNotFoundException("Locale not found: " + request.getLocaleCode()));
+
+    String previousLocaleCode = referenceDictionary.getLocaleCode(entity.getLocale());
+    String previousKey = entity.getTranslationKey();
 
     entity.setTranslationKey(request.getTranslationKey());
     entity.setLocale(locale);
     entity.setContent(request.getContent());
-    entity.setTags(resolveTags(request.getTags()));
+    replaceTags(entity, resolveTags(request.getTags()));
     entity.setUpdatedOn(java.time.OffsetDateTime.now());
+    entity.setCatalogVersion(catalogVersionService.next());
 
     Translation updated = translationRepository.save(entity);
-    return mapToResponse(updated);
+    TranslationResponse response = mapToResponse(updated, request);
+    eventPublisher.publishEvent(new TranslationChangedEvent(previousLocaleCode, previousKey, response, updated.getCatalogVersion()));
+    return response;
+  }
+
+  /**
+   * Delete a translation, leaving a tombstone so delta sync clients drop it as well.
+   */
+  public void deleteTranslation(Long id)
+  {
+    Translation entity = translationRepository.findById(id)
+                                              .orElseThrow(() -> new EntityNotFoundException("Translation not found: " + id));
+
+    String localeCode = referenceDictionary.getLocaleCode(entity.getLocale());
+    long catalogVersion = catalogVersionService.next();
+    tombstoneRepository.save(TranslationTombstone.builder()
+                                                 .translationId(entity.getId())
+                                                 .translationKey(entity.getTranslationKey())
+                                                 .localeCode(localeCode)
+                                                 .catalogVersion(catalogVersion)
+                                                 .deletedOn(OffsetDateTime.now())
+                                                 .build());
+    translationRepository.delete(entity);
+    eventPublisher.publishEvent(new TranslationChangedEvent(localeCode, entity.getTranslationKey(), null, catalogVersion));
   }
 
   public TranslationResponse getTranslation(Long id)
@@ -74,38 +150,558 @@ public class TranslationService
                                 .orElseThrow(() -> new EntityNotFoundException("Translation not found: " + id));
   }
 
+  /**
+   * Read a translation with a strong entity tag made of its id, the catalog version of its last write and its locale.
+   */
+  @Transactional(readOnly = true)
+  public VersionedResponse<TranslationResponse> getVersionedTranslation(Long id)
+  {
+    Translation entity = translationRepository.findById(id)
+                                              .orElseThrow(() -> new EntityNotFoundException("Translation not found: " + id));
+    long catalogVersion = entity.getCatalogVersion() == null ? 0 : entity.getCatalogVersion();
+    String localeCode = referenceDictionary.getLocaleCode(entity.getLocale());
+    return new VersionedResponse<>(mapToResponse(entity), "\"" + id + "." + catalogVersion + "." + localeCode + "\"");
+  }
+
+  /**
+   * Whether an entity tag handed out by {@link #getVersionedTranslation}, given without quotes, is provably current without reading the database: the snapshot cache has applied no
+   * change to the tagged locale since the tagged write. A {@code false} answer only means the row has to be read to decide.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public boolean isTranslationUnchanged(Long id, String opaqueTag)
+  {
+    String[] parts = opaqueTag.split("\\.", 3);
+    if (!snapshotCache.isEnabled() || parts.length != 3 || !parts[0].equals(String.valueOf(id)))
+    {
+      return false;
+    }
+
+    try
+    {
+      return snapshotCache.getLocaleVersion(parts[2]) <= Long.parseLong(parts[1]);
+    }
+    catch (NumberFormatException e)
+    {
+      return false;
+    }
+  }
+
   // ---------------------- Search ----------------------
 
+  /**
+   * Exact key lookup. Served from the locale snapshot when the cache is enabled, or else from the mapped snapshot file when those are enabled, so no database
+   * connection is taken.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public Page<TranslationResponse> searchByKeyAndLocale(String key, String localeCode, Pageable pageable)
   {
-    return translationRepository.findByKeyAndLocale(key, localeCode, pageable)
-                                .map(this::enrichTags);
+    Optional<CachedTranslation> cached;
+    if (snapshotCache.isEnabled())
+    {
+      cached = snapshotCache.getSnapshot(localeCode)
+                            .get(key);
+    }
+    else if (snapshotFileStore.isEnabled())
+    {
+      cached = snapshotFileStore.get(localeCode)
+                                .get(key);
+    }
+    else
+    {
+      return enrichTags(translationRepository.findByKeyAndLocale(key, localeCode, pageable));
+    }
+
+    List<TranslationResponse> content = cached.isPresent() && pageable.getOffset() == 0
+                                        ? List.of(cached.get()
+                                                        .toResponse(localeCode))
+                                        : List.of();
+    return new PageImpl<>(content, pageable, cached.isPresent() ? 1 : 0);
   }
 
   public Page<TranslationResponse> searchByContent(String content, Pageable pageable)
   {
-    return translationRepository.findByContentContaining(content, pageable)
-                                .map(this::enrichTags);
+    return enrichTags(translationRepository.findByContentContaining(content, pageable));
+  }
+
+  /**
+   * Full-text content search using the tsvector GIN index. Every word of {@code content} must occur in a match; with {@code prefix} the last word only has to
+   * start a word (search-as-you-type).
+   */
+  public Page<TranslationResponse> searchByContentFullText(String content, boolean prefix, boolean ranked, Pageable pageable)
+  {
+    List<String> words = Arrays.stream(content.split("[^\\p{L}\\p{N}]+"))
+                               .filter(word -> !word.isEmpty())
+                               .map(String::toLowerCase)
+                               .toList();
+    if (words.isEmpty())
+    {
+      return Page.empty(pageable);
+    }
+
+    String tsQuery = String.join(" & ", words) + (prefix ? ":*" : "");
+    return enrichTags(translationSearchRepository.searchFullText(tsQuery, ranked, pageable));
+  }
+
+  /**
+   * Substring search on content or key for short fragments (e.g. "err"), backed by trigram indexes and paginated by cursor.
+   *
+   * @param after position returned with the previous slice, or {@code null} for the first one
+   */
+  public CursorPage<TranslationResponse> searchByFragment(String fragment, SearchCursor after, int size)
+  {
+    String pattern = "%" + fragment.replace("\\", "\\\\")
+                                   .replace("%", "\\%")
+                                   .replace("_", "\\_") + "%";
+    List<TranslationResponse> rows = translationSearchRepository.searchSubstring(pattern, after == null ? 0 : after.getLastId(), size + 1);
+    return toCursorPage(rows, size);
   }
 
   public Page<TranslationResponse> searchByTag(String tag, Pageable pageable)
   {
-    return translationRepository.findByTagName(tag, pageable)
-                                .map(this::mapToResponse); // convert entities to DTO
+    return enrichTags(translationRepository.findByTagName(tag, pageable));
   }
 
+  // ---------------------- Cursor search ----------------------
+
+  /**
+   * Keyset variant of {@link #searchByKeyAndLocale}. Served from the locale snapshot when the cache is enabled.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public CursorPage<TranslationResponse> scrollByKeyAndLocale(String key, String localeCode, SearchCursor after, int size)
+  {
+    long afterId = after == null ? 0 : after.getLastId();
+    if (!snapshotCache.isEnabled())
+    {
+      return toCursorPage(translationRepository.findByKeyAndLocaleAfter(key, localeCode, afterId, PageRequest.ofSize(size + 1)), size);
+    }
+
+    List<TranslationResponse> rows = snapshotCache.getSnapshot(localeCode)
+                                                  .get(key)
+                                                  .filter(cached -> cached.getId() > afterId)
+                                                  .map(cached -> List.of(cached.toResponse(localeCode)))
+                                                  .orElse(List.of());
+    return new CursorPage<>(rows, rows.size(), null);
+  }
+
+  public CursorPage<TranslationResponse> scrollByContent(String content, SearchCursor after, int size)
+  {
+    return toCursorPage(translationRepository.findByContentContainingAfter(content, after == null ? 0 : after.getLastId(), PageRequest.ofSize(size + 1)),
+                        size);
+  }
+
+  public CursorPage<TranslationResponse> scrollByTag(String tag, SearchCursor after, int size)
+  {
+    return toCursorPage(translationRepository.findByTagNameAfter(tag, after == null ? 0 : after.getLastId(), PageRequest.ofSize(size + 1)), size);
+  }
+
+  // ---------------------- Delta sync ----------------------
+
+  /**
+   * Translations written and deleted after the given catalog version, optionally limited to one locale, at most {@code limit} of them.
+   * <p>
+   * The returned version is read before the changes, and versions commit in order, so the response is complete up to it; rows written concurrently may show up
+   * again on the next sync, which clients apply idempotently. A page cut at the limit sets {@code hasMore} and a {@code nextSince} to read on from.
+   * </p>
+   * <p>
+   * A purge or test data load rewrites the catalog without tombstones, so a client that synced before the last of them, other than one starting from 0 with
+   * nothing synced yet, cannot catch up from the changes.
+   * </p>
+   *
+   * @throws CatalogResetException if {@code since} is before the last reset of the catalog
+   */
+  @Transactional(readOnly = true)
+  public TranslationChangesResponse getChangesSinceVersion(long since, String localeCode, int limit)
+  {
+    return getChangesAfter(ChangesCursor.since(since), localeCode, limit);
+  }
+
+  /**
+   * Next page of a delta sync, from the {@code nextSince} position of the previous one.
+   * <p>
+   * Writes are read through the repository's streaming cursor and only up to the page, so a client far behind never makes the service load its whole backlog;
+   * their tags are attached per chunk of the page.
+   * </p>
+   */
+  @Transactional(readOnly = true)
+  public TranslationChangesResponse getChangesAfter(ChangesCursor after, String localeCode, int limit)
+  {
+    CatalogVersion catalog = catalogVersionService.state();
+    if (after.getVersion() > 0 && after.getVersion() < catalog.getResetVersion())
+    {
+      throw new CatalogResetException("The catalog was reset at version " + catalog.getResetVersion() + "; export it again");
+    }
+    long version = catalog.getCurrentVersion();
+    List<TranslationChange> changed;
+    try (Stream<TranslationChange> stream = translationRepository.streamChangedAfter(after.getVersion(), after.getAfterChangedId(), localeCode))
+    {
+      changed = stream.limit(limit + 1)
+                      .toList();
+    }
+    List<TranslationTombstone> deleted = tombstoneRepository.findDeletedAfter(after.getVersion(), after.getAfterDeletedId(), localeCode,
+                                                                             PageRequest.ofSize(limit + 1));
+    return toChangesResponse(Math.max(version, after.getVersion()), changed, deleted, limit);
+  }
+
+  /**
+   * Translations written and deleted after the given point in time, optionally limited to one locale, at most {@code limit} of them.
+   * <p>
+   * Timestamps are taken when a write starts rather than when it commits, so prefer {@link #getChangesSinceVersion} and use the returned version from then on.
+   * Further pages are read by catalog version from the returned {@code nextSince}.
+   * </p>
+   */
   @Transactional(readOnly = true)
-  public Map<String, Map<String, String>> exportTranslations()
+  public TranslationChangesResponse getChangesSince(OffsetDateTime since, String localeCode, int limit)
   {
-    try (Stream<TranslationResponse> stream = translationRepository.streamAllTranslations())
+    CatalogVersion catalog = catalogVersionService.state();
+    if (catalog.getResetOn() != null && !since.isAfter(catalog.getResetOn()))
     {
-      return stream.map(this::enrichTags) // populate tags if needed
-                   .collect(Collectors.groupingBy(TranslationResponse::getLocaleCode,
-                                                  Collectors.toMap(TranslationResponse::getTranslationKey,
-                                                                   TranslationResponse::getContent,
-                                                                   (existing, replacement) -> replacement,
-                                                                   LinkedHashMap::new)));
+      throw new CatalogResetException("The catalog was reset at " + catalog.getResetOn() + "; export it again");
     }
+    long version = catalog.getCurrentVersion();
+    PageRequest page = PageRequest.ofSize(limit + 1);
+    List<TranslationChange> changed = translationRepository.findChangedSince(since, localeCode, page);
+    List<TranslationTombstone> deleted = tombstoneRepository.findDeletedSince(since, localeCode, page);
+    return toChangesResponse(version, changed, deleted, limit);
+  }
+
+  /**
+   * Merge writes and deletions, each fetched in catalog version and id order with one row more than {@code limit}, into a page of at most {@code limit}
+   * changes. Within a version writes come before deletions, matching {@link ChangesCursor}.
+   */
+  private TranslationChangesResponse toChangesResponse(long version, List<TranslationChange> changed, List<TranslationTombstone> deleted, int limit)
+  {
+    List<TranslationResponse> changedPage = new ArrayList<>();
+    List<TranslationTombstoneDto> deletedPage = new ArrayList<>();
+    ChangesCursor last = null;
+    int nextChanged = 0;
+    int nextDeleted = 0;
+    while (changedPage.size() + deletedPage.size() < limit && (nextChanged < changed.size() || nextDeleted < deleted.size()))
+    {
+      if (nextDeleted == deleted.size() || nextChanged < changed.size() && changed.get(nextChanged)
+                                                                               .getCatalogVersion() <= deleted.get(nextDeleted)
+                                                                                                              .getCatalogVersion())
+      {
+        TranslationChange change = changed.get(nextChanged++);
+        changedPage.add(change.getTranslation());
+        last = ChangesCursor.afterChanged(change.getCatalogVersion(), change.getTranslation()
+                                                                            .getId());
+      }
+      else
+      {
+        TranslationTombstone tombstone = deleted.get(nextDeleted++);
+        deletedPage.add(new TranslationTombstoneDto(tombstone.getTranslationId(),
+                                                    tombstone.getTranslationKey(),
+                                                    tombstone.getLocaleCode(),
+                                                    tombstone.getDeletedOn()));
+        last = ChangesCursor.afterDeleted(tombstone.getCatalogVersion(), tombstone.getId());
+      }
+    }
+    tagLoader.attachTags(changedPage);
+
+    boolean hasMore = nextChanged < changed.size() || nextDeleted < deleted.size();
+    if (hasMore)
+    {
+      // Complete up to the last version of the page unless the next change belongs to it as well
+      long following = Math.min(nextChanged < changed.size() ? changed.get(nextChanged)
+                                                                      .getCatalogVersion() : Long.MAX_VALUE,
+                                nextDeleted < deleted.size() ? deleted.get(nextDeleted)
+                                                                      .getCatalogVersion() : Long.MAX_VALUE);
+      version = following > last.getVersion() ? last.getVersion() : last.getVersion() - 1;
+    }
+    return TranslationChangesResponse.builder()
+                                     .version(version)
+                                     .changed(changedPage)
+                                     .deleted(deletedPage)
+                                     .hasMore(hasMore)
+                                     .nextSince(hasMore ? last.encode() : null)
+                                     .build();
+  }
+
+  /**
+   * Catalog to export now: the locale snapshots of the cache captured together with their version when it can hold them all, otherwise just the version an
+   * export read as it goes is complete up to.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public CatalogSnapshot getExportSnapshot()
+  {
+    if (snapshotCache.isEnabled())
+    {
+      Optional<CatalogSnapshot> captured = snapshotCache.getCatalogSnapshot();
+      if (captured.isPresent())
+      {
+        return captured.get();
+      }
+    }
+    return new CatalogSnapshot(getExportVersion(), null);
+  }
+
+  /**
+   * Entity tag of an export of the given catalog. It is strong when the export is written from captured snapshots, which reflect exactly its version, and weak
+   * when it is read as it is written, where changes applied during the export may already be included.
+   */
+  public String getExportETag(CatalogSnapshot catalog)
+  {
+    return catalog.getLocales() != null ? "\"" + catalog.getVersion() + "\"" : "W/\"" + catalog.getVersion() + "\"";
+  }
+
+  /**
+   * Catalog version an export started now is complete up to: the version applied to the snapshot cache, or the committed version when exporting from the
+   * database. Clients pass it as {@code since} to {@code /changes} afterwards.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public long getExportVersion()
+  {
+    return snapshotCache.isEnabled() ? snapshotCache.getAppliedVersion() : catalogVersionService.current();
+  }
+
+  /**
+   * Write translations as nested JSON grouped by locale and translation key directly to the given stream.
+   * <p>
+   * With the snapshot cache enabled the document is written from the in-memory locale snapshots without touching the database. Otherwise rows are streamed
+   * ordered by locale and key, so each locale object is opened, filled and closed as the cursor advances; memory use stays constant regardless of catalog size
+   * and the first bytes reach the client before the last row is read.
+   * </p>
+   *
+   * @param out the stream to write the JSON document to; it is flushed but not closed
+   * @throws IOException if writing to the stream fails
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void writeExport(OutputStream out) throws IOException
+  {
+    writeExport(getExportSnapshot(), out);
+  }
+
+  /**
+   * Write the given catalog as by {@link #writeExport(OutputStream)}: from its captured snapshots if it has them, so the document is exactly the version its
+   * entity tag names.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void writeExport(CatalogSnapshot catalog, OutputStream out) throws IOException
+  {
+    CountingOutputStream counted = new CountingOutputStream(out);
+    long rows;
+    try (JsonGenerator generator = objectMapper.getFactory()
+                                               .createGenerator(counted)
+                                               .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET))
+    {
+      generator.writeStartObject();
+      if (catalog.getLocales() != null)
+      {
+        rows = writeCachedLocales(generator, catalog.getLocales()
+                                                   .keySet(), catalog.getLocales()::get);
+      }
+      else
+      {
+        rows = snapshotCache.isEnabled()
+               ? writeCachedLocales(generator, snapshotCache.getLocaleCodes(), snapshotCache::getSnapshot)
+               : writeStreamedLocales(generator);
+      }
+      generator.writeEndObject();
+    }
+    translationMetrics.recordExport("all", catalog.getLocales() != null || snapshotCache.isEnabled() ? "cache" : "database", rows, counted.getCount());
+  }
+
+  private long writeCachedLocales(JsonGenerator generator, Collection<String> localeCodes, Function<String, LocaleSnapshot> snapshots) throws IOException
+  {
+    long rows = 0;
+    for (String localeCode : localeCodes)
+    {
+      LocaleSnapshot snapshot = snapshots.apply(localeCode);
+      if (snapshot.size() == 0)
+      {
+        continue;
+      }
+      generator.writeObjectFieldStart(localeCode);
+      rows += snapshot.write(generator, null);
+      generator.writeEndObject();
+    }
+    return rows;
+  }
+
+  private long writeStreamedLocales(JsonGenerator generator) throws IOException
+  {
+    try (DatabaseStreamLimiter.Permit permit = streamLimiter.acquire())
+    {
+      return transactionTemplate.execute(status -> {
+        try (Stream<TranslationResponse> stream = translationRepository.streamAllTranslations())
+        {
+          long written = 0;
+          String currentLocale = null;
+          Iterator<TranslationResponse> rows = stream.iterator();
+          while (rows.hasNext())
+          {
+            TranslationResponse row = rows.next();
+            if (!row.getLocaleCode()
+                    .equals(currentLocale))
+            {
+              if (currentLocale != null)
+              {
+                generator.writeEndObject();
+              }
+              currentLocale = row.getLocaleCode();
+              generator.writeObjectFieldStart(currentLocale);
+            }
+            generator.writeStringField(row.getTranslationKey(), row.getContent());
+            written++;
+          }
+          if (currentLocale != null)
+          {
+            generator.writeEndObject();
+          }
+          return written;
+        }
+        catch (IOException e)
+        {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+    catch (UncheckedIOException e)
+    {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Precomputed export of one locale, available while the snapshot cache is enabled.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Optional<LocaleExportArtifact> findLocaleExportArtifact(String localeCode) throws IOException
+  {
+    return snapshotCache.isEnabled() ? Optional.of(exportArtifactCache.get(localeCode)) : Optional.empty();
+  }
+
+  /**
+   * Write the translations of one locale, optionally only those carrying {@code tag}, as a flat JSON object of translation key to content.
+   *
+   * @param out the stream to write the JSON document to; it is flushed but not closed
+   * @throws IOException if writing to the stream fails
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void writeLocaleExport(String localeCode, String tag, OutputStream out) throws IOException
+  {
+    CountingOutputStream counted = new CountingOutputStream(out);
+    if (snapshotCache.isEnabled())
+    {
+      long rows = exportArtifactCache.write(snapshotCache.getSnapshot(localeCode), tag, counted);
+      translationMetrics.recordExport("locale", "cache", rows, counted.getCount());
+      return;
+    }
+    if (snapshotFileStore.isEnabled())
+    {
+      long rows = snapshotFileStore.write(localeCode, tag, counted);
+      translationMetrics.recordExport("locale", "file", rows, counted.getCount());
+      return;
+    }
+
+    long exported;
+    try (DatabaseStreamLimiter.Permit permit = streamLimiter.acquire();
+         JsonGenerator generator = objectMapper.getFactory()
+                                               .createGenerator(counted)
+                                               .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET))
+    {
+      generator.writeStartObject();
+      exported = transactionTemplate.execute(status -> {
+        long written = 0;
+        try (Stream<TranslationResponse> stream = tag == null
+                                                  ? translationRepository.streamTranslationsByLocale(localeCode)
+                                                  : translationRepository.streamTranslationsByLocaleAndTag(localeCode, tag))
+        {
+          Iterator<TranslationResponse> rows = stream.iterator();
+          while (rows.hasNext())
+          {
+            TranslationResponse row = rows.next();
+            generator.writeStringField(row.getTranslationKey(), row.getContent());
+            written++;
+          }
+        }
+        catch (IOException e)
+        {
+          throw new UncheckedIOException(e);
+        }
+        return written;
+      });
+      generator.writeEndObject();
+    }
+    catch (UncheckedIOException e)
+    {
+      throw e.getCause();
+    }
+    translationMetrics.recordExport("locale", "database", exported, counted.getCount());
+  }
+
+  /**
+   * Precomputed export of one locale merged with its fallback chain, available while the snapshot cache is enabled.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Optional<LocaleExportArtifact> findResolvedExportArtifact(String localeCode) throws IOException
+  {
+    return snapshotCache.isEnabled() ? Optional.of(exportArtifactCache.getResolved(localeCode)) : Optional.empty();
+  }
+
+  /**
+   * Write the translations of one locale merged with those of its fallback chain, the nearest locale winning per key, optionally only the resolved
+   * translations carrying {@code tag}, as a flat JSON object of translation key to content.
+   * <p>
+   * Without the snapshot cache every locale of the chain is read from the database into memory for the merge.
+   * </p>
+   *
+   * @param out the stream to write the JSON document to; it is flushed but not closed
+   * @throws IOException if writing to the stream fails
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void writeResolvedLocaleExport(String localeCode, String tag, OutputStream out) throws IOException
+  {
+    CountingOutputStream counted = new CountingOutputStream(out);
+    if (snapshotCache.isEnabled())
+    {
+      long rows = exportArtifactCache.writeResolved(localeCode, tag, counted);
+      translationMetrics.recordExport("locale", "cache", rows, counted.getCount());
+      return;
+    }
+
+    long rows;
+    try (DatabaseStreamLimiter.Permit permit = streamLimiter.acquire())
+    {
+      rows = exportArtifactCache.writeResolved(localeCode, tag, counted);
+    }
+    translationMetrics.recordExport("locale", "database", rows, counted.getCount());
+  }
+
+  /**
+   * Write a precomputed locale export: the gzip-compressed bytes as is, or the plain document from the snapshots the artifact was built from.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void writeLocaleExportArtifact(LocaleExportArtifact artifact, boolean gzip, OutputStream out) throws IOException
+  {
+    if (gzip)
+    {
+      out.write(artifact.getGzip());
+    }
+    else
+    {
+      artifact.writeJson(out);
+    }
+    translationMetrics.recordExport("locale", "artifact", artifact.getSize(), gzip ? artifact.getGzip().length : artifact.getJsonLength());
+  }
+
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public TranslationCacheStats getCacheStats()
+  {
+    return snapshotCache.getStats();
+  }
+
+  /**
+   * Trim a keyset query result fetched with one extra row to the requested size and derive the cursor of the next slice.
+   */
+  private CursorPage<TranslationResponse> toCursorPage(List<TranslationResponse> rows, int size)
+  {
+    boolean hasNext = rows.size() > size;
+    List<TranslationResponse> content = hasNext ? rows.subList(0, size) : rows;
+    tagLoader.attachTags(content);
+    String nextCursor = hasNext ? new SearchCursor(content.get(size - 1)
+                                                          .getId()).encode() : null;
+    return new CursorPage<>(content, content.size(), nextCursor);
   }
 
   private Set<Tag> resolveTags(Set<String> tagNames)
@@ -114,13 +710,41 @@ public class TranslationService
     {
       return new HashSet<>();
     }
+    return referenceDictionary.getOrCreateTags(tagNames);
+  }
 
-    return tagNames.stream()
-                   .map(name -> tagRepository.findByName(name)
-                                             .orElseGet(() -> tagRepository.save(Tag.builder()
-                                                                                    .name(name)
-                                                                                    .build())))
-                   .collect(Collectors.toSet());
+  /**
+   * Change the tags of a managed translation in place, so only the join rows of removed and added tags are deleted and inserted instead of the whole set being
+   * recreated. Tags are compared by id, as the set may hold loaded entities while {@code tags} holds references.
+   */
+  private void replaceTags(Translation entity, Set<Tag> tags)
+  {
+    Set<Long> wanted = tags.stream()
+                           .map(Tag::getId)
+                           .collect(Collectors.toSet());
+    Set<Tag> current = entity.getTags();
+    current.removeIf(tag -> !wanted.contains(tag.getId()));
+    Set<Long> kept = current.stream()
+                            .map(Tag::getId)
+                            .collect(Collectors.toSet());
+    tags.stream()
+        .filter(tag -> !kept.contains(tag.getId()))
+        .forEach(current::add);
+  }
+
+  /**
+   * Response for a translation just written from {@code request}, taking the locale code and tag names from the request so the locale and tag references are
+   * not loaded.
+   */
+  private TranslationResponse mapToResponse(Translation entity, TranslationRequest request)
+  {
+    return new TranslationResponse(entity.getId(),
+                                   entity.getTranslationKey(),
+                                   request.getLocaleCode(),
+                                   entity.getContent(),
+                                   request.getTags() == null ? new HashSet<>() : new HashSet<>(request.getTags()),
+                                   entity.getCreatedOn(),
+                                   entity.getUpdatedOn());
   }
 
   private TranslationResponse mapToResponse(Translation entity)
@@ -139,16 +763,12 @@ public class TranslationService
   }
 
   /**
-   * Enrich a DTO with tags if it was created via JPQL without tags. Fetch tags from the entity by key+locale.
+   * Enrich the DTOs of a page with tags. Pages are built via JPQL without tags, so the tag names of all rows are fetched in one query per chunk and attached in
+   * memory.
    */
-  private TranslationResponse enrichTags(TranslationResponse dto)
+  private Page<TranslationResponse> enrichTags(Page<TranslationResponse> page)
   {
-    Translation entity = translationRepository.findById(dto.getId())
-                                              .orElseThrow(() -> new EntityNotFoundException("Translation not found: " + dto.getId()));
-    dto.setTags(entity.getTags()
-                      .stream()
-                      .map(Tag::getName)
-                      .collect(Collectors.toSet()));
-    return dto;
+    tagLoader.attachTags(page.getContent());
+    return page;
   }
 }
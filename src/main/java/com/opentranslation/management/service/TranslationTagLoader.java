@@ -0,0 +1,52 @@
+package com.opentranslation.management.service;
+
+import com.opentranslation.management.dto.TranslationResponse;
+import com.opentranslation.management.dto.TranslationTagName;
+import com.opentranslation.management.repository.TranslationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Attaches tag names to translation DTOs that were projected via JPQL without tags.
+ * <p>
+ * Tags of many translations are fetched with one query per chunk of ids instead of one lookup per row.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TranslationTagLoader
+{
+
+  /**
+   * Maximum number of translation ids bound into a single tag lookup query.
+   */
+  public static final int BATCH_SIZE = 1000;
+
+  private final TranslationRepository translationRepository;
+
+  public void attachTags(List<TranslationResponse> dtos)
+  {
+    for (int from = 0; from < dtos.size(); from += BATCH_SIZE)
+    {
+      List<TranslationResponse> chunk = dtos.subList(from, Math.min(from + BATCH_SIZE, dtos.size()));
+      Map<Long, Set<String>> tagsById = new HashMap<>();
+      for (TranslationResponse dto : chunk)
+      {
+        tagsById.put(dto.getId(), new HashSet<>());
+      }
+      for (TranslationTagName row : translationRepository.findTagNamesByTranslationIds(tagsById.keySet()))
+      {
+        tagsById.get(row.getTranslationId())
+                .add(row.getTagName());
+      }
+      for (TranslationResponse dto : chunk)
+      {
+        dto.setTags(tagsById.get(dto.getId()));
+      }
+    }
+  }
+}
@@ -0,0 +1,10 @@
+-- Hibernate allocates ids from these sequences in blocks of 50 (pooled optimizer) so inserts can be JDBC-batched.
+-- The sequence increment must match allocationSize on the entities. Plain nextval() defaults keep working:
+-- each one takes the upper bound of a block Hibernate never hands out.
+-- pg_get_serial_sequence resolves both SERIAL/BIGSERIAL and identity-column sequences.
+DO $$
+BEGIN
+  EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', pg_get_serial_sequence('locales', 'id'));
+  EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', pg_get_serial_sequence('tags', 'id'));
+  EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', pg_get_serial_sequence('translations', 'id'));
+END $$;
@@ -0,0 +1,3 @@
+-- Databases baselined at V1 were created by Hibernate and may lack the full-text index used by content search (mode=fulltext).
+-- The expression must match the one queried by TranslationSearchRepository exactly for the planner to use it.
+CREATE INDEX IF NOT EXISTS idx_trans_content_gin ON translations USING gin (to_tsvector('simple', content));
@@ -0,0 +1,6 @@
+-- Trigram indexes let ILIKE '%fragment%' on content and key use an index instead of scanning every translation (mode=trigram).
+-- Fragments shorter than three characters produce no trigrams and still fall back to a scan.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_trans_content_trgm ON translations USING gin (content gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_trans_key_trgm ON translations USING gin (translation_key gin_trgm_ops);
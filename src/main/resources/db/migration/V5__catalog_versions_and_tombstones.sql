@@ -0,0 +1,24 @@
+-- Delta sync (GET /api/translations/changes): every write is stamped with a monotonic catalog version,
+-- deletions leave tombstones, and both can be read by version or by timestamp through these indexes.
+ALTER TABLE translations ADD COLUMN IF NOT EXISTS catalog_version BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_trans_updated_on ON translations(updated_on);
+CREATE INDEX IF NOT EXISTS idx_trans_catalog_version ON translations(catalog_version);
+
+CREATE TABLE IF NOT EXISTS catalog_version (
+  id INT PRIMARY KEY,
+  current_version BIGINT NOT NULL
+);
+INSERT INTO catalog_version (id, current_version) VALUES (1, 0) ON CONFLICT DO NOTHING;
+
+CREATE SEQUENCE IF NOT EXISTS translation_tombstones_id_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS translation_tombstones (
+  id BIGINT PRIMARY KEY DEFAULT nextval('translation_tombstones_id_seq'),
+  translation_id BIGINT NOT NULL,
+  translation_key VARCHAR(255) NOT NULL,
+  locale_code VARCHAR(10) NOT NULL,
+  catalog_version BIGINT NOT NULL,
+  deleted_on TIMESTAMP WITH TIME ZONE NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_tombstones_catalog_version ON translation_tombstones(catalog_version);
+CREATE INDEX IF NOT EXISTS idx_tombstones_deleted_on ON translation_tombstones(deleted_on);
@@ -0,0 +1,2 @@
+-- Locale fallback chains (fr-CA -> fr -> en): a locale may name the locale consulted for the keys it lacks.
+ALTER TABLE locales ADD COLUMN IF NOT EXISTS parent_id BIGINT REFERENCES locales(id);
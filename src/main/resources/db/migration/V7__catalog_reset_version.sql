@@ -0,0 +1,4 @@
+-- Delta sync after a wholesale rewrite: purges and test data loads change the catalog without tombstones,
+-- so clients that synced before the last of them must export again instead of reading /changes.
+ALTER TABLE catalog_version ADD COLUMN IF NOT EXISTS reset_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE catalog_version ADD COLUMN IF NOT EXISTS reset_on TIMESTAMP WITH TIME ZONE;
@@ -0,0 +1,13 @@
+-- Hibernate validates the schema at startup (ddl-auto: validate) instead of altering it, so column types must match the entities,
+-- which use 64-bit ids for locales and tags. SERIAL created them, and the columns referencing them, as 32-bit integers.
+-- Widening locale_id rewrites the translations table once.
+ALTER TABLE translation_tags ALTER COLUMN tag_id TYPE BIGINT;
+ALTER TABLE translations ALTER COLUMN locale_id TYPE BIGINT;
+ALTER TABLE tags ALTER COLUMN id TYPE BIGINT;
+ALTER TABLE locales ALTER COLUMN id TYPE BIGINT;
+
+DO $$
+BEGIN
+  EXECUTE format('ALTER SEQUENCE %s AS BIGINT', pg_get_serial_sequence('locales', 'id'));
+  EXECUTE format('ALTER SEQUENCE %s AS BIGINT', pg_get_serial_sequence('tags', 'id'));
+END $$;
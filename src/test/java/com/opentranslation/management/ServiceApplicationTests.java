@@ -1,32 +1,147 @@
 package com.opentranslation.management;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import javax.sql.DataSource;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.format.support.FormattingConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 
+import com.opentranslation.management.cache.CachedTranslation;
+import com.opentranslation.management.cache.CatalogSnapshot;
+import com.opentranslation.management.cache.LocaleExportArtifact;
+import com.opentranslation.management.cache.LocaleExportArtifactCache;
+import com.opentranslation.management.cache.LocaleSnapshot;
+import com.opentranslation.management.cache.LocaleSnapshotFileStore;
+import com.opentranslation.management.cache.ReferenceDictionary;
+import com.opentranslation.management.cache.ResolvedBundle;
+import com.opentranslation.management.cache.ResolvedBundleCache;
+import com.opentranslation.management.cache.TranslationCatalogReloadedEvent;
+import com.opentranslation.management.cache.TranslationChangedEvent;
+import com.opentranslation.management.cache.TranslationKeyDictionary;
+import com.opentranslation.management.cache.TranslationKeyFilter;
+import com.opentranslation.management.cache.TranslationSnapshotCache;
+import com.opentranslation.management.config.DataLoader;
+import com.opentranslation.management.config.WebConfig;
 import com.opentranslation.management.controller.AuthController;
 import com.opentranslation.management.controller.LocaleController;
 import com.opentranslation.management.controller.TagController;
 import com.opentranslation.management.controller.TranslationController;
+import com.opentranslation.management.dto.BulkRowResult;
+import com.opentranslation.management.dto.BulkRowStatus;
+import com.opentranslation.management.dto.BulkTranslationResponse;
+import com.opentranslation.management.dto.CursorPage;
+import com.opentranslation.management.dto.DataLoadJobResponse;
+import com.opentranslation.management.dto.DataLoadJobState;
+import com.opentranslation.management.dto.SearchCursor;
 import com.opentranslation.management.dto.LocaleDto;
 import com.opentranslation.management.dto.TagDto;
+import com.opentranslation.management.dto.ChangesCursor;
+import com.opentranslation.management.dto.TranslationChangesResponse;
+import com.opentranslation.management.dto.TranslationLookupRequest;
+import com.opentranslation.management.dto.TranslationLookupResponse;
 import com.opentranslation.management.dto.TranslationRequest;
 import com.opentranslation.management.dto.TranslationResponse;
+import com.opentranslation.management.dto.VersionedResponse;
+import com.opentranslation.management.metrics.QueryCountInspector;
+import com.opentranslation.management.metrics.TranslationMetrics;
+import com.opentranslation.management.model.Locale;
+import com.opentranslation.management.model.Tag;
+import com.opentranslation.management.repository.LocaleRepository;
+import com.opentranslation.management.repository.TagRepository;
+import com.opentranslation.management.repository.TranslationBulkRepository;
+import com.opentranslation.management.repository.TranslationLoadRepository;
+import com.opentranslation.management.repository.TranslationLookupRepository;
+import com.opentranslation.management.repository.TranslationRepository;
+import com.opentranslation.management.repository.TranslationSearchRepository;
+import com.opentranslation.management.repository.TranslationStreamRepositoryImpl;
+import com.opentranslation.management.repository.TranslationTombstoneRepository;
+import com.opentranslation.management.security.JwtTokenCache;
 import com.opentranslation.management.security.JwtUtil;
+import com.opentranslation.management.service.CatalogResetException;
+import com.opentranslation.management.service.CatalogVersionService;
+import com.opentranslation.management.service.DataLoadCapacityExceededException;
+import com.opentranslation.management.service.DataLoadJobService;
+import com.opentranslation.management.service.DatabaseStreamLimiter;
+import com.opentranslation.management.service.ExportCapacityExceededException;
 import com.opentranslation.management.service.LocaleService;
 import com.opentranslation.management.service.TagService;
+import com.opentranslation.management.service.TranslationBulkService;
+import com.opentranslation.management.service.TranslationLookupService;
 import com.opentranslation.management.service.TranslationService;
+import com.opentranslation.management.service.TranslationTagLoader;
 
 @SpringBootTest
 class ServiceApplicationTests
@@ -42,7 +157,7 @@ class ServiceApplicationTests
     void setUp()
     {
       jwtUtil = mock(JwtUtil.class);
-      authController = new AuthController(jwtUtil);
+      authController = new AuthController(jwtUtil, mock(JwtTokenCache.class));
     }
 
     @Test
@@ -87,10 +202,10 @@ class ServiceApplicationTests
     @DisplayName("Should create a locale and return LocaleDto")
     void givenCode_whenCreateLocale_thenReturnDto()
     {
-      LocaleDto dto = new LocaleDto(1L, "en");
-      given(localeService.createLocale("en")).willReturn(dto);
+      LocaleDto dto = new LocaleDto(1L, "en", null);
+      given(localeService.createLocale("en", null)).willReturn(dto);
 
-      ResponseEntity<LocaleDto> response = localeController.createLocale("en");
+      ResponseEntity<LocaleDto> response = localeController.createLocale("en", null);
 
       assertThat(response.getBody()
                          .getCode()).isEqualTo("en");
@@ -100,7 +215,7 @@ class ServiceApplicationTests
     @DisplayName("Should return LocaleDto for a given ID")
     void givenId_whenGetLocale_thenReturnDto()
     {
-      LocaleDto dto = new LocaleDto(1L, "en");
+      LocaleDto dto = new LocaleDto(1L, "en", null);
       given(localeService.getLocale(1L)).willReturn(dto);
 
       ResponseEntity<LocaleDto> response = localeController.getLocale(1L);
@@ -113,7 +228,7 @@ class ServiceApplicationTests
     @DisplayName("Should return list of all locales")
     void whenGetAllLocales_thenReturnList()
     {
-      given(localeService.getAllLocales()).willReturn(List.of(new LocaleDto(1L, "en")));
+      given(localeService.getAllLocales()).willReturn(List.of(new LocaleDto(1L, "en", null)));
 
       ResponseEntity<List<LocaleDto>> response = localeController.getAllLocales();
 
@@ -242,12 +357,1539 @@ class ServiceApplicationTests
                                                     .createdOn(null)
                                                     .updatedOn(null)
                                                     .build();
-      given(translationService.getTranslation(1L)).willReturn(resp);
+      given(translationService.getVersionedTranslation(1L)).willReturn(new VersionedResponse<>(resp, "\"1.1.en\""));
 
-      ResponseEntity<TranslationResponse> response = translationController.getTranslation(1L);
+      ResponseEntity<TranslationResponse> response = translationController.getTranslation(1L, null);
 
       assertThat(response.getBody()
                          .getContent()).isEqualTo("content1");
     }
+
+    @Test
+    @DisplayName("Should reject an empty or out of range since with 400")
+    void givenMalformedSince_whenGetChanges_thenBadRequest()
+    {
+      for (String since : List.of("", "99999999999999999999", "yesterday"))
+      {
+        assertThat(translationController.getChanges(since, null, 100)
+                                        .getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+      }
+      verifyNoInteractions(translationService);
+    }
+
+    @Test
+    @DisplayName("Should reject a delta sync limit out of range with 400")
+    void givenLimitOutOfRange_whenGetChanges_thenBadRequest()
+    {
+      assertThat(translationController.getChanges("0", null, 0)
+                                      .getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+      assertThat(translationController.getChanges("0", null, TranslationController.MAX_CHANGES_LIMIT + 1)
+                                      .getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+      verifyNoInteractions(translationService);
+    }
+
+    @Test
+    @DisplayName("Should bind the documented lower-case search mode")
+    void givenLowerCaseMode_whenSearchOverHttp_thenFullTextSearch() throws Exception
+    {
+      given(translationService.searchByContentFullText("save", false, false, PageRequest.of(0, 50))).willReturn(Page.empty(PageRequest.of(0, 50)));
+
+      mockMvc().perform(get("/api/translations/search").param("content", "save")
+                                                       .param("mode", "fulltext"))
+               .andExpect(status().isOk());
+
+      verify(translationService).searchByContentFullText("save", false, false, PageRequest.of(0, 50));
+    }
+
+    @Test
+    @DisplayName("Should bind the documented lower-case paging mode")
+    void givenLowerCasePaging_whenSearchOverHttp_thenCursorPage() throws Exception
+    {
+      given(translationService.scrollByTag("ui", null, 100)).willReturn(new CursorPage<>(List.of(), 0, null));
+
+      mockMvc().perform(get("/api/translations/search").param("tag", "ui")
+                                                       .param("paging", "cursor")
+                                                       .param("size", "100"))
+               .andExpect(status().isOk());
+
+      verify(translationService).scrollByTag("ui", null, 100);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown search mode with 400")
+    void givenUnknownMode_whenSearchOverHttp_thenBadRequest() throws Exception
+    {
+      mockMvc().perform(get("/api/translations/search").param("content", "save")
+                                                       .param("mode", "fuzzy"))
+               .andExpect(status().isBadRequest());
+
+      verifyNoInteractions(translationService);
+    }
+
+    @Test
+    @DisplayName("Should answer changes from before a catalog reset with 410")
+    void givenCatalogReset_whenGetChangesOverHttp_thenGone() throws Exception
+    {
+      given(translationService.getChangesSinceVersion(5, null, 1000)).willThrow(new CatalogResetException("The catalog was reset at version 9"));
+
+      mockMvc().perform(get("/api/translations/changes").param("since", "5"))
+               .andExpect(status().isGone());
+    }
+
+    private MockMvc mockMvc()
+    {
+      FormattingConversionService conversionService = new DefaultFormattingConversionService();
+      new WebConfig().addFormatters(conversionService);
+      return MockMvcBuilders.standaloneSetup(translationController)
+                            .setConversionService(conversionService)
+                            .build();
+    }
+  }
+
+  @Nested
+  class TranslationServiceTests
+  {
+    private TranslationRepository translationRepository;
+    private final DatabaseStreamLimiter streamLimiter = new DatabaseStreamLimiter(1, 50);
+    private TranslationSearchRepository translationSearchRepository;
+    private TranslationService translationService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp()
+    {
+      translationRepository = mock(TranslationRepository.class);
+      translationSearchRepository = mock(TranslationSearchRepository.class);
+      translationService = new TranslationService(translationRepository,
+                                                  translationSearchRepository,
+                                                  mock(ReferenceDictionary.class),
+                                                  objectMapper,
+                                                  new TranslationTagLoader(translationRepository),
+                                                  mock(TranslationSnapshotCache.class),
+                                                  mock(ApplicationEventPublisher.class),
+                                                  new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                                                  mock(CatalogVersionService.class),
+                                                  mock(TranslationTombstoneRepository.class),
+                                                  mock(LocaleExportArtifactCache.class),
+                                                  mock(LocaleSnapshotFileStore.class),
+                                                  mock(TranslationMetrics.class),
+                                                  streamLimiter);
+    }
+
+    private TranslationResponse row(long id, String locale, String key, String content)
+    {
+      return new TranslationResponse(id, key, locale, content, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Should stream export as nested JSON grouped by locale and key")
+    void givenOrderedRows_whenWriteExport_thenWriteNestedJson() throws Exception
+    {
+      given(translationRepository.streamAllTranslations()).willReturn(Stream.of(row(1L, "en", "a", "A"),
+                                                                                row(2L, "en", "b", "B"),
+                                                                                row(3L, "fr", "a", "A-fr")));
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+      translationService.writeExport(out);
+
+      Map<String, Map<String, String>> export = objectMapper.readValue(out.toByteArray(), new TypeReference<>()
+      {
+      });
+      assertThat(export).containsOnlyKeys("en", "fr");
+      assertThat(export.get("en")).containsExactly(Map.entry("a", "A"), Map.entry("b", "B"));
+      assertThat(export.get("fr")).containsExactly(Map.entry("a", "A-fr"));
+    }
+
+    @Test
+    @DisplayName("Should stream an empty JSON object when there are no translations")
+    void givenNoRows_whenWriteExport_thenWriteEmptyObject() throws Exception
+    {
+      given(translationRepository.streamAllTranslations()).willReturn(Stream.empty());
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+      translationService.writeExport(out);
+
+      assertThat(out.toString()).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("Should refuse a database export while all stream permits are taken and release the permit afterwards")
+    void givenPermitsTaken_whenWriteExport_thenCapacityExceeded() throws Exception
+    {
+      given(translationRepository.streamAllTranslations()).willReturn(Stream.empty());
+
+      try (DatabaseStreamLimiter.Permit taken = streamLimiter.acquire())
+      {
+        assertThatThrownBy(() -> translationService.writeExport(new ByteArrayOutputStream())).isInstanceOf(ExportCapacityExceededException.class);
+      }
+      translationService.writeExport(new ByteArrayOutputStream());
+
+      assertThat(streamLimiter.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should turn full-text input into a sanitized prefix tsquery")
+    void givenFreeText_whenSearchFullText_thenQueryWordsWithPrefix()
+    {
+      PageRequest pageRequest = PageRequest.of(0, 10);
+      given(translationSearchRepository.searchFullText("save & file:*", true, pageRequest)).willReturn(Page.empty(pageRequest));
+
+      Page<TranslationResponse> page = translationService.searchByContentFullText("Save  FILE!", true, true, pageRequest);
+
+      assertThat(page.getContent()).isEmpty();
+      verify(translationSearchRepository).searchFullText("save & file:*", true, pageRequest);
+    }
+
+    @Test
+    @DisplayName("Should not query the database when full-text input has no words")
+    void givenPunctuationOnly_whenSearchFullText_thenEmptyPage()
+    {
+      Page<TranslationResponse> page = translationService.searchByContentFullText("&!:*", false, false, PageRequest.of(0, 10));
+
+      assertThat(page.getTotalElements()).isZero();
+      verifyNoInteractions(translationSearchRepository);
+    }
+  }
+
+  @Nested
+  class TranslationQueryCountTests
+  {
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp()
+    {
+      statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                                       .getStatistics();
+      statistics.setStatisticsEnabled(true);
+      statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should resolve tags of a content search page with a single batched query")
+    void givenContentSearch_whenSearch_thenTagsFetchedInOneQuery()
+    {
+      Page<TranslationResponse> page = translationService.searchByContent("Sample", PageRequest.of(0, 50));
+
+      assertThat(page.getContent()).hasSize(50)
+                                   .allSatisfy(dto -> assertThat(dto.getTags()).isNotEmpty());
+      // page select + count + batched tag lookup
+      assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should resolve tags of a tag search page with a single batched query")
+    void givenTagSearch_whenSearch_thenTagsFetchedInOneQuery()
+    {
+      Page<TranslationResponse> page = translationService.searchByTag("ui", PageRequest.of(0, 20));
+
+      assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getTags()).contains("ui"));
+      assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+      assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should write only the join rows of changed tags when updating a translation")
+    void givenManyTags_whenUpdateOneTag_thenStatementsIndependentOfUnchangedTags()
+    {
+      Set<String> few = Set.of("diff-1", "diff-2");
+      Set<String> many = IntStream.rangeClosed(1, 12)
+                                  .mapToObj(i -> "diff-" + i)
+                                  .collect(Collectors.toSet());
+      translationService.createTranslation(new TranslationRequest("diff.seed", "en", "Seed", Set.of("diff-new")));
+      TranslationResponse small = translationService.createTranslation(new TranslationRequest("diff.small", "en", "Small", few));
+      TranslationResponse large = translationService.createTranslation(new TranslationRequest("diff.large", "en", "Large", many));
+
+      statistics.clear();
+      translationService.updateTranslation(small.getId(), new TranslationRequest("diff.small", "en", "Small", swap(few)));
+      long smallStatements = statistics.getPrepareStatementCount();
+
+      statistics.clear();
+      translationService.updateTranslation(large.getId(), new TranslationRequest("diff.large", "en", "Large", swap(many)));
+      long largeStatements = statistics.getPrepareStatementCount();
+
+      assertThat(largeStatements).isEqualTo(smallStatements);
+      assertThat(statistics.getCollectionRecreateCount()).isZero();
+      assertThat(translationService.getTranslation(large.getId())
+                                   .getTags()).isEqualTo(swap(many));
+    }
+
+    private Set<String> swap(Set<String> tags)
+    {
+      Set<String> swapped = new HashSet<>(tags);
+      swapped.remove("diff-1");
+      swapped.add("diff-new");
+      return swapped;
+    }
+
+    @Test
+    @DisplayName("Should walk a tag search by cursor without count queries")
+    void givenTagSearch_whenScrollByCursor_thenVisitEveryRowOnceWithoutCounts()
+    {
+      long total = translationService.searchByTag("error", PageRequest.of(0, 1))
+                                     .getTotalElements();
+      statistics.clear();
+
+      List<Long> ids = new ArrayList<>();
+      int slices = 0;
+      SearchCursor after = null;
+      do
+      {
+        CursorPage<TranslationResponse> slice = translationService.scrollByTag("error", after, 25);
+        slice.getContent()
+             .forEach(dto -> ids.add(dto.getId()));
+        after = slice.getNextCursor() == null ? null : SearchCursor.decode(slice.getNextCursor());
+        slices++;
+      }
+      while (after != null);
+
+      assertThat(ids).hasSize((int) total)
+                     .doesNotHaveDuplicates()
+                     .isSorted();
+      // one keyset select plus one batched tag lookup per slice
+      assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L * slices);
+    }
+  }
+
+  @Nested
+  class TranslationFragmentSearchTests
+  {
+    @Autowired
+    private TranslationService translationService;
+
+    @Test
+    @DisplayName("Should walk fragment matches on content and key with cursors")
+    void givenFragment_whenSearchByFragment_thenReturnAllMatchesAcrossSlices()
+    {
+      translationService.createTranslation(new TranslationRequest("vault.sync", "en", "Sync vault", Set.of()));
+      translationService.createTranslation(new TranslationRequest("vault.error", "en", "Could not open VAULT", Set.of()));
+      translationService.createTranslation(new TranslationRequest("autovault.enabled", "en", "Enabled", Set.of()));
+      translationService.createTranslation(new TranslationRequest("vault.close", "fr", "Fermer", Set.of()));
+      translationService.createTranslation(new TranslationRequest("dialog.close", "en", "Close", Set.of()));
+
+      CursorPage<TranslationResponse> first = translationService.searchByFragment("vaul", null, 2);
+      CursorPage<TranslationResponse> second = translationService.searchByFragment("vaul", SearchCursor.decode(first.getNextCursor()), 2);
+
+      assertThat(first.getContent()).extracting(TranslationResponse::getTranslationKey)
+                                    .containsExactly("vault.sync", "vault.error");
+      assertThat(second.getContent()).extracting(TranslationResponse::getTranslationKey)
+                                     .containsExactly("autovault.enabled", "vault.close");
+      assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should treat LIKE wildcards in a fragment literally")
+    void givenWildcardFragment_whenSearchByFragment_thenMatchLiterally()
+    {
+      translationService.createTranslation(new TranslationRequest("discount.label", "en", "100% off", Set.of()));
+
+      CursorPage<TranslationResponse> slice = translationService.searchByFragment("0%", null, 10);
+
+      assertThat(slice.getContent()).extracting(TranslationResponse::getTranslationKey)
+                                    .containsExactly("discount.label");
+    }
+  }
+
+  @Nested
+  class TranslationStreamRepositoryTests
+  {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<Integer> fetchSizes = new ArrayList<>();
+    private final AtomicInteger closedConnections = new AtomicInteger();
+    private DataSource recordingDataSource;
+    private TranslationStreamRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+      recordingDataSource = mock(DataSource.class);
+      given(recordingDataSource.getConnection()).willAnswer(invocation -> recording(Connection.class, dataSource.getConnection()));
+      repository = new TranslationStreamRepositoryImpl(entityManagerFactory, recordingDataSource, 250);
+    }
+
+    @Test
+    @DisplayName("Should read the stream with the configured fetch size and release the connection with it")
+    void givenFetchSize_whenStream_thenSetOnStatement()
+    {
+      TransactionSynchronizationManager.setActualTransactionActive(true);
+      try (Stream<TranslationResponse> rows = repository.streamTranslationsByLocale("en"))
+      {
+        assertThat(rows).allSatisfy(row -> assertThat(row.getLocaleCode()).isEqualTo("en"));
+      }
+      finally
+      {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+      }
+
+      assertThat(fetchSizes).containsExactly(250);
+      assertThat(closedConnections).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse to stream outside a transaction")
+    void givenNoTransaction_whenStream_thenRejected()
+    {
+      assertThatThrownBy(() -> repository.streamTranslationsByLocale("en")).isInstanceOf(InvalidDataAccessApiUsageException.class);
+      verifyNoInteractions(recordingDataSource);
+    }
+
+    /**
+     * Wrap a JDBC object of the H2 datasource, recording the fetch size set on its statements and the connections closed.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T recording(Class<T> type, T target)
+    {
+      return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+        if (type == Connection.class && method.getName()
+                                              .equals("close"))
+        {
+          closedConnections.incrementAndGet();
+        }
+        if (type == PreparedStatement.class && method.getName()
+                                                     .equals("setFetchSize"))
+        {
+          fetchSizes.add((Integer) args[0]);
+        }
+        Object result;
+        try
+        {
+          result = method.invoke(target, args);
+        }
+        catch (InvocationTargetException e)
+        {
+          throw e.getCause();
+        }
+        return result instanceof PreparedStatement statement ? recording(PreparedStatement.class, statement) : result;
+      });
+    }
+  }
+
+  @Nested
+  class TranslationSnapshotCacheTests
+  {
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationSnapshotCache snapshotCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp()
+    {
+      statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                                       .getStatistics();
+      statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should serve exact key lookups from the snapshot and swap it after an update")
+    void givenCachedLocale_whenUpdateTranslation_thenLookupServedFromUpdatedSnapshot()
+    {
+      TranslationResponse created = translationService.createTranslation(new TranslationRequest("cache.title", "en", "Title", Set.of("ui")));
+      translationService.searchByKeyAndLocale("cache.title", "en", PageRequest.of(0, 10));
+
+      translationService.updateTranslation(created.getId(), new TranslationRequest("cache.title", "en", "New title", Set.of("ui")));
+      statistics.clear();
+      Page<TranslationResponse> page = translationService.searchByKeyAndLocale("cache.title", "en", PageRequest.of(0, 10));
+
+      assertThat(page.getContent()).singleElement()
+                                   .satisfies(dto -> {
+                                     assertThat(dto.getContent()).isEqualTo("New title");
+                                     assertThat(dto.getTags()).containsExactly("ui");
+                                   });
+      assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should export from the snapshots without touching the database")
+    void givenWarmCache_whenWriteExport_thenNoStatements() throws Exception
+    {
+      translationService.createTranslation(new TranslationRequest("cache.export", "fr", "Exporter", Set.of()));
+      translationService.writeExport(new ByteArrayOutputStream());
+      statistics.clear();
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      translationService.writeExport(out);
+
+      assertThat(out.toString()).contains("\"cache.export\":\"Exporter\"");
+      assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should write an export exactly as of the version captured with its snapshots")
+    void givenCapturedCatalog_whenWriteAfterChange_thenChangeNotIncluded() throws Exception
+    {
+      translationService.createTranslation(new TranslationRequest("cache.captured", "fr", "Avant", Set.of()));
+      CatalogSnapshot catalog = translationService.getExportSnapshot();
+      translationService.createTranslation(new TranslationRequest("cache.later", "fr", "Apres", Set.of()));
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      translationService.writeExport(catalog, out);
+
+      assertThat(translationService.getExportETag(catalog)).isEqualTo("\"" + catalog.getVersion() + "\"");
+      assertThat(out.toString(StandardCharsets.UTF_8)).contains("\"cache.captured\":\"Avant\"")
+                                                      .doesNotContain("cache.later");
+    }
+
+    @Test
+    @DisplayName("Should answer a code that is not a locale without caching it")
+    void givenUnknownLocale_whenGetSnapshot_thenEmptyAndNotCached() throws Exception
+    {
+      translationService.writeExport(new ByteArrayOutputStream());
+      int cachedLocales = snapshotCache.getStats()
+                                       .getCachedLocales();
+
+      assertThat(snapshotCache.getSnapshot("zz-unknown")
+                              .size()).isZero();
+
+      assertThat(snapshotCache.getStats()
+                              .getCachedLocales()).isEqualTo(cachedLocales);
+      assertThat(snapshotCache.getLocaleCodes()).doesNotContain("zz-unknown");
+      assertThat(snapshotCache.getCatalogSnapshot()).isPresent();
+    }
+  }
+
+  @Nested
+  class TranslationBulkServiceTests
+  {
+    @Autowired
+    private TranslationBulkService translationBulkService;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Test
+    @DisplayName("Should create then update rows in bulk and report per-row outcomes")
+    void givenBulkRequests_whenUpsertTwice_thenCreateThenUpdate()
+    {
+      List<TranslationRequest> requests = List.of(new TranslationRequest("bulk.save", "en", "Save", Set.of("ui", "bulk-new")),
+                                                  new TranslationRequest("bulk.save", "fr", "Enregistrer", Set.of("ui")),
+                                                  new TranslationRequest("bulk.save", "xx", "???", Set.of()));
+
+      BulkTranslationResponse first = translationBulkService.upsert(requests);
+
+      assertThat(first.getCreated()).isEqualTo(2);
+      assertThat(first.getFailed()).isEqualTo(1);
+      assertThat(first.getResults()
+                      .get(2)
+                      .getError()).isEqualTo("Locale not found: xx");
+
+      BulkTranslationResponse second = translationBulkService.upsert(List.of(new TranslationRequest("bulk.save", "en", "Save changes", Set.of("ui"))));
+
+      assertThat(second.getResults()).singleElement()
+                                     .satisfies(row -> {
+                                       assertThat(row.getStatus()).isEqualTo(BulkRowStatus.UPDATED);
+                                       assertThat(row.getId()).isEqualTo(first.getResults()
+                                                                              .get(0)
+                                                                              .getId());
+                                     });
+      assertThat(translationService.getTranslation(second.getResults()
+                                                         .get(0)
+                                                         .getId())).satisfies(dto -> {
+        assertThat(dto.getContent()).isEqualTo("Save changes");
+        assertThat(dto.getTags()).containsExactly("ui");
+      });
+      assertThat(translationService.searchByKeyAndLocale("bulk.save", "en", PageRequest.of(0, 1))
+                                   .getContent()).singleElement()
+                                                 .extracting(TranslationResponse::getContent)
+                                                 .isEqualTo("Save changes");
+    }
+
+    @Test
+    @DisplayName("Should report an unparseable NDJSON line as a failed row and keep processing the lines after it")
+    void givenMalformedNdjsonLine_whenUpsert_thenLineFailedAndOthersWritten() throws Exception
+    {
+      String body = """
+                    {"translationKey": "bulk.ndjson.first", "localeCode": "en", "content": "First"}
+                    {"translationKey": "bulk.ndjson.broken", "localeCode": "en", "content":
+
+                    {"translationKey": "bulk.ndjson.last", "localeCode": "en", "content": "Last"}
+                    """;
+
+      BulkTranslationResponse response = translationBulkService.upsertNdjson(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+      assertThat(response.getTotal()).isEqualTo(3);
+      assertThat(response.getResults()).extracting(BulkRowResult::getIndex, BulkRowResult::getStatus)
+                                       .containsExactly(tuple(0, BulkRowStatus.CREATED),
+                                                        tuple(1, BulkRowStatus.FAILED),
+                                                        tuple(2, BulkRowStatus.CREATED));
+      assertThat(response.getResults()
+                         .get(1)
+                         .getError()).startsWith("Invalid JSON: ");
+      assertThat(translationService.searchByKeyAndLocale("bulk.ndjson.last", "en", PageRequest.of(0, 1))
+                                   .getContent()).singleElement()
+                                                 .extracting(TranslationResponse::getContent)
+                                                 .isEqualTo("Last");
+    }
+
+    @Test
+    @DisplayName("Should report a chunk failing with any exception as failed and keep the other chunks")
+    void givenChunkThrows_whenUpsert_thenChunkFailedAndOthersKept()
+    {
+      TranslationBulkRepository bulkRepository = mock(TranslationBulkRepository.class);
+      LocaleRepository localeRepository = mock(LocaleRepository.class);
+      given(localeRepository.findByCodeIn(any())).willReturn(List.of(Locale.builder()
+                                                                           .id(1L)
+                                                                           .code("en")
+                                                                           .build()));
+      given(bulkRepository.findByLocaleAndKeys(any(), any(), any())).willAnswer(invocation -> {
+        Collection<String> keys = invocation.getArgument(2);
+        return keys.stream()
+                   .collect(Collectors.toMap(key -> key, key -> new TranslationResponse(7L, key, "en", "Content", null, null, null)));
+      });
+      willAnswer(invocation -> {
+        List<TranslationRequest> rows = invocation.getArgument(1);
+        if (rows.get(0)
+                .getTranslationKey()
+                .startsWith("broken"))
+        {
+          throw new IllegalStateException("Row mapper broke");
+        }
+        return null;
+      }).given(bulkRepository)
+        .upsert(any(), any(), any(), anyLong());
+      TranslationBulkService service = new TranslationBulkService(bulkRepository,
+                                                                  localeRepository,
+                                                                  mock(ReferenceDictionary.class),
+                                                                  new ObjectMapper(),
+                                                                  mock(ApplicationEventPublisher.class),
+                                                                  new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                                                                  mock(CatalogVersionService.class),
+                                                                  2);
+
+      BulkTranslationResponse response = service.upsert(List.of(new TranslationRequest("ok.a", "en", "A", Set.of()),
+                                                                new TranslationRequest("ok.b", "en", "B", Set.of()),
+                                                                new TranslationRequest("broken.c", "en", "C", Set.of()),
+                                                                new TranslationRequest("broken.d", "en", "D", Set.of()),
+                                                                new TranslationRequest("ok.e", "en", "E", Set.of())));
+
+      assertThat(response.getCreated()).isZero();
+      assertThat(response.getUpdated()).isEqualTo(3);
+      assertThat(response.getFailed()).isEqualTo(2);
+      assertThat(response.getResults()).extracting(BulkRowResult::getStatus)
+                                       .containsExactly(BulkRowStatus.UPDATED,
+                                                        BulkRowStatus.UPDATED,
+                                                        BulkRowStatus.FAILED,
+                                                        BulkRowStatus.FAILED,
+                                                        BulkRowStatus.UPDATED);
+      assertThat(response.getResults()
+                         .get(2)
+                         .getError()).isEqualTo("Batch rolled back: Row mapper broke");
+    }
+  }
+
+  @Nested
+  class TranslationChangesTests
+  {
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationBulkService translationBulkService;
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("Should refuse changes from before a reset and serve them from the reset on")
+    void givenCatalogReset_whenGetChangesFromBefore_thenRefused()
+    {
+      long before = translationService.createTranslation(new TranslationRequest("reset.before", "en", "Before", Set.of()))
+                                      .getId();
+      long synced = catalogVersionService.current();
+      OffsetDateTime syncedOn = OffsetDateTime.now();
+      // As the DataLoader does, so the caches see the version
+      long reset = transactionTemplate.execute(status -> {
+        long version = catalogVersionService.reset();
+        eventPublisher.publishEvent(new TranslationCatalogReloadedEvent(version));
+        return version;
+      });
+      translationService.updateTranslation(before, new TranslationRequest("reset.before", "en", "After", Set.of()));
+
+      assertThatThrownBy(() -> translationService.getChangesSinceVersion(synced, "en", 100)).isInstanceOf(CatalogResetException.class);
+      assertThatThrownBy(() -> translationService.getChangesSince(syncedOn, "en", 100)).isInstanceOf(CatalogResetException.class);
+      assertThat(translationService.getChangesSinceVersion(reset, "en", 100)
+                                   .getChanged()).extracting(TranslationResponse::getContent)
+                                                 .containsExactly("After");
+      assertThat(translationService.getChangesSinceVersion(0, "en", 10_000)
+                                   .getChanged()).extracting(TranslationResponse::getTranslationKey)
+                                                 .contains("reset.before");
+    }
+
+    @Test
+    @DisplayName("Should return only writes and deletions after the given catalog version")
+    void givenCatalogVersion_whenWriteAndDelete_thenChangesContainOnlyNewerRows()
+    {
+      TranslationResponse kept = translationService.createTranslation(new TranslationRequest("sync.kept", "en", "Kept", Set.of()));
+      TranslationResponse removed = translationService.createTranslation(new TranslationRequest("sync.removed", "en", "Removed", Set.of()));
+      long since = translationService.getChangesSinceVersion(0, "en", 10_000)
+                                     .getVersion();
+
+      translationService.updateTranslation(kept.getId(), new TranslationRequest("sync.kept", "en", "Still kept", Set.of("sync")));
+      translationService.deleteTranslation(removed.getId());
+      translationBulkService.upsert(List.of(new TranslationRequest("sync.bulk", "fr", "En masse", Set.of())));
+
+      TranslationChangesResponse changes = translationService.getChangesSinceVersion(since, "en", 100);
+
+      assertThat(changes.getVersion()).isGreaterThan(since);
+      assertThat(changes.getChanged()).singleElement()
+                                      .satisfies(dto -> {
+                                        assertThat(dto.getContent()).isEqualTo("Still kept");
+                                        assertThat(dto.getTags()).containsExactly("sync");
+                                      });
+      assertThat(changes.getDeleted()).singleElement()
+                                      .satisfies(tombstone -> assertThat(tombstone.getTranslationKey()).isEqualTo("sync.removed"));
+      assertThat(translationService.getChangesSinceVersion(changes.getVersion(), null, 100)
+                                   .getChanged()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page writes and deletions through nextSince without losing or repeating a change")
+    void givenMoreChangesThanLimit_whenFollowNextSince_thenEveryChangeOnce()
+    {
+      long since = translationService.getExportVersion();
+      TranslationResponse first = translationService.createTranslation(new TranslationRequest("page.first", "fr", "Premier", Set.of()));
+      translationService.createTranslation(new TranslationRequest("page.second", "fr", "Deuxième", Set.of()));
+      translationService.createTranslation(new TranslationRequest("page.third", "fr", "Troisième", Set.of()));
+      translationService.deleteTranslation(first.getId());
+
+      TranslationChangesResponse page = translationService.getChangesSinceVersion(since, "fr", 2);
+
+      assertThat(page.isHasMore()).isTrue();
+      assertThat(page.getChanged()).extracting(TranslationResponse::getTranslationKey)
+                                   .containsExactly("page.second", "page.third");
+      assertThat(page.getDeleted()).isEmpty();
+
+      TranslationChangesResponse next = translationService.getChangesAfter(ChangesCursor.decode(page.getNextSince()), "fr", 2);
+
+      assertThat(next.isHasMore()).isFalse();
+      assertThat(next.getNextSince()).isNull();
+      assertThat(next.getChanged()).isEmpty();
+      assertThat(next.getDeleted()).singleElement()
+                                   .satisfies(tombstone -> assertThat(tombstone.getTranslationKey()).isEqualTo("page.first"));
+      assertThat(next.getVersion()).isGreaterThan(page.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should report an export version that covers every committed write")
+    void givenWrite_whenGetExportVersion_thenVersionIncludesWrite()
+    {
+      translationService.createTranslation(new TranslationRequest("sync.export", "fr", "Exporter", Set.of()));
+
+      long exportVersion = translationService.getExportVersion();
+
+      assertThat(translationService.getChangesSinceVersion(exportVersion, "fr", 100)
+                                   .getChanged()).isEmpty();
+      assertThat(translationService.getChangesSinceVersion(exportVersion - 1, "fr", 100)
+                                   .getChanged()).extracting(TranslationResponse::getTranslationKey)
+                                                 .containsExactly("sync.export");
+    }
+  }
+
+  @Nested
+  class TranslationConditionalGetTests
+  {
+    @Autowired
+    private TranslationController translationController;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp()
+    {
+      statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                                       .getStatistics();
+      statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match from the cache and a stale one with the new translation")
+    void givenETag_whenGetTranslation_thenNotModifiedUntilUpdated()
+    {
+      TranslationResponse created = translationService.createTranslation(new TranslationRequest("etag.title", "es", "Titulo", Set.of()));
+      String eTag = translationController.getTranslation(created.getId(), null)
+                                         .getHeaders()
+                                         .getETag();
+
+      statistics.clear();
+      ResponseEntity<TranslationResponse> unchanged = translationController.getTranslation(created.getId(), eTag);
+
+      assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+      assertThat(unchanged.getBody()).isNull();
+      assertThat(statistics.getPrepareStatementCount()).isZero();
+
+      translationService.updateTranslation(created.getId(), new TranslationRequest("etag.title", "es", "Título", Set.of()));
+      ResponseEntity<TranslationResponse> changed = translationController.getTranslation(created.getId(), eTag);
+
+      assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(changed.getHeaders()
+                        .getETag()).isNotEqualTo(eTag);
+      assertThat(changed.getBody()
+                        .getContent()).isEqualTo("Título");
+    }
+
+    @Test
+    @DisplayName("Should answer a matching export ETag without touching the database")
+    void givenExportETag_whenExport_thenNotModifiedUntilCatalogChanges()
+    {
+      String eTag = translationController.exportTranslations(null)
+                                         .getHeaders()
+                                         .getETag();
+
+      statistics.clear();
+      ResponseEntity<StreamingResponseBody> unchanged = translationController.exportTranslations("W/" + eTag);
+
+      assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+      assertThat(unchanged.getBody()).isNull();
+      assertThat(statistics.getPrepareStatementCount()).isZero();
+
+      translationService.createTranslation(new TranslationRequest("etag.export", "es", "Exportar", Set.of()));
+
+      assertThat(translationController.exportTranslations(eTag)
+                                      .getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+  }
+
+  @Nested
+  class TranslationLocaleExportTests
+  {
+    @Autowired
+    private TranslationController translationController;
+
+    @Autowired
+    private TranslationService translationService;
+
+    private String body(ResponseEntity<StreamingResponseBody> response) throws Exception
+    {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      response.getBody()
+              .writeTo(out);
+      return out.toString();
+    }
+
+    @Test
+    @DisplayName("Should serve the same precompressed artifact until the locale changes")
+    void givenLocale_whenExportGzip_thenArtifactReusedUntilWrite() throws Exception
+    {
+      translationService.createTranslation(new TranslationRequest("bundle.hello", "es", "Hola", Set.of()));
+
+      ResponseEntity<StreamingResponseBody> gzip = translationController.exportLocale("es", null, false, null, "br, gzip;q=0.8");
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      gzip.getBody()
+          .writeTo(compressed);
+
+      assertThat(gzip.getHeaders()
+                     .getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+      String decompressed = new String(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray())).readAllBytes());
+      assertThat(decompressed).contains("\"bundle.hello\":\"Hola\"");
+      assertThat(translationService.findLocaleExportArtifact("es")).containsSame(translationService.findLocaleExportArtifact("es")
+                                                                                                  .get());
+      assertThat(translationController.exportLocale("es", null, false, gzip.getHeaders()
+                                                                    .getETag(), "gzip")
+                                      .getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+      translationService.createTranslation(new TranslationRequest("bundle.bye", "es", "Adios", Set.of()));
+      ResponseEntity<StreamingResponseBody> plain = translationController.exportLocale("es", null, false, gzip.getHeaders()
+                                                                                                        .getETag(), null);
+
+      assertThat(plain.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(plain.getHeaders()
+                      .getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+      assertThat(body(plain)).contains("\"bundle.bye\":\"Adios\"");
+    }
+
+    @Test
+    @DisplayName("Should write the plain export byte for byte as the compressed one, with its length")
+    void givenArtifact_whenWritePlain_thenMatchesCompressed() throws Exception
+    {
+      translationService.createTranslation(new TranslationRequest("bundle.plain", "es", "Llano", Set.of()));
+      LocaleExportArtifact artifact = translationService.findLocaleExportArtifact("es")
+                                                        .orElseThrow();
+
+      ByteArrayOutputStream plain = new ByteArrayOutputStream();
+      artifact.writeJson(plain);
+
+      assertThat(plain.size()).isEqualTo(artifact.getJsonLength());
+      assertThat(plain.toByteArray()).isEqualTo(new GZIPInputStream(new ByteArrayInputStream(artifact.getGzip())).readAllBytes());
+    }
+
+    @Test
+    @DisplayName("Should export only the translations of a locale carrying the tag")
+    void givenTag_whenExportLocale_thenOnlyTaggedKeys() throws Exception
+    {
+      translationService.createTranslation(new TranslationRequest("bundle.menu", "fr", "Menu", Set.of("bundle-nav")));
+      translationService.createTranslation(new TranslationRequest("bundle.footer", "fr", "Pied", Set.of()));
+
+      assertThat(body(translationController.exportLocale("fr", "bundle-nav", false, null, null))).isEqualTo("{\"bundle.menu\":\"Menu\"}");
+    }
+  }
+
+  @Nested
+  class JwtTokenCacheTests
+  {
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private Instant now;
+    private JwtTokenCache tokenCache;
+
+    @BeforeEach
+    void setUp()
+    {
+      now = Instant.now();
+      Clock clock = new Clock()
+      {
+        @Override
+        public ZoneOffset getZone()
+        {
+          return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone)
+        {
+          return this;
+        }
+
+        @Override
+        public Instant instant()
+        {
+          return now;
+        }
+      };
+      tokenCache = new JwtTokenCache(jwtUtil, true, 2, clock);
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeated requests from the cache until it expires")
+    void givenRepeatedToken_whenAuthenticate_thenVerifiedOncePerLifetime()
+    {
+      String token = jwtUtil.generateToken("CLIENT_ABC");
+
+      assertThat(tokenCache.authenticate(token)).contains("CLIENT_ABC");
+      assertThat(tokenCache.authenticate(token)).contains("CLIENT_ABC");
+      assertThat(tokenCache.getStats()
+                           .getHits()).isEqualTo(1);
+      assertThat(tokenCache.getStats()
+                           .getMisses()).isEqualTo(1);
+
+      now = now.plus(Duration.ofHours(25));
+      tokenCache.authenticate(token);
+
+      assertThat(tokenCache.getStats()
+                           .getMisses()).isEqualTo(2);
+      assertThat(tokenCache.getStats()
+                           .getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject tampered tokens without caching them and bound the cache size")
+    void givenTamperedAndManyTokens_whenAuthenticate_thenRejectAndEvictLeastRecentlyUsed()
+    {
+      String token = jwtUtil.generateToken("CLIENT_ABC");
+      String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+      assertThat(tokenCache.authenticate(tampered)).isEmpty();
+      assertThat(tokenCache.authenticate(tampered)).isEmpty();
+      for (String client : List.of("CLIENT_A", "CLIENT_B", "CLIENT_C"))
+      {
+        tokenCache.authenticate(jwtUtil.generateToken(client));
+      }
+
+      assertThat(tokenCache.getStats()
+                           .getRejectedRequests()).isEqualTo(2);
+      assertThat(tokenCache.getStats()
+                           .getCachedTokens()).isEqualTo(2);
+      assertThat(tokenCache.getStats()
+                           .getEvictions()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class TranslationMetricsTests
+  {
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private QueryCountInspector queryCountInspector;
+
+    @Test
+    @DisplayName("Should time service calls and record export rows and bytes")
+    void givenServiceCalls_whenExport_thenTimersAndExportMetricsRecorded() throws Exception
+    {
+      translationService.createTranslation(new TranslationRequest("metrics.title", "en", "Title", Set.of()));
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      translationService.writeExport(out);
+
+      assertThat(meterRegistry.get("translation.service")
+                              .tag("method", "createTranslation")
+                              .timer()
+                              .count()).isPositive();
+      assertThat(meterRegistry.get("translation.export.size")
+                              .tag("export", "all")
+                              .summary()
+                              .totalAmount()).isGreaterThanOrEqualTo(out.size());
+      assertThat(meterRegistry.get("translation.cache.requests")
+                              .tag("result", "hit")
+                              .functionCounter()
+                              .count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should count the SQL statements issued on the current thread")
+    void givenLookup_whenInspectStatements_thenCountedPerThread()
+    {
+      TranslationResponse created = translationService.createTranslation(new TranslationRequest("metrics.body", "en", "Body", Set.of()));
+
+      queryCountInspector.reset();
+      translationService.getVersionedTranslation(created.getId());
+
+      assertThat(queryCountInspector.getCount()).isPositive();
+    }
+  }
+
+  @Nested
+  class ReferenceDictionaryTests
+  {
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Should create a translation without loading its locale or known tags")
+    void givenKnownLocaleAndTags_whenCreateTranslation_thenNoEntityLoads()
+    {
+      Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                                                  .getStatistics();
+      statistics.clear();
+
+      TranslationResponse created = translationService.createTranslation(new TranslationRequest("dictionary.save", "fr", "Enregistrer", Set.of("ui", "general")));
+
+      assertThat(created.getLocaleCode()).isEqualTo("fr");
+      assertThat(created.getTags()).containsExactlyInAnyOrder("ui", "general");
+      assertThat(statistics.getEntityStatistics(Locale.class.getName())
+                           .getLoadCount()).isZero();
+      assertThat(statistics.getEntityStatistics(Tag.class.getName())
+                           .getLoadCount()).isZero();
+      assertThat(translationService.getTranslation(created.getId())
+                                   .getTags()).containsExactlyInAnyOrder("ui", "general");
+    }
+
+    @Test
+    @DisplayName("Should create a new tag once even when inserted repeatedly")
+    void givenNewTag_whenInsertedTwice_thenSingleRowAndSharedByWriters()
+    {
+      int[] inserted = transactionTemplate.execute(status -> new int[]{tagRepository.insertIfAbsent("dictionary-new"),
+                                                                       tagRepository.insertIfAbsent("dictionary-new")});
+      assertThat(inserted).containsExactly(1, 0);
+
+      translationService.createTranslation(new TranslationRequest("dictionary.first", "en", "First", Set.of("dictionary-fresh")));
+      translationService.createTranslation(new TranslationRequest("dictionary.second", "es", "Segundo", Set.of("dictionary-fresh")));
+
+      assertThat(tagRepository.findByNameIn(List.of("dictionary-new", "dictionary-fresh"))).hasSize(2);
+      assertThat(translationService.searchByTag("dictionary-fresh", PageRequest.of(0, 10))
+                                   .getTotalElements()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class DataLoaderTests
+  {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Test
+    @DisplayName("Should seed every key once with one tag and content within the configured lengths")
+    void givenStartup_whenDataLoaded_thenKeysTaggedAndContentBounded()
+    {
+      assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT translation_key) FROM translations WHERE translation_key LIKE 'key\\_%'",
+                                             Long.class)).isEqualTo(300);
+      assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translations t JOIN translation_tags tt ON tt.translation_id = t.id "
+                                             + "WHERE t.translation_key LIKE 'key\\_%'", Long.class)).isEqualTo(300);
+      assertThat(jdbcTemplate.queryForList("SELECT content FROM translations WHERE translation_key IN ('key_1', 'key_300')", String.class))
+        .allSatisfy(content -> assertThat(content).startsWith("Sample content ")
+                                                  .hasSizeBetween(20, 200));
+    }
+
+    @Test
+    @DisplayName("Should keep allocating fresh ids to translations created after the load")
+    void givenLoadedData_whenCreateTranslation_thenIdDoesNotCollide()
+    {
+      TranslationResponse created = translationService.createTranslation(new TranslationRequest("loader.after", "en", "After", Set.of("general")));
+
+      assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translations WHERE id = ?", Long.class, created.getId())).isEqualTo(1);
+      assertThat(translationService.getTranslation(created.getId())
+                                   .getTranslationKey()).isEqualTo("loader.after");
+    }
+  }
+
+  @Nested
+  class DataLoadJobTests
+  {
+    @Autowired
+    private TranslationLoadRepository loadRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should run a load in the background, report its progress and stop it on cancellation")
+    void givenRunningJob_whenCancel_thenStopsBeforeNextChunkAndQueueIsBounded() throws Exception
+    {
+      DataLoader dataLoader = mock(DataLoader.class);
+      CountDownLatch chunkWritten = new CountDownLatch(1);
+      given(dataLoader.loadData(any())).willAnswer(invocation -> {
+        DataLoader.LoadProgress progress = invocation.getArgument(0);
+        progress.started(100);
+        progress.written(40);
+        chunkWritten.countDown();
+        while (!progress.isCancelled())
+        {
+          Thread.sleep(5);
+        }
+        throw new CancellationException("Test data load cancelled after 40 translations");
+      });
+      DataLoadJobService jobService = new DataLoadJobService(dataLoader, 1, 10);
+      try
+      {
+        DataLoadJobResponse running = jobService.submit(false);
+        DataLoadJobResponse queued = jobService.submit(true);
+        assertThatThrownBy(() -> jobService.submit(false)).isInstanceOf(DataLoadCapacityExceededException.class);
+
+        assertThat(chunkWritten.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(jobService.getJob(running.getId())).hasValueSatisfying(job -> {
+          assertThat(job.getState()).isEqualTo(DataLoadJobState.RUNNING);
+          assertThat(job.getProgressPercent()).isEqualTo(40.0);
+        });
+
+        assertThat(jobService.cancel(queued.getId())).hasValueSatisfying(job -> assertThat(job.getState()).isEqualTo(DataLoadJobState.CANCELLED));
+        jobService.cancel(running.getId());
+        awaitFinished(jobService, running.getId());
+
+        assertThat(jobService.getJob(running.getId())).hasValueSatisfying(job -> {
+          assertThat(job.getState()).isEqualTo(DataLoadJobState.CANCELLED);
+          assertThat(job.getInsertedRecords()).isEqualTo(40);
+        });
+        verify(dataLoader, never()).purge();
+        assertThat(jobService.getJob("unknown")).isEmpty();
+      }
+      finally
+      {
+        jobService.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("Should purge translations and their tag links with set-based statements")
+    void givenLoadedData_whenPurge_thenTablesEmpty()
+    {
+      long before = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translations", Long.class);
+
+      transactionTemplate.executeWithoutResult(status -> {
+        assertThat(loadRepository.purge()).isEqualTo(before);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translation_tags", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translations", Long.class)).isZero();
+        // Keep the shared catalog for the other tests
+        status.setRollbackOnly();
+      });
+    }
+
+    private void awaitFinished(DataLoadJobService jobService, String id) throws InterruptedException
+    {
+      for (int i = 0; i < 500 && jobService.getJob(id)
+                                           .orElseThrow()
+                                           .getFinishedAt() == null; i++)
+      {
+        Thread.sleep(10);
+      }
+    }
+  }
+
+  @Nested
+  class TranslationLookupTests
+  {
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationLookupService translationLookupService;
+
+    @Autowired
+    private TranslationLookupRepository lookupRepository;
+
+    @Autowired
+    private TranslationKeyFilter keyFilter;
+
+    @Autowired
+    private ReferenceDictionary referenceDictionary;
+
+    @Test
+    @DisplayName("Should resolve many keys at once, falling back along the locale chain")
+    void givenKeysAcrossLocales_whenLookup_thenResolvedInRequestOrderWithFallbacks()
+    {
+      translationService.createTranslation(new TranslationRequest("lookup.title", "en", "Title", Set.of()));
+      translationService.createTranslation(new TranslationRequest("lookup.title", "fr", "Titre", Set.of()));
+      translationService.createTranslation(new TranslationRequest("lookup.only-en", "en", "Only English", Set.of()));
+      TranslationLookupRequest request = new TranslationLookupRequest("fr", List.of("en"), List.of("lookup.only-en", "lookup.none", "lookup.title"));
+
+      TranslationLookupService databaseLookup = new TranslationLookupService(mock(TranslationSnapshotCache.class),
+                                                                             mock(ResolvedBundleCache.class),
+                                                                             referenceDictionary,
+                                                                             mock(LocaleSnapshotFileStore.class),
+                                                                             lookupRepository,
+                                                                             keyFilter);
+      for (TranslationLookupService service : List.of(translationLookupService, databaseLookup))
+      {
+        TranslationLookupResponse response = service.lookup(request);
+
+        assertThat(response.getTranslations()).containsExactly(Map.entry("lookup.only-en", "Only English"), Map.entry("lookup.title", "Titre"));
+        assertThat(response.getFallbacks()).containsExactly(Map.entry("lookup.only-en", "en"));
+        assertThat(response.getMissing()).containsExactly("lookup.none");
+      }
+    }
+
+    @Test
+    @DisplayName("Should rule out unknown keys without a query and learn keys written after the filter was built")
+    void givenKeyFilter_whenLookupUnknownAndNewKeys_thenUnknownSkippedAndNewKept()
+    {
+      translationService.createTranslation(new TranslationRequest("filter.before", "es", "Antes", Set.of()));
+      List<String> unknown = IntStream.range(0, 200)
+                                      .mapToObj(i -> "filter.unknown." + i)
+                                      .toList();
+
+      assertThat(keyFilter.mightExist("es", List.of("filter.before"))).containsExactly("filter.before");
+      // sized for a 1% false positive rate
+      assertThat(keyFilter.mightExist("es", unknown)).hasSizeLessThan(20);
+
+      translationService.createTranslation(new TranslationRequest("filter.after", "es", "Después", Set.of()));
+
+      assertThat(keyFilter.mightExist("es", List.of("filter.after"))).containsExactly("filter.after");
+    }
+  }
+
+  @Nested
+  class LocaleFallbackTests
+  {
+    @Autowired
+    private LocaleService localeService;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationController translationController;
+
+    @Autowired
+    private TranslationLookupService translationLookupService;
+
+    @Autowired
+    private ResolvedBundleCache resolvedBundleCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String body(ResponseEntity<StreamingResponseBody> response) throws Exception
+    {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      response.getBody()
+              .writeTo(out);
+      return out.toString();
+    }
+
+    private double resolvedCount(String result)
+    {
+      return meterRegistry.get("translation.cache.resolved")
+                          .tag("result", result)
+                          .functionCounter()
+                          .count();
+    }
+
+    @Test
+    @DisplayName("Should merge a locale with its fallback chain and keep the bundle current without rebuilding it")
+    void givenFallbackChain_whenAncestorsChange_thenResolvedBundlePatched() throws Exception
+    {
+      localeService.createLocale("fb-en", null);
+      localeService.createLocale("fb-fr", "fb-en");
+      localeService.createLocale("fb-fr-CA", "fb-fr");
+      translationService.createTranslation(new TranslationRequest("fb.title", "fb-en", "Title", Set.of()));
+      translationService.createTranslation(new TranslationRequest("fb.title", "fb-fr", "Titre", Set.of()));
+      translationService.createTranslation(new TranslationRequest("fb.cancel", "fb-en", "Cancel", Set.of()));
+      TranslationResponse canadian = translationService.createTranslation(new TranslationRequest("fb.cart", "fb-fr-CA", "Panier", Set.of()));
+      translationService.createTranslation(new TranslationRequest("fb.cart", "fb-fr", "Chariot", Set.of()));
+
+      assertThat(body(translationController.exportLocale("fb-fr-CA", null, true, null, null)))
+        .isEqualTo("{\"fb.cancel\":\"Cancel\",\"fb.cart\":\"Panier\",\"fb.title\":\"Titre\"}");
+      double rebuilds = resolvedCount("rebuild");
+
+      translationService.createTranslation(new TranslationRequest("fb.save", "fb-en", "Save", Set.of()));
+      translationService.deleteTranslation(canadian.getId());
+      TranslationLookupResponse response = translationLookupService.lookup(new TranslationLookupRequest("fb-fr-CA",
+                                                                                                          null,
+                                                                                                          List.of("fb.cart", "fb.save", "fb.none")));
+
+      assertThat(response.getTranslations()).containsExactly(Map.entry("fb.cart", "Chariot"), Map.entry("fb.save", "Save"));
+      assertThat(response.getFallbacks()).containsOnly(Map.entry("fb.cart", "fb-fr"), Map.entry("fb.save", "fb-en"));
+      assertThat(response.getMissing()).containsExactly("fb.none");
+      assertThat(resolvedCount("rebuild")).isEqualTo(rebuilds);
+    }
+
+    @Test
+    @DisplayName("Should patch a bundle without changing the instances already handed out")
+    void givenBundle_whenAncestorChanges_thenEarlierInstanceUnchanged()
+    {
+      localeService.createLocale("pb-en", null);
+      localeService.createLocale("pb-de", "pb-en");
+      TranslationResponse greeting = translationService.createTranslation(new TranslationRequest("pb.hello", "pb-en", "Hello", Set.of()));
+      ResolvedBundle before = resolvedBundleCache.get("pb-de");
+
+      translationService.createTranslation(new TranslationRequest("pb.bye", "pb-en", "Bye", Set.of()));
+      translationService.deleteTranslation(greeting.getId());
+      ResolvedBundle after = resolvedBundleCache.get("pb-de");
+
+      assertThat(before.values()).extracting(resolved -> resolved.getTranslation()
+                                                                 .getTranslationKey())
+                                 .containsExactly("pb.hello");
+      assertThat(after.values()).extracting(resolved -> resolved.getTranslation()
+                                                                .getTranslationKey())
+                                .containsExactly("pb.bye");
+      assertThat(after.get("pb.hello")).isEmpty();
+      assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+      assertThat(after.changedKeys()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject a parent that falls back to the locale itself")
+    void givenChain_whenParentWouldFormCycle_thenRejected()
+    {
+      LocaleDto root = localeService.createLocale("cy-root", null);
+      localeService.createLocale("cy-leaf", "cy-root");
+
+      assertThatThrownBy(() -> localeService.setParent(root.getId(), "cy-leaf")).isInstanceOf(IllegalArgumentException.class);
+      assertThat(localeService.setParent(root.getId(), null)
+                              .getParentCode()).isNull();
+    }
+  }
+
+  @Nested
+  class LocaleSnapshotFileTests
+  {
+    @Autowired
+    private TranslationRepository translationRepository;
+
+    @Autowired
+    private TranslationTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TranslationTagLoader tagLoader;
+
+    @Autowired
+    private ReferenceDictionary referenceDictionary;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LocaleService localeService;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @TempDir
+    private Path directory;
+
+    private LocaleSnapshotFileStore openStore()
+    {
+      return new LocaleSnapshotFileStore(translationRepository,
+                                         tombstoneRepository,
+                                         tagLoader,
+                                         referenceDictionary,
+                                         objectMapper,
+                                         transactionManager,
+                                         true,
+                                         directory.toString());
+    }
+
+    @Test
+    @DisplayName("Should serve lookups and exports from a mapped file and reuse the file after a restart")
+    void givenSnapshotFile_whenStoreReopened_thenServedFromExistingFile() throws Exception
+    {
+      localeService.createLocale("sf", null);
+      TranslationResponse title = translationService.createTranslation(new TranslationRequest("sf.title", "sf", "Título \"grande\"", Set.of("sf-ui", "sf-nav")));
+      translationService.createTranslation(new TranslationRequest("sf.body", "sf", "Cuerpo", Set.of()));
+      LocaleSnapshotFileStore store = openStore();
+
+      CachedTranslation cached = store.get("sf")
+                                      .get("sf.title")
+                                      .orElseThrow();
+      ByteArrayOutputStream tagged = new ByteArrayOutputStream();
+
+      assertThat(cached.getId()).isEqualTo(title.getId());
+      assertThat(cached.getContent()).isEqualTo("Título \"grande\"");
+      assertThat(cached.getTags()).containsExactlyInAnyOrder("sf-ui", "sf-nav");
+      assertThat(cached.getUpdatedOn()).isNotNull();
+      assertThat(store.get("sf")
+                      .get("sf.none")).isEmpty();
+      assertThat(store.write("sf", "sf-nav", tagged)).isEqualTo(1);
+      assertThat(tagged.toString(StandardCharsets.UTF_8)).isEqualTo("{\"sf.title\":\"Título \\\"grande\\\"\"}");
+      assertThat(store.get("sf-missing")
+                      .size()).isZero();
+
+      Path file = directory.resolve("sf.snapshot");
+      FileTime written = Files.getLastModifiedTime(file);
+      LocaleSnapshotFileStore restarted = openStore();
+      restarted.openExisting();
+
+      assertThat(restarted.get("sf")
+                          .get("sf.body")).map(CachedTranslation::getContent)
+                                          .contains("Cuerpo");
+      assertThat(restarted.get("sf")
+                          .getVersion()).isEqualTo(store.get("sf")
+                                                        .getVersion());
+      assertThat(Files.getLastModifiedTime(file)).isEqualTo(written);
+
+      TranslationResponse footer = translationService.createTranslation(new TranslationRequest("sf.footer", "sf", "Pie", Set.of()));
+      restarted.onTranslationChanged(new TranslationChangedEvent(null, null, footer, 0));
+
+      // The previous file is served while its replacement is written
+      assertThat(restarted.get("sf")
+                          .get("sf.footer")).isEmpty();
+      assertThat(restarted.refresh("sf")
+                          .get(10, TimeUnit.SECONDS)
+                          .get("sf.footer")).isPresent();
+      assertThat(restarted.get("sf")
+                          .get("sf.footer")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should unmap and delete a snapshot file left for a locale that no longer exists")
+    void givenFileOfRemovedLocale_whenRefreshed_thenUnmappedAndDeleted() throws Exception
+    {
+      localeService.createLocale("sg", null);
+      translationService.createTranslation(new TranslationRequest("sg.title", "sg", "Title", Set.of()));
+      openStore().get("sg");
+      Path orphan = directory.resolve("sg-gone.snapshot");
+      Files.copy(directory.resolve("sg.snapshot"), orphan);
+
+      LocaleSnapshotFileStore restarted = openStore();
+      restarted.openExisting();
+
+      assertThat(restarted.refresh("sg-gone")
+                          .get(10, TimeUnit.SECONDS)
+                          .size()).isZero();
+      assertThat(restarted.get("sg-gone")
+                          .get("sg.title")).isEmpty();
+      assertThat(orphan).doesNotExist();
+      assertThat(restarted.get("sg")
+                          .get("sg.title")).isPresent();
+    }
+  }
+
+  @Nested
+  class KeyDictionaryTests
+  {
+    private CachedTranslation translation(long id, String key, String content, String... tags)
+    {
+      OffsetDateTime createdOn = OffsetDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_789, ZoneOffset.ofHours(2));
+      return new CachedTranslation(id, key, content, Set.of(tags), createdOn, null);
+    }
+
+    @Test
+    @DisplayName("Should share key ids across locale snapshots and keep entries in key order through changes")
+    void givenSnapshots_whenChanged_thenKeysSharedAndOrdered()
+    {
+      TranslationKeyDictionary dictionary = new TranslationKeyDictionary();
+      LocaleSnapshot english = LocaleSnapshot.of("en",
+                                                 dictionary,
+                                                 List.of(translation(1, "kd.b", "B"), translation(2, "kd.a", "A", "ui"), translation(3, "kd.b", "B2")));
+      LocaleSnapshot french = LocaleSnapshot.of("fr", dictionary, List.of(translation(4, "kd.a", "A-fr", "ui")));
+
+      LocaleSnapshot changed = english.withAll(List.of(translation(5, "kd.c", "C"), translation(6, "kd.a", "A2", "ui")))
+                                      .without("kd.b");
+
+      assertThat(dictionary.size()).isEqualTo(3);
+      assertThat(english.values()).extracting(CachedTranslation::getTranslationKey, CachedTranslation::getContent)
+                                  .containsExactly(tuple("kd.a", "A"), tuple("kd.b", "B2"));
+      assertThat(changed.values()).extracting(CachedTranslation::getTranslationKey, CachedTranslation::getContent)
+                                  .containsExactly(tuple("kd.a", "A2"), tuple("kd.c", "C"));
+      assertThat(french.get("kd.a")
+                       .orElseThrow()
+                       .getTranslationKey()).isSameAs(english.get("kd.a")
+                                                             .orElseThrow()
+                                                             .getTranslationKey());
+      assertThat(french.get("kd.a")
+                       .orElseThrow()
+                       .getTags()).isSameAs(english.get("kd.a")
+                                                   .orElseThrow()
+                                                   .getTags());
+      assertThat(french.get("kd.b")).isEmpty();
+      assertThat(english.get("kd.none")).isEmpty();
+      assertThat(english.without("kd.none")).isSameAs(english);
+    }
+
+    @Test
+    @DisplayName("Should restore ids, tags and timestamps of entries read from a snapshot")
+    void givenSnapshot_whenEntryRead_thenFieldsRestored()
+    {
+      CachedTranslation stored = translation(7, "kd.title", "Title", "ui", "nav");
+
+      CachedTranslation read = LocaleSnapshot.of("en", new TranslationKeyDictionary(), List.of(stored))
+                                             .get("kd.title")
+                                             .orElseThrow();
+
+      assertThat(read.getId()).isEqualTo(7L);
+      assertThat(read.getContent()).isEqualTo("Title");
+      assertThat(read.getTags()).containsExactlyInAnyOrder("ui", "nav");
+      assertThat(read.getCreatedOn()).isEqualTo(stored.getCreatedOn());
+      assertThat(read.getCreatedOn()
+                     .getOffset()).isEqualTo(ZoneOffset.ofHours(2));
+      assertThat(read.getUpdatedOn()).isNull();
+    }
   }
 }
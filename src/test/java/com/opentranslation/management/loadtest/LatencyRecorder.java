@@ -0,0 +1,74 @@
+package com.opentranslation.management.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects request latencies of one endpoint and summarizes them as percentiles.
+ */
+class LatencyRecorder
+{
+
+  private long[] latencies = new long[1024];
+  private int count;
+  private int errors;
+
+  synchronized void record(long nanos, boolean success)
+  {
+    if (count == latencies.length)
+    {
+      latencies = Arrays.copyOf(latencies, count * 2);
+    }
+    latencies[count++] = nanos;
+    if (!success)
+    {
+      errors++;
+    }
+  }
+
+  synchronized int getCount()
+  {
+    return count;
+  }
+
+  synchronized int getErrors()
+  {
+    return errors;
+  }
+
+  /**
+   * Nearest-rank percentile in milliseconds.
+   */
+  private static double percentileMs(long[] sorted, double percentile)
+  {
+    if (sorted.length == 0)
+    {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+    return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+  }
+
+  /**
+   * Summary of the recorded requests; throughput is relative to the wall-clock duration of the run.
+   */
+  synchronized Map<String, Object> summarize(long elapsedNanos)
+  {
+    long[] sorted = Arrays.copyOf(latencies, count);
+    Arrays.sort(sorted);
+
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("requests", count);
+    summary.put("errors", errors);
+    summary.put("throughputPerSecond", elapsedNanos == 0 ? 0 : count * 1_000_000_000.0 / elapsedNanos);
+    summary.put("meanMs", count == 0 ? 0 : Arrays.stream(sorted)
+                                                 .average()
+                                                 .orElse(0) / 1_000_000.0);
+    summary.put("p50Ms", percentileMs(sorted, 50));
+    summary.put("p95Ms", percentileMs(sorted, 95));
+    summary.put("p99Ms", percentileMs(sorted, 99));
+    summary.put("maxMs", count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+    return summary;
+  }
+}
@@ -0,0 +1,340 @@
+package com.opentranslation.management.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * End-to-end load harness for the translation endpoints.
+ * <p>
+ * Starts the application on a random port against its own embedded H2 database (PostgreSQL mode), seeded by the {@code DataLoader}, and replays a weighted mix
+ * of search, export, create, update and batch lookup calls over real HTTP from virtual threads. Latency percentiles and throughput per endpoint are written as JSON to
+ * {@code loadtest.report}. Skipped unless {@code loadtest.enabled=true}:
+ * </p>
+ * <pre>
+ * ./mvnw test -Dtest=TranslationLoadTest -Dloadtest.enabled=true -Dloadtest.records=100000 -Dloadtest.requests=20000
+ * </pre>
+ * <p>
+ * With {@code loadtest.enforce=true} the run fails when the p95 latency of an endpoint exceeds the README targets: {@code loadtest.max-p95-ms} (200 ms) for
+ * standard requests and {@code loadtest.max-export-p95-ms} (500 ms) for exports.
+ * </p>
+ * <p>
+ * Application properties are taken from system properties as well, so the same mix can be compared between thread models, e.g. by adding
+ * {@code -Dspring.threads.virtual.enabled=true} or {@code -Dapp.cache.enabled=false}; the report records the mode it ran in.
+ * </p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+class TranslationLoadTest
+{
+
+  private static final String[] LOCALES = {"en", "fr", "es"};
+  private static final String[] TAGS = {"general", "ui", "error"};
+
+  private final int records = Integer.getInteger("loadtest.records", 10_000);
+  private final int requests = Integer.getInteger("loadtest.requests", 5_000);
+  private final int warmupRequests = Integer.getInteger("loadtest.warmup-requests", 500);
+  private final int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+  private final String mix = System.getProperty("loadtest.mix", "search-key:40,search-content:15,search-tag:15,export:5,create:10,update:15");
+  private final Path reportPath = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+  private final boolean enforce = Boolean.getBoolean("loadtest.enforce");
+  private final long maxP95Ms = Long.getLong("loadtest.max-p95-ms", 200);
+  private final long maxExportP95Ms = Long.getLong("loadtest.max-export-p95-ms", 500);
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private Environment environment;
+
+  private HttpClient client;
+  private String token;
+  private final List<long[]> updatable = new ArrayList<>();
+
+  @DynamicPropertySource
+  static void loadTestProperties(DynamicPropertyRegistry registry)
+  {
+    // A database of its own, so the seeded catalog is not shared with other test contexts
+    registry.add("spring.datasource.url",
+                 () -> "jdbc:h2:mem:translation_loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+    registry.add("app.test-data.records", () -> Integer.getInteger("loadtest.records", 10_000));
+    registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> false);
+  }
+
+  @Test
+  @DisplayName("Replay the request mix and report latency percentiles per endpoint")
+  void replayRequestMix() throws Exception
+  {
+    Map<String, Integer> weights = parseMix(mix);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+    {
+      client = HttpClient.newBuilder()
+                         .executor(executor)
+                         .version(HttpClient.Version.HTTP_1_1)
+                         .connectTimeout(Duration.ofSeconds(10))
+                         .build();
+      token = fetchToken();
+      seedUpdatableTranslations();
+
+      run(weights, warmupRequests, executor, new LinkedHashMap<>());
+
+      Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+      weights.keySet()
+             .forEach(endpoint -> recorders.put(endpoint, new LatencyRecorder()));
+      long started = System.nanoTime();
+      run(weights, requests, executor, recorders);
+      long elapsed = System.nanoTime() - started;
+
+      Map<String, Object> report = writeReport(recorders, elapsed);
+      System.out.println(objectMapper.writerWithDefaultPrettyPrinter()
+                                     .writeValueAsString(report));
+
+      recorders.forEach((endpoint, recorder) -> {
+        assertThat(recorder.getErrors()).as("errors of %s", endpoint)
+                                        .isZero();
+        if (enforce)
+        {
+          double p95 = (double) ((Map<?, ?>) ((Map<?, ?>) report.get("endpoints")).get(endpoint)).get("p95Ms");
+          assertThat(p95).as("p95 of %s", endpoint)
+                         .isLessThanOrEqualTo(endpoint.equals("export") ? maxExportP95Ms : maxP95Ms);
+        }
+      });
+    }
+  }
+
+  /**
+   * Issue {@code total} requests from {@link #concurrency} virtual threads, each picking an endpoint by weight.
+   */
+  private void run(Map<String, Integer> weights, int total, ExecutorService executor, Map<String, LatencyRecorder> recorders) throws Exception
+  {
+    int weightSum = weights.values()
+                           .stream()
+                           .mapToInt(Integer::intValue)
+                           .sum();
+    AtomicInteger remaining = new AtomicInteger(total);
+    List<Future<?>> workers = new ArrayList<>();
+    for (int i = 0; i < concurrency; i++)
+    {
+      workers.add(executor.submit(() -> {
+        while (remaining.getAndDecrement() > 0)
+        {
+          String endpoint = pick(weights, weightSum);
+          long started = System.nanoTime();
+          boolean success;
+          try
+          {
+            success = call(endpoint);
+          }
+          catch (IOException e)
+          {
+            success = false;
+          }
+          LatencyRecorder recorder = recorders.get(endpoint);
+          if (recorder != null)
+          {
+            recorder.record(System.nanoTime() - started, success);
+          }
+        }
+        return null;
+      }));
+    }
+    for (Future<?> worker : workers)
+    {
+      worker.get();
+    }
+  }
+
+  private boolean call(String endpoint) throws IOException, InterruptedException
+  {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    String locale = LOCALES[random.nextInt(LOCALES.length)];
+    return switch (endpoint)
+    {
+      case "search-key" -> get("/api/translations/search?key=key_" + (random.nextInt(records) + 1) + "&locale=" + locale);
+      case "search-content" -> get("/api/translations/search?size=50&content=" + encode("content " + random.nextInt(1, 10_000)));
+      case "search-tag" -> get("/api/translations/search?paging=cursor&size=50&tag=" + TAGS[random.nextInt(TAGS.length)]);
+      case "export" -> get("/api/translations/export");
+      case "create" -> send("POST", "/api/translations", body("load_" + random.nextLong(Long.MAX_VALUE), locale, "Created")) != null;
+      case "update" -> update(random);
+      case "lookup" -> send("POST", "/api/translations/lookup", lookupBody(random, locale)) != null;
+      default -> throw new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + endpoint);
+    };
+  }
+
+  /**
+   * A page worth of keys: 300 random seeded keys, a tenth of which do not exist, resolved in the given locale with English as fallback.
+   */
+  private String lookupBody(ThreadLocalRandom random, String locale) throws IOException
+  {
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 300; i++)
+    {
+      keys.add(i % 10 == 0 ? "missing_" + random.nextInt() : "key_" + (random.nextInt(records) + 1));
+    }
+    return objectMapper.writeValueAsString(Map.of("localeCode", locale, "fallbackLocaleCodes", List.of("en"), "keys", keys));
+  }
+
+  private boolean update(ThreadLocalRandom random) throws IOException, InterruptedException
+  {
+    long[] target;
+    synchronized (updatable)
+    {
+      target = updatable.get(random.nextInt(updatable.size()));
+    }
+    String key = "load_update_" + target[1];
+    return send("PUT", "/api/translations/" + target[0], body(key, LOCALES[(int) target[1] % LOCALES.length], "Updated " + random.nextInt())) != null;
+  }
+
+  /**
+   * Create the translations that update requests rewrite, remembering their id and sequence number.
+   */
+  private void seedUpdatableTranslations() throws IOException, InterruptedException
+  {
+    for (int i = 0; i < 100; i++)
+    {
+      JsonNode created = send("POST", "/api/translations", body("load_update_" + i, LOCALES[i % LOCALES.length], "Initial"));
+      assertThat(created).as("seed translation %s", i)
+                         .isNotNull();
+      updatable.add(new long[]{created.get("id")
+                                      .asLong(), i});
+    }
+  }
+
+  private String fetchToken() throws IOException, InterruptedException
+  {
+    HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/auth/token?clientCode=CLIENT_ABC"))
+                                                           .POST(HttpRequest.BodyPublishers.noBody())
+                                                           .build(), HttpResponse.BodyHandlers.ofString());
+    assertThat(response.statusCode()).isEqualTo(200);
+    return objectMapper.readTree(response.body())
+                       .get("token")
+                       .asText();
+  }
+
+  private boolean get(String path) throws IOException, InterruptedException
+  {
+    HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri(path))
+                                                         .header("Authorization", "Bearer " + token)
+                                                         .GET()
+                                                         .build(), HttpResponse.BodyHandlers.discarding());
+    return response.statusCode() / 100 == 2;
+  }
+
+  private JsonNode send(String method, String path, String json) throws IOException, InterruptedException
+  {
+    HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path))
+                                                           .header("Authorization", "Bearer " + token)
+                                                           .header("Content-Type", "application/json")
+                                                           .method(method, HttpRequest.BodyPublishers.ofString(json))
+                                                           .build(), HttpResponse.BodyHandlers.ofString());
+    return response.statusCode() / 100 == 2 ? objectMapper.readTree(response.body()) : null;
+  }
+
+  private String body(String key, String locale, String content) throws IOException
+  {
+    return objectMapper.writeValueAsString(Map.of("translationKey", key, "localeCode", locale, "content", content, "tags", List.of("load")));
+  }
+
+  private Map<String, Object> writeReport(Map<String, LatencyRecorder> recorders, long elapsedNanos) throws IOException
+  {
+    Map<String, Object> config = new LinkedHashMap<>();
+    config.put("records", records);
+    config.put("requests", requests);
+    config.put("warmupRequests", warmupRequests);
+    config.put("concurrency", concurrency);
+    config.put("mix", mix);
+    config.put("virtualThreads", environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+    config.put("cacheEnabled", environment.getProperty("app.cache.enabled", Boolean.class, true));
+    config.put("dbPoolSize", environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+
+    Map<String, Object> endpoints = new LinkedHashMap<>();
+    recorders.forEach((endpoint, recorder) -> endpoints.put(endpoint, recorder.summarize(elapsedNanos)));
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("config", config);
+    report.put("elapsedMs", elapsedNanos / 1_000_000);
+    report.put("throughputPerSecond", requests * 1_000_000_000.0 / elapsedNanos);
+    report.put("endpoints", endpoints);
+
+    if (reportPath.getParent() != null)
+    {
+      Files.createDirectories(reportPath.getParent());
+    }
+    objectMapper.writer()
+                .with(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportPath.toFile(), report);
+    return report;
+  }
+
+  private static Map<String, Integer> parseMix(String mix)
+  {
+    Map<String, Integer> weights = new LinkedHashMap<>();
+    for (String entry : mix.split(","))
+    {
+      String[] parts = entry.trim()
+                            .split(":");
+      weights.put(parts[0], Integer.parseInt(parts[1]));
+    }
+    return weights;
+  }
+
+  private static String pick(Map<String, Integer> weights, int weightSum)
+  {
+    int roll = ThreadLocalRandom.current()
+                                .nextInt(weightSum);
+    for (Map.Entry<String, Integer> weight : weights.entrySet())
+    {
+      roll -= weight.getValue();
+      if (roll < 0)
+      {
+        return weight.getKey();
+      }
+    }
+    throw new IllegalStateException("Weights do not add up");
+  }
+
+  private static String encode(String value)
+  {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+
+  private URI uri(String path)
+  {
+    return URI.create("http://localhost:" + port + path);
+  }
+}
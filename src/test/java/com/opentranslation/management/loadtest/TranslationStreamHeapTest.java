@@ -0,0 +1,143 @@
+package com.opentranslation.management.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.opentranslation.management.dto.LocaleDto;
+import com.opentranslation.management.repository.TranslationRepository;
+import com.opentranslation.management.service.LocaleService;
+
+/**
+ * Streams millions of rows through the {@code TranslationRepository} cursors and checks that the heap does not grow with the result.
+ * <p>
+ * Runs against its own file-based H2 database, so the table lives on disk and the heap holds only what the stream does. The row count is set with
+ * {@code -Dstream.rows}; materialized as DTOs the default two million rows would take several hundred MB. Like the other load tests it is skipped unless
+ * {@code loadtest.enabled=true}.
+ * </p>
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+class TranslationStreamHeapTest
+{
+
+  private static final int ROWS = Integer.getInteger("stream.rows", 2_000_000);
+  private static final int INSERT_CHUNK = 100_000;
+  private static final long MAX_HEAP_GROWTH = 64L << 20;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TranslationRepository translationRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private LocaleService localeService;
+
+  private LocaleDto locale;
+
+  @DynamicPropertySource
+  static void streamTestProperties(DynamicPropertyRegistry registry)
+  {
+    registry.add("spring.datasource.url",
+                 () -> "jdbc:h2:file:./target/stream-test/translation_db;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+    registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> false);
+  }
+
+  @BeforeEach
+  void insertRows()
+  {
+    locale = localeService.createLocale("stream", null);
+    for (int from = 1; from <= ROWS; from += INSERT_CHUNK)
+    {
+      // Ids far above the sequence, so they never collide with rows created through the API
+      jdbcTemplate.update("INSERT INTO translations (id, translation_key, locale_id, content, created_on, updated_on, catalog_version) "
+                          + "SELECT 1000000000 + r.\"X\", 'stream.' || LPAD(CAST(r.\"X\" AS VARCHAR), 8, '0'), ?, 'Streamed content number ' || r.\"X\", "
+                          + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, r.\"X\" FROM SYSTEM_RANGE(?, ?) r",
+                          locale.getId(),
+                          from,
+                          Math.min(from + INSERT_CHUNK - 1, ROWS));
+    }
+  }
+
+  @AfterEach
+  void deleteRows()
+  {
+    jdbcTemplate.update("DELETE FROM translations WHERE locale_id = ?", locale.getId());
+  }
+
+  @Test
+  @DisplayName("Should stream millions of rows of a locale and of a delta with bounded heap")
+  void givenMillionsOfRows_whenStreamed_thenHeapStaysBounded()
+  {
+    long baseline = usedHeap();
+    HeapSampler byLocale = new HeapSampler(baseline);
+    HeapSampler changed = new HeapSampler(baseline);
+
+    stream(() -> translationRepository.streamTranslationsByLocale("stream"), byLocale);
+    stream(() -> translationRepository.streamChangedAfter(ROWS / 2, Long.MAX_VALUE, "stream"), changed);
+
+    assertThat(byLocale.rows).isEqualTo(ROWS);
+    assertThat(changed.rows).isEqualTo(ROWS - ROWS / 2);
+    assertThat(Math.max(byLocale.peak, changed.peak)).isLessThan(MAX_HEAP_GROWTH);
+  }
+
+  private <T> void stream(Supplier<Stream<T>> query, HeapSampler sampler)
+  {
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    readOnly.executeWithoutResult(status -> {
+      try (Stream<T> stream = query.get())
+      {
+        stream.forEach(sampler::accept);
+      }
+    });
+  }
+
+  private static long usedHeap()
+  {
+    System.gc();
+    Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /**
+   * Counts streamed rows and records the largest heap growth over the baseline, sampled after a collection every 250,000 rows.
+   */
+  private static class HeapSampler
+  {
+    private final long baseline;
+    private long rows;
+    private long peak;
+
+    private HeapSampler(long baseline)
+    {
+      this.baseline = baseline;
+    }
+
+    private void accept(Object row)
+    {
+      if (++rows % 250_000 == 0)
+      {
+        peak = Math.max(peak, usedHeap() - baseline);
+      }
+    }
+  }
+}